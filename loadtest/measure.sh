@@ -0,0 +1,27 @@
+#!/usr/bin/env bash
+# Executa loadtest/party-interactions.js contra a instância em BASE_URL e grava em loadtest/results/<rótulo>:
+# resumo do k6 (summary.json) e deltas de CPU e alocação lidos de /actuator/prometheus (metrics.txt).
+# Uso: loadtest/measure.sh before   (SPRING_PROFILES_ACTIVE=dev)
+#      loadtest/measure.sh after    (SPRING_PROFILES_ACTIVE=prod)
+set -euo pipefail
+
+LABEL=${1:?"uso: $0 <rótulo>"}
+BASE_URL=${BASE_URL:-http://localhost:8082}
+OUT="$(dirname "$0")/results/$LABEL"
+mkdir -p "$OUT"
+
+scrape() {
+  curl -sf "$BASE_URL/actuator/prometheus" \
+    | awk '/^(process_cpu_time_ns_total|jvm_gc_memory_allocated_bytes_total)[ {]/ { v[$1] += $NF } END { for (k in v) printf "%s %.0f\n", k, v[k] }' \
+    | sort
+}
+
+scrape > "$OUT/before.prom"
+k6 run -e BASE_URL="$BASE_URL" -e RATE="${RATE:-500}" -e DURATION="${DURATION:-2m}" \
+  --summary-export "$OUT/summary.json" "$(dirname "$0")/party-interactions.js"
+scrape > "$OUT/after.prom"
+
+join "$OUT/before.prom" "$OUT/after.prom" | awk '{ printf "%s %.0f\n", $1, $3 - $2 }' > "$OUT/metrics.txt"
+jq -r '.metrics.http_req_duration | "http_req_duration p50=\(.["p(50)"]) p95=\(.["p(95)"]) p99=\(.["p(99)"])"' \
+  "$OUT/summary.json" >> "$OUT/metrics.txt"
+cat "$OUT/metrics.txt"
@@ -0,0 +1,44 @@
+// Carga mista de leitura/escrita para comparar configurações (ex.: perfil padrão x prod).
+// Uso: k6 run -e BASE_URL=http://localhost:8082 loadtest/party-interactions.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8082';
+const API = `${BASE_URL}/tmf-api/partyInteractionManagement/v4`;
+const PARTIES = 1000;
+
+export const options = {
+  scenarios: {
+    mixed: {
+      executor: 'constant-arrival-rate',
+      rate: Number(__ENV.RATE || 500),
+      timeUnit: '1s',
+      duration: __ENV.DURATION || '2m',
+      preAllocatedVUs: 100,
+      maxVUs: 400,
+    },
+  },
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+const headers = { 'Content-Type': 'application/json' };
+
+export default function () {
+  const partyId = `party-${Math.floor(Math.random() * PARTIES)}`;
+  const roll = Math.random();
+  let res;
+  if (roll < 0.2) {
+    res = http.post(`${API}/partyInteraction`, JSON.stringify({
+      subject: 'load test',
+      channel: 'PHONE',
+      direction: 'INBOUND',
+    }), { headers, tags: { name: 'create' } });
+  } else if (roll < 0.6) {
+    res = http.get(`${API}/partyInteraction/party/${partyId}/active`, { tags: { name: 'active' } });
+  } else if (roll < 0.8) {
+    res = http.get(`${API}/partyInteraction/party/${partyId}/count`, { tags: { name: 'count' } });
+  } else {
+    res = http.get(`${API}/partyInteraction?limit=50`, { tags: { name: 'list' } });
+  }
+  check(res, { 'status < 500': (r) => r.status < 500 });
+}
@@ -0,0 +1,15 @@
+-- Redo e idas ao banco acumuladas pelas sessões do serviço (usuário do pool).
+-- Rodar antes e depois do loadtest/status-changes.js; a diferença dividida pelo número de
+-- trocas (linhas novas em PARTY_INTERACTION_STATUS_HISTORY) dá o custo por troca de status.
+-- O pool precisa manter as mesmas sessões durante a medição (minimum-idle = maximum-pool-size).
+-- Uso: sqlplus system@//localhost:1521/xe @loadtest/session-stats.sql CRM_USER
+SELECT n.name, SUM(s.value) AS value
+  FROM v$sesstat s
+  JOIN v$statname n ON n.statistic# = s.statistic#
+  JOIN v$session se ON se.sid = s.sid
+ WHERE se.username = UPPER('&1')
+   AND n.name IN ('redo size', 'SQL*Net roundtrips to/from client', 'user commits', 'execute count')
+ GROUP BY n.name
+ ORDER BY n.name;
+
+SELECT COUNT(*) AS status_changes FROM PARTY_INTERACTION_STATUS_HISTORY;
@@ -0,0 +1,49 @@
+// Trocas de status em interações existentes, para medir redo e idas ao banco por troca
+// junto com loadtest/session-stats.sql.
+// Uso: k6 run -e BASE_URL=http://localhost:8082 -e RATE=200 loadtest/status-changes.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8082';
+const API = `${BASE_URL}/tmf-api/partyInteractionManagement/v4`;
+const INTERACTIONS = Number(__ENV.INTERACTIONS || 500);
+const STATUSES = ['initiated', 'active', 'held'];
+
+export const options = {
+  scenarios: {
+    status: {
+      executor: 'constant-arrival-rate',
+      rate: Number(__ENV.RATE || 200),
+      timeUnit: '1s',
+      duration: __ENV.DURATION || '2m',
+      preAllocatedVUs: 50,
+      maxVUs: 200,
+    },
+  },
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+const headers = { 'Content-Type': 'application/json' };
+
+export function setup() {
+  const ids = [];
+  for (let i = 0; i < INTERACTIONS; i++) {
+    const res = http.post(`${API}/partyInteraction`, JSON.stringify({
+      subject: 'status load test',
+      channel: 'PHONE',
+      direction: 'INBOUND',
+    }), { headers });
+    if (!check(res, { 'setup create 201': (r) => r.status === 201 })) {
+      throw new Error(`POST /partyInteraction falhou no setup: ${res.status} ${res.body}`);
+    }
+    ids.push(res.json('id'));
+  }
+  return { ids };
+}
+
+export default function (data) {
+  const id = data.ids[Math.floor(Math.random() * data.ids.length)];
+  const status = STATUSES[Math.floor(Math.random() * STATUSES.length)];
+  const res = http.patch(`${API}/partyInteraction/${id}/status?status=${status}`, null, { tags: { name: 'status' } });
+  check(res, { 'status 200/409': (r) => r.status === 200 || r.status === 409 });
+}
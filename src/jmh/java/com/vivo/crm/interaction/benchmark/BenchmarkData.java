@@ -0,0 +1,81 @@
+package com.vivo.crm.interaction.benchmark;
+
+import com.vivo.crm.interaction.domain.entity.PartyInteraction;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * BenchmarkData - Massa de dados com formato e tamanho próximos ao de produção
+ */
+final class BenchmarkData {
+
+    static final String[] CHANNELS = {"phone", "email", "chat", "web", "whatsapp"};
+    static final String[] STATUSES = {"initiated", "active", "suspended", "completed", "cancelled"};
+
+    private BenchmarkData() {
+    }
+
+    static Map<String, Object> contextData(int seed) {
+        Map<String, Object> context = new LinkedHashMap<>();
+        context.put("campaignId", "CMP-" + (seed % 97));
+        context.put("ivrPath", "MENU>FATURA>SEGUNDA_VIA");
+        context.put("queue", "suporte-nivel-" + (seed % 3 + 1));
+        context.put("msisdn", "55119" + String.format("%08d", seed));
+        context.put("attempt", seed % 4);
+        return context;
+    }
+
+    /**
+     * Lista no formato das colunas JSON de relacionamento (relatedParty, note, characteristic...)
+     */
+    static List<Map<String, Object>> relations(int size, int seed) {
+        List<Map<String, Object>> items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Map<String, Object> referredType = new LinkedHashMap<>();
+            referredType.put("@referredType", "Individual");
+            referredType.put("href", "/tmf-api/partyManagement/v4/individual/" + (seed + i));
+
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("id", UUID.nameUUIDFromBytes(("rel-" + seed + "-" + i).getBytes()).toString());
+            item.put("name", "characteristic-" + i);
+            item.put("role", i % 2 == 0 ? "customer" : "agent");
+            item.put("value", "Texto livre registrado pelo atendente durante o contato " + i);
+            item.put("date", LocalDateTime.of(2024, 1, 1, 0, 0).plusMinutes(i).toString());
+            item.put("score", i * 0.5);
+            item.put("active", i % 3 != 0);
+            item.put("partyRef", referredType);
+            items.add(item);
+        }
+        return items;
+    }
+
+    static PartyInteraction interaction(int seed, String partyId, int relationSize) {
+        LocalDateTime created = LocalDateTime.of(2024, 1, 1, 0, 0).plusSeconds(seed * 37L);
+        return PartyInteraction.builder()
+            .interactionId(UUID.nameUUIDFromBytes(("pi-" + seed).getBytes()).toString())
+            .subject("Contestação de fatura " + seed)
+            .description("Cliente relata cobrança indevida na fatura do mês anterior e solicita revisão dos valores.")
+            .status(STATUSES[seed % STATUSES.length])
+            .statusChangeDate(created.plusMinutes(5))
+            .channel(CHANNELS[seed % CHANNELS.length])
+            .direction(seed % 2 == 0 ? "inbound" : "outbound")
+            .creationDate(created)
+            .initiationDate(created)
+            .priority(seed % 5 == 0 ? "high" : "medium")
+            .originatingPartyId(partyId)
+            .originatingPartyRole("customer")
+            .relatedParties(relations(relationSize, seed))
+            .notes(relations(relationSize, seed + 1))
+            .characteristics(relations(relationSize, seed + 2))
+            .contextData(contextData(seed))
+            .createdAt(created)
+            .createdBy("benchmark")
+            .updatedAt(created)
+            .build();
+    }
+}
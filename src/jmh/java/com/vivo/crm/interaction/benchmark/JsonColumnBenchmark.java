@@ -0,0 +1,59 @@
+package com.vivo.crm.interaction.benchmark;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JsonColumnBenchmark - (De)serialização das colunas List&lt;Map&lt;String,Object&gt;&gt; (@JdbcTypeCode(JSON)).
+ *
+ * Reproduz o caminho do JacksonJsonFormatMapper do Hibernate (ObjectMapper com módulos registrados
+ * e writer/reader pelo tipo genérico do atributo), que é o usado com H2 e com oson_format_disabled.
+ * O formato OSON binário do driver Oracle só é exercitado contra o banco real.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonColumnBenchmark {
+
+    /**
+     * Itens por coluna: típico, chat longo e caso extremo
+     */
+    @Param({"5", "50", "500"})
+    public int items;
+
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private List<Map<String, Object>> value;
+    private String json;
+
+    @Setup
+    public void setup() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        JavaType type = objectMapper.getTypeFactory().constructCollectionType(List.class,
+            objectMapper.getTypeFactory().constructMapType(Map.class, String.class, Object.class));
+        writer = objectMapper.writerFor(type);
+        reader = objectMapper.readerFor(type);
+        value = BenchmarkData.relations(items, 7);
+        json = writer.writeValueAsString(value);
+    }
+
+    @Benchmark
+    public String serialize() throws Exception {
+        return writer.writeValueAsString(value);
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> deserialize() throws Exception {
+        return reader.readValue(json);
+    }
+}
@@ -0,0 +1,63 @@
+package com.vivo.crm.interaction.benchmark;
+
+import com.vivo.crm.interaction.application.mapper.PartyInteractionMapper;
+import com.vivo.crm.interaction.domain.entity.PartyInteraction;
+import com.vivo.crm.shared.dto.tmf683.PartyInteractionCreateDTO;
+import com.vivo.crm.shared.dto.tmf683.PartyInteractionDTO;
+import com.vivo.crm.shared.dto.tmf683.PartyInteractionUpdateDTO;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PartyInteractionMapperBenchmark - Throughput e alocação por operação do mapper
+ * (alocação via -prof gc, já habilitado no profile jmh)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PartyInteractionMapperBenchmark {
+
+    private final PartyInteractionMapper mapper = new PartyInteractionMapper();
+
+    private PartyInteraction entity;
+    private PartyInteractionCreateDTO createDTO;
+    private PartyInteractionUpdateDTO updateDTO;
+
+    @Setup
+    public void setup() {
+        entity = BenchmarkData.interaction(42, "PARTY-1", 5);
+
+        createDTO = new PartyInteractionCreateDTO();
+        createDTO.setSubject(entity.getSubject());
+        createDTO.setDescription(entity.getDescription());
+        createDTO.setChannel(entity.getChannel());
+        createDTO.setDirection(entity.getDirection());
+        createDTO.setPriority(entity.getPriority());
+        createDTO.setContextData(entity.getContextData());
+
+        updateDTO = new PartyInteractionUpdateDTO();
+        updateDTO.setStatus("active");
+        updateDTO.setStatusChangeReason("Atendimento iniciado");
+        updateDTO.setPriority("high");
+        updateDTO.setContextData(entity.getContextData());
+    }
+
+    @Benchmark
+    public PartyInteractionDTO toDTO() {
+        return mapper.toDTO(entity);
+    }
+
+    @Benchmark
+    public PartyInteraction toEntity() {
+        return mapper.toEntity(createDTO);
+    }
+
+    @Benchmark
+    public PartyInteraction updateEntity() {
+        return mapper.updateEntity(entity, updateDTO);
+    }
+}
@@ -0,0 +1,116 @@
+package com.vivo.crm.interaction.benchmark;
+
+import com.vivo.crm.interaction.InteractionServiceApplication;
+import com.vivo.crm.interaction.application.dto.InteractionPage;
+import com.vivo.crm.interaction.application.service.PartyInteractionService;
+import com.vivo.crm.interaction.domain.entity.PartyActiveInteractionCount;
+import com.vivo.crm.interaction.domain.entity.PartyInteraction;
+import com.vivo.crm.interaction.domain.repository.PartyActiveInteractionCountRepository;
+import com.vivo.crm.interaction.domain.repository.PartyInteractionFilter;
+import com.vivo.crm.interaction.domain.repository.PartyInteractionRepository;
+import com.vivo.crm.shared.dto.tmf683.PartyInteractionDTO;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PartyInteractionServiceBenchmark - Leituras do PartyInteractionService ponta a ponta
+ * (service → repository → Hibernate → H2 em memória), com o contexto Spring real.
+ * Cache desligado no profile jmh para medir o caminho até o banco.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class PartyInteractionServiceBenchmark {
+
+    private static final int PARTIES = 200;
+    private static final Set<String> ACTIVE_STATUSES = Set.of("initiated", "active");
+
+    @Param({"20000"})
+    public int interactions;
+
+    private ConfigurableApplicationContext context;
+    private PartyInteractionService service;
+    private List<String> interactionIds;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = new SpringApplicationBuilder(InteractionServiceApplication.class)
+            .web(WebApplicationType.NONE)
+            .profiles("jmh")
+            .run();
+        service = context.getBean(PartyInteractionService.class);
+
+        PartyInteractionRepository repository = context.getBean(PartyInteractionRepository.class);
+        interactionIds = new ArrayList<>(interactions);
+        List<PartyInteraction> chunk = new ArrayList<>(1000);
+        Map<String, Long> activeCounts = new HashMap<>();
+        for (int i = 0; i < interactions; i++) {
+            PartyInteraction entity = BenchmarkData.interaction(i, partyId(i), 5);
+            interactionIds.add(entity.getInteractionId());
+            if (ACTIVE_STATUSES.contains(entity.getStatus())) {
+                activeCounts.merge(entity.getOriginatingPartyId(), 1L, Long::sum);
+            }
+            chunk.add(entity);
+            if (chunk.size() == 1000) {
+                repository.saveAll(chunk);
+                chunk.clear();
+            }
+        }
+        repository.saveAll(chunk);
+
+        // contadores gravados direto: a reconciliação usa MERGE ... FULL OUTER JOIN, que o H2 não executa
+        LocalDateTime now = LocalDateTime.now();
+        context.getBean(PartyActiveInteractionCountRepository.class).saveAll(activeCounts.entrySet().stream()
+            .map(entry -> PartyActiveInteractionCount.builder()
+                .partyId(entry.getKey())
+                .activeCount(entry.getValue())
+                .updatedAt(now)
+                .build())
+            .toList());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    private static String partyId(int index) {
+        return "PARTY-" + (index % PARTIES);
+    }
+
+    @Benchmark
+    public PartyInteractionDTO getInteractionById() {
+        return service.getInteractionById(interactionIds.get(ThreadLocalRandom.current().nextInt(interactions)));
+    }
+
+    @Benchmark
+    public List<PartyInteractionDTO> getActiveInteractionsByParty() {
+        return service.getActiveInteractionsByParty(partyId(ThreadLocalRandom.current().nextInt(PARTIES)));
+    }
+
+    @Benchmark
+    public InteractionPage<PartyInteractionDTO> findInteractionsFirstPage() {
+        PartyInteractionFilter filter = new PartyInteractionFilter();
+        filter.setPartyId(partyId(ThreadLocalRandom.current().nextInt(PARTIES)));
+        return service.findInteractions(filter, null, 0, 100, false);
+    }
+
+    @Benchmark
+    public long countActiveInteractions() {
+        return service.countActiveInteractions(partyId(ThreadLocalRandom.current().nextInt(PARTIES)));
+    }
+}
@@ -2,11 +2,13 @@ package com.vivo.crm.interaction;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 import org.springframework.context.annotation.Bean;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.web.reactive.function.client.WebClient;
 
 @SpringBootApplication
+@ConfigurationPropertiesScan
 @EnableKafka
 public class InteractionServiceApplication {
 
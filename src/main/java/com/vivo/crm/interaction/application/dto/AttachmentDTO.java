@@ -0,0 +1,27 @@
+package com.vivo.crm.interaction.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * AttachmentDTO - Metadados de um anexo; o conteúdo é servido em href
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttachmentDTO {
+
+    private String id;
+    private String interactionId;
+    private String fileName;
+    private String fileType;
+    private Long fileSize;
+    private String href;
+    private String uploadedBy;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,43 @@
+package com.vivo.crm.interaction.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * BulkCreateResult - Relatório da carga em lote
+ */
+@Data
+@NoArgsConstructor
+public class BulkCreateResult {
+
+    private int requested;
+    private List<String> createdIds = new ArrayList<>();
+    private List<ItemFailure> failures = new ArrayList<>();
+
+    public BulkCreateResult(int requested) {
+        this.requested = requested;
+    }
+
+    public int getCreated() {
+        return createdIds.size();
+    }
+
+    public int getFailed() {
+        return failures.size();
+    }
+
+    /**
+     * Falha de um item, identificado pela posição na requisição
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ItemFailure {
+        private int index;
+        private String reason;
+    }
+}
@@ -0,0 +1,24 @@
+package com.vivo.crm.interaction.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * CaseInteractionStatsDTO - Resumo das interações de um caso
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CaseInteractionStatsDTO {
+
+    private String caseId;
+    private long totalInteractions;
+    private Double averageDurationSeconds;
+    private Map<String, Long> byChannel;
+    private Map<String, Long> bySentiment;
+}
@@ -0,0 +1,13 @@
+package com.vivo.crm.interaction.application.dto;
+
+import com.vivo.crm.shared.dto.tmf683.PartyInteractionDTO;
+import lombok.Value;
+
+/**
+ * CreateInteractionResult - Interação criada; replayed indica que a requisição repetiu uma criação anterior
+ */
+@Value
+public class CreateInteractionResult {
+    PartyInteractionDTO interaction;
+    boolean replayed;
+}
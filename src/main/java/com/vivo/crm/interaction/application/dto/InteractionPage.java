@@ -0,0 +1,18 @@
+package com.vivo.crm.interaction.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * InteractionPage - Página de resultados com cursor para a próxima página
+ */
+@Data
+@AllArgsConstructor
+public class InteractionPage<T> {
+
+    private List<T> items;
+    private String nextCursor; // null quando não há próxima página
+    private Long totalCount;   // preenchido apenas quando solicitado
+}
@@ -0,0 +1,28 @@
+package com.vivo.crm.interaction.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * InteractionStatisticsDTO - Agregado de interações; dimensões fora do groupBy ficam nulas
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InteractionStatisticsDTO {
+
+    private LocalDateTime hour;
+    private String channel;
+    private String direction;
+    private String status;
+    private long count;
+    private Double averageDuration; // segundos, entre as interações finalizadas com duração
+    private long satisfied;
+    private long neutral;
+    private long dissatisfied;
+}
@@ -0,0 +1,24 @@
+package com.vivo.crm.interaction.application.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * LiveFeedFilter - Filtros de uma assinatura do feed SSE; campos nulos não filtram.
+ * status casa com o status novo ou anterior, para o assinante ver a interação sair do status.
+ */
+@Data
+public class LiveFeedFilter {
+
+    private String partyId;
+    private List<String> channel;
+    private List<String> status;
+
+    public boolean matches(LiveInteractionEventDTO event) {
+        return (partyId == null || partyId.equals(event.getPartyId()))
+            && (channel == null || channel.isEmpty() || channel.contains(event.getChannel()))
+            && (status == null || status.isEmpty()
+                || status.contains(event.getStatus()) || status.contains(event.getPreviousStatus()));
+    }
+}
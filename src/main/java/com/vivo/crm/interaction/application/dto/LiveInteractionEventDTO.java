@@ -0,0 +1,31 @@
+package com.vivo.crm.interaction.application.dto;
+
+import com.vivo.crm.shared.dto.tmf683.PartyInteractionDTO;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * LiveInteractionEventDTO - Alteração de PartyInteraction enviada pelo feed SSE
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LiveInteractionEventDTO {
+
+    private String type; // CREATED, STATUS_CHANGED, DELETED
+    private String interactionId;
+    private String partyId;
+    private String channel;
+    private String direction;
+    private String previousStatus;
+    private String status;
+    private String statusChangeReason;
+    private int activeDelta; // variação do contador de ativas da party
+    private LocalDateTime occurredAt;
+    private PartyInteractionDTO interaction; // apenas em CREATED
+}
@@ -0,0 +1,24 @@
+package com.vivo.crm.interaction.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * NoteDTO - Nota de uma Party Interaction (TMF683 note)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NoteDTO {
+
+    private String id;
+    private String text;
+    private String author;
+    private LocalDateTime date;
+    private boolean systemNote;
+}
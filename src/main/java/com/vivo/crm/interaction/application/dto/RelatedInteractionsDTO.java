@@ -0,0 +1,40 @@
+package com.vivo.crm.interaction.application.dto;
+
+import com.vivo.crm.shared.dto.tmf683.PartyInteractionDTO;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * RelatedInteractionsDTO - Interações alcançáveis a partir de uma interação, com as arestas percorridas
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RelatedInteractionsDTO {
+
+    private String rootId;
+    private int depth;
+    private List<Node> interactions;
+    private List<Edge> relationships;
+    private boolean truncated; // limite de nós atingido antes de completar a profundidade
+
+    @Data
+    @AllArgsConstructor
+    public static class Node {
+        private int distance;
+        private PartyInteractionDTO interaction;
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class Edge {
+        private String sourceId;
+        private String targetId;
+        private String relationshipType;
+    }
+}
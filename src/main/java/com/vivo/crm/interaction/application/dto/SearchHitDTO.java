@@ -0,0 +1,27 @@
+package com.vivo.crm.interaction.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * SearchHitDTO - Resultado da busca full-text, servido pelos campos armazenados no índice
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchHitDTO {
+
+    private String source; // PARTY_INTERACTION, INTERACTION
+    private String id;
+    private float score;
+    private String title;
+    private String partyId;
+    private String channel;
+    private String status;
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,24 @@
+package com.vivo.crm.interaction.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * StatusHistoryDTO - Item da trilha de auditoria de status
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatusHistoryDTO {
+
+    private String oldStatus;
+    private String newStatus;
+    private String changeReason;
+    private String changedBy;
+    private LocalDateTime changedAt;
+}
@@ -0,0 +1,29 @@
+package com.vivo.crm.interaction.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * TimelineEntryDTO - Item da timeline unificada do cliente (PartyInteraction + Interaction)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TimelineEntryDTO {
+
+    private String source; // PARTY_INTERACTION, INTERACTION
+    private String id;
+    private LocalDateTime occurredAt;
+    private String channel;
+    private String direction;
+    private String status;
+    private String subject; // apenas PARTY_INTERACTION
+    private String type; // apenas INTERACTION (CALL, CHAT, ...)
+    private String caseId;
+    private String sentiment;
+}
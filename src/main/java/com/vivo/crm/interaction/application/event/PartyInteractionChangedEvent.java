@@ -0,0 +1,131 @@
+package com.vivo.crm.interaction.application.event;
+
+import com.vivo.crm.interaction.domain.entity.PartyInteraction;
+import com.vivo.crm.interaction.domain.repository.PartyInteractionView;
+import com.vivo.crm.shared.dto.tmf683.PartyInteractionDTO;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * PartyInteractionChangedEvent - Evento de ciclo de vida publicado pelo PartyInteractionService
+ * dentro da transação da alteração. Listeners derivados (contadores, projeções, feeds) devem
+ * usar @TransactionalEventListener(AFTER_COMMIT) para reagir apenas a alterações confirmadas.
+ */
+@Value
+@Builder
+public class PartyInteractionChangedEvent {
+
+    private static final Set<String> ACTIVE_STATUSES = Set.of("initiated", "active");
+
+    Type type;
+    String interactionId;
+    String partyId;
+    String channel;
+    String direction;
+    String previousStatus; // null em CREATED
+    String status;         // null em DELETED
+    String statusChangeReason;
+    LocalDateTime creationDate;
+    LocalDateTime occurredAt;
+    PartyInteractionDTO interaction; // estado após a alteração; null em DELETED
+    Long previousDuration;           // medidas do estado anterior (DELETED e STATUS_CHANGED),
+    String previousSatisfaction;     // para descontar das estatísticas do status anterior
+
+    public static PartyInteractionChangedEvent of(Type type, PartyInteraction entity, String previousStatus,
+                                                  PartyInteractionDTO interaction) {
+        return PartyInteractionChangedEvent.builder()
+            .type(type)
+            .interactionId(entity.getInteractionId())
+            .partyId(entity.getOriginatingPartyId())
+            .channel(entity.getChannel())
+            .direction(entity.getDirection())
+            .previousStatus(previousStatus)
+            .status(type == Type.DELETED ? null : entity.getStatus())
+            .statusChangeReason(entity.getStatusChangeReason())
+            .creationDate(entity.getCreationDate())
+            .occurredAt(LocalDateTime.now())
+            .interaction(interaction)
+            .previousDuration(type == Type.DELETED
+                ? durationSeconds(entity.getDuration(), entity.getInitiationDate(), entity.getCompletionDate()) : null)
+            .previousSatisfaction(type == Type.DELETED ? entity.getSatisfaction() : null)
+            .build();
+    }
+
+    public static PartyInteractionChangedEvent of(Type type, PartyInteractionView view, String previousStatus,
+                                                  PartyInteractionDTO interaction) {
+        return PartyInteractionChangedEvent.builder()
+            .type(type)
+            .interactionId(view.getInteractionId())
+            .partyId(view.getOriginatingPartyId())
+            .channel(view.getChannel())
+            .direction(view.getDirection())
+            .previousStatus(previousStatus)
+            .status(view.getStatus())
+            .statusChangeReason(view.getStatusChangeReason())
+            .creationDate(view.getCreationDate())
+            .occurredAt(LocalDateTime.now())
+            .interaction(interaction)
+            .build();
+    }
+
+    /**
+     * Troca de status a partir da projeção lida antes (before) e do estado resultante (after)
+     */
+    public static PartyInteractionChangedEvent ofStatusChange(PartyInteractionView before, PartyInteractionView after,
+                                                              PartyInteractionDTO interaction) {
+        return PartyInteractionChangedEvent.builder()
+            .type(Type.STATUS_CHANGED)
+            .interactionId(after.getInteractionId())
+            .partyId(after.getOriginatingPartyId())
+            .channel(after.getChannel())
+            .direction(after.getDirection())
+            .previousStatus(before.getStatus())
+            .status(after.getStatus())
+            .statusChangeReason(after.getStatusChangeReason())
+            .creationDate(after.getCreationDate())
+            .occurredAt(LocalDateTime.now())
+            .interaction(interaction)
+            .previousDuration(durationSeconds(before.getDuration(), before.getInitiationDate(), before.getCompletionDate()))
+            .previousSatisfaction(before.getSatisfaction())
+            .build();
+    }
+
+    /**
+     * Duração explícita ou, na falta dela, entre início e conclusão; null se não há como calcular
+     */
+    public static Long durationSeconds(Long duration, LocalDateTime initiation, LocalDateTime completion) {
+        if (duration != null) {
+            return duration;
+        }
+        if (initiation != null && completion != null) {
+            return Duration.between(initiation, completion).toSeconds();
+        }
+        return null;
+    }
+
+    public boolean isStatusChanged() {
+        return previousStatus == null ? status != null : !previousStatus.equals(status);
+    }
+
+    /**
+     * Variação do número de interações ativas (initiated/active) da party: -1, 0 ou +1
+     */
+    public int activeDelta() {
+        return (isActive(status) ? 1 : 0) - (isActive(previousStatus) ? 1 : 0);
+    }
+
+    public static boolean isActive(String status) {
+        return status != null && ACTIVE_STATUSES.contains(status);
+    }
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        STATUS_CHANGED,
+        DELETED
+    }
+}
@@ -0,0 +1,15 @@
+package com.vivo.crm.interaction.application.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * IdempotencyKeyReuseException - Chave de idempotência repetida com um corpo diferente do original
+ */
+@ResponseStatus(HttpStatus.UNPROCESSABLE_ENTITY)
+public class IdempotencyKeyReuseException extends RuntimeException {
+
+    public IdempotencyKeyReuseException(String key) {
+        super("Chave " + key + " já utilizada com outro corpo de requisição");
+    }
+}
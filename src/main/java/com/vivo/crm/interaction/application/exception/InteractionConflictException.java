@@ -0,0 +1,22 @@
+package com.vivo.crm.interaction.application.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * InteractionConflictException - A interação foi alterada concorrentemente (status diferente do esperado)
+ */
+@ResponseStatus(HttpStatus.CONFLICT)
+public class InteractionConflictException extends RuntimeException {
+
+    public InteractionConflictException(String interactionId, String expectedStatus) {
+        super("Party Interaction " + interactionId + " não está mais no status " + expectedStatus);
+    }
+
+    /**
+     * Alterada por outra requisição entre a leitura e o UPDATE
+     */
+    public InteractionConflictException(String interactionId) {
+        super("Party Interaction " + interactionId + " foi alterada por outra requisição");
+    }
+}
@@ -1,13 +1,20 @@
 package com.vivo.crm.interaction.application.mapper;
 
+import com.vivo.crm.interaction.application.dto.NoteDTO;
 import com.vivo.crm.interaction.domain.entity.PartyInteraction;
+import com.vivo.crm.interaction.domain.entity.PartyInteractionNote;
+import com.vivo.crm.interaction.domain.repository.PartyInteractionFields;
+import com.vivo.crm.interaction.domain.repository.PartyInteractionView;
 import com.vivo.crm.shared.dto.tmf683.PartyInteractionDTO;
 import com.vivo.crm.shared.dto.tmf683.PartyInteractionCreateDTO;
 import com.vivo.crm.shared.dto.tmf683.PartyInteractionUpdateDTO;
+import jakarta.persistence.Tuple;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
-import java.util.UUID;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * PartyInteractionMapper - Converte entre Entity e DTOs
@@ -15,6 +22,8 @@ import java.util.UUID;
 @Component
 public class PartyInteractionMapper {
 
+    private static final String HREF_PREFIX = "/tmf-api/partyInteractionManagement/v4/partyInteraction/";
+
     /**
      * Converte Entity para DTO
      */
@@ -25,7 +34,7 @@ public class PartyInteractionMapper {
 
         return PartyInteractionDTO.builder()
             .id(entity.getInteractionId())
-            .href("/tmf-api/partyInteractionManagement/v4/partyInteraction/" + entity.getInteractionId())
+            .href(HREF_PREFIX + entity.getInteractionId())
             .subject(entity.getSubject())
             .description(entity.getDescription())
             .status(entity.getStatus())
@@ -47,16 +56,102 @@ public class PartyInteractionMapper {
             .build();
     }
 
+    /**
+     * Converte a projeção leve para DTO
+     */
+    public PartyInteractionDTO toDTO(PartyInteractionView view) {
+        if (view == null) {
+            return null;
+        }
+
+        return PartyInteractionDTO.builder()
+            .id(view.getInteractionId())
+            .href(HREF_PREFIX + view.getInteractionId())
+            .subject(view.getSubject())
+            .description(view.getDescription())
+            .status(view.getStatus())
+            .statusChangeDate(view.getStatusChangeDate())
+            .statusChangeReason(view.getStatusChangeReason())
+            .channel(view.getChannel())
+            .direction(view.getDirection())
+            .initiationDate(view.getInitiationDate())
+            .completionDate(view.getCompletionDate())
+            .duration(view.getDuration())
+            .priority(view.getPriority())
+            .satisfaction(view.getSatisfaction())
+            .contextData(view.getContextData())
+            .createdAt(view.getCreatedAt())
+            .createdBy(view.getCreatedBy())
+            .updatedAt(view.getUpdatedAt())
+            .updatedBy(view.getUpdatedBy())
+            .type("PartyInteraction")
+            .build();
+    }
+
+    /**
+     * Converte uma projeção (fields=) para o mapa de atributos TMF solicitados; note vem de notes, por interação
+     */
+    public Map<String, Object> toFields(Tuple row, List<String> fields, Map<String, List<NoteDTO>> notes) {
+        String interactionId = row.get(PartyInteractionFields.ID, String.class);
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put(PartyInteractionFields.ID, interactionId);
+        result.put("href", HREF_PREFIX + interactionId);
+        for (String field : fields) {
+            result.put(field, PartyInteractionFields.isColumn(field)
+                ? row.get(field)
+                : notes.getOrDefault(interactionId, List.of()));
+        }
+        return result;
+    }
+
+    /**
+     * Novo interaction_id ordenado pelo tempo (UUIDv7)
+     */
+    public String newInteractionId() {
+        return UuidV7.next().toString();
+    }
+
+    /**
+     * Nova nota com note_id ordenado pelo tempo; data definida pelo servidor
+     */
+    public PartyInteractionNote toNote(String interactionId, NoteDTO dto, LocalDateTime now) {
+        return PartyInteractionNote.builder()
+            .interactionId(interactionId)
+            .noteId(UuidV7.next().toString())
+            .text(dto.getText())
+            .author(dto.getAuthor())
+            .noteDate(now)
+            .systemNote(dto.isSystemNote())
+            .build();
+    }
+
+    public NoteDTO toDTO(PartyInteractionNote note) {
+        return NoteDTO.builder()
+            .id(note.getNoteId())
+            .text(note.getText())
+            .author(note.getAuthor())
+            .date(note.getNoteDate())
+            .systemNote(note.isSystemNote())
+            .build();
+    }
+
     /**
      * Converte DTO para Entity (criação)
      */
     public PartyInteraction toEntity(PartyInteractionCreateDTO dto) {
+        return toEntity(dto, newInteractionId());
+    }
+
+    /**
+     * Converte DTO para Entity (criação) com ID informado pelo cliente
+     */
+    public PartyInteraction toEntity(PartyInteractionCreateDTO dto, String interactionId) {
         if (dto == null) {
             return null;
         }
 
         return PartyInteraction.builder()
-            .interactionId(UUID.randomUUID().toString())
+            .interactionId(interactionId)
             .subject(dto.getSubject())
             .description(dto.getDescription())
             .status("initiated")
@@ -69,6 +164,48 @@ public class PartyInteractionMapper {
             .build();
     }
 
+    /**
+     * Atributos alterados pelo DTO (atualização parcial), para UPDATE direto sem carregar a entidade
+     */
+    public Map<String, Object> toChanges(PartyInteractionUpdateDTO dto, LocalDateTime now) {
+        Map<String, Object> changes = new LinkedHashMap<>();
+        if (dto == null) {
+            return changes;
+        }
+
+        if (dto.getSubject() != null) {
+            changes.put("subject", dto.getSubject());
+        }
+        if (dto.getDescription() != null) {
+            changes.put("description", dto.getDescription());
+        }
+        if (dto.getStatus() != null) {
+            changes.put("status", dto.getStatus());
+            changes.put("statusChangeDate", now);
+        }
+        if (dto.getStatusChangeReason() != null) {
+            changes.put("statusChangeReason", dto.getStatusChangeReason());
+        }
+        if (dto.getPriority() != null) {
+            changes.put("priority", dto.getPriority());
+        }
+        if (dto.getSatisfaction() != null) {
+            changes.put("satisfaction", dto.getSatisfaction());
+        }
+        if (dto.getCompletionDate() != null) {
+            changes.put("completionDate", dto.getCompletionDate());
+        }
+        if (dto.getDuration() != null) {
+            changes.put("duration", dto.getDuration());
+        }
+        if (dto.getContextData() != null) {
+            changes.put("contextData", dto.getContextData());
+        }
+
+        changes.put("updatedAt", now);
+        return changes;
+    }
+
     /**
      * Atualiza Entity com dados do DTO (atualização parcial)
      */
@@ -0,0 +1,28 @@
+package com.vivo.crm.interaction.application.mapper;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * UuidV7 - UUID ordenado pelo tempo (RFC 9562, versão 7): 48 bits de epoch em milissegundos
+ * seguidos de 74 bits aleatórios. IDs gerados em sequência caem no mesmo bloco folha do índice
+ * único, em vez de espalhar os inserts por todo o índice como o UUID aleatório (versão 4).
+ */
+final class UuidV7 {
+
+    private UuidV7() {
+    }
+
+    static UUID next() {
+        return next(System.currentTimeMillis());
+    }
+
+    static UUID next(long epochMillis) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long mostSigBits = (epochMillis & 0xFFFF_FFFF_FFFFL) << 16
+            | 0x7000L
+            | random.nextInt(1 << 12);
+        long leastSigBits = random.nextLong() & 0x3FFF_FFFF_FFFF_FFFFL | 0x8000_0000_0000_0000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
@@ -0,0 +1,104 @@
+package com.vivo.crm.interaction.application.service;
+
+import com.vivo.crm.interaction.application.event.PartyInteractionChangedEvent;
+import com.vivo.crm.interaction.domain.entity.PartyActiveInteractionCount;
+import com.vivo.crm.interaction.domain.repository.PartyActiveInteractionCountRepository;
+import com.vivo.crm.interaction.infrastructure.lock.ClusterLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ActiveInteractionCounter - Contador incremental de interações ativas por party.
+ *
+ * Variações confirmadas (após o commit) acumulam em um mapa concorrente em memória e são
+ * somadas periodicamente à tabela PARTY_ACTIVE_INTERACTION_COUNT com MERGE; saem do mapa só
+ * depois do commit, então a leitura (valor da tabela + variação local pendente) nunca fica abaixo
+ * do real. O mapa já distribui o travamento por bin do hash: atualizações de parties diferentes
+ * não disputam lock, e a remoção segura de entradas zeradas exige o lock do bin de qualquer forma.
+ *
+ * A reconciliação roda em uma instância por vez (ClusterLock) e corrige em um único MERGE as
+ * parties que divergem de PARTY_INTERACTION, exceto as alteradas dentro de settleWindow, cujos
+ * deltas podem ainda estar pendentes em alguma instância. Uma exclusão ainda não gravada por
+ * outra instância pode gerar uma correção de ±1, desfeita na execução seguinte.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ActiveInteractionCounter {
+
+    private static final String RECONCILE_LOCK = "active-counter-reconcile";
+
+    private final PartyActiveInteractionCountRepository countRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ClusterLock clusterLock;
+
+    private final ConcurrentHashMap<String, Long> pendingDeltas = new ConcurrentHashMap<>();
+
+    @Value("${interaction.active-counter.settle-window:1m}")
+    private Duration settleWindow;
+
+    @Value("${interaction.active-counter.reconcile-lease:10m}")
+    private Duration reconcileLease;
+
+    @TransactionalEventListener
+    public void onInteractionChanged(PartyInteractionChangedEvent event) {
+        int delta = event.activeDelta();
+        if (delta != 0 && event.getPartyId() != null) {
+            pendingDeltas.merge(event.getPartyId(), (long) delta, Long::sum);
+        }
+    }
+
+    public long count(String partyId) {
+        long persisted = countRepository.findById(partyId)
+            .map(PartyActiveInteractionCount::getActiveCount)
+            .orElse(0L);
+        return Math.max(0L, persisted + pendingDeltas.getOrDefault(partyId, 0L));
+    }
+
+    @Scheduled(fixedDelayString = "${interaction.active-counter.flush-interval:1000}")
+    public synchronized void flush() {
+        if (pendingDeltas.isEmpty()) {
+            return;
+        }
+        Map<String, Long> snapshot = new HashMap<>();
+        pendingDeltas.forEach((partyId, delta) -> {
+            if (delta != 0) {
+                snapshot.put(partyId, delta);
+            }
+        });
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                snapshot.forEach(countRepository::addDelta));
+        } catch (RuntimeException e) {
+            log.warn("Falha ao gravar {} contadores de interações ativas, nova tentativa no próximo ciclo: {}",
+                snapshot.size(), e.getMessage());
+            return;
+        }
+        // desconta só o que foi gravado; variações que chegaram durante a transação continuam pendentes
+        snapshot.forEach((partyId, flushed) -> pendingDeltas.computeIfPresent(partyId,
+            (id, delta) -> delta - flushed == 0 ? null : delta - flushed));
+    }
+
+    @Scheduled(cron = "${interaction.active-counter.reconcile-cron:0 */15 * * * *}")
+    public void reconcile() {
+        flush();
+        clusterLock.runExclusively(RECONCILE_LOCK, reconcileLease, () -> {
+            LocalDateTime settledBefore = LocalDateTime.now().minus(settleWindow);
+            Integer corrected = transactionTemplate.execute(status -> countRepository.reconcile(settledBefore));
+            if (corrected != null && corrected > 0) {
+                log.info("Reconciliação de interações ativas corrigiu {} parties", corrected);
+            }
+        });
+    }
+}
@@ -0,0 +1,202 @@
+package com.vivo.crm.interaction.application.service;
+
+import com.vivo.crm.interaction.application.dto.AttachmentDTO;
+import com.vivo.crm.interaction.domain.model.Attachment;
+import com.vivo.crm.interaction.domain.repository.AttachmentRepository;
+import com.vivo.crm.interaction.domain.repository.InteractionRepository;
+import com.vivo.crm.interaction.infrastructure.config.AttachmentProperties;
+import com.vivo.crm.interaction.infrastructure.execution.BlockingCallExecutor;
+import com.vivo.crm.interaction.infrastructure.execution.Bulkhead;
+import com.vivo.crm.interaction.infrastructure.storage.AttachmentStorage;
+import com.vivo.crm.interaction.infrastructure.storage.StoredContent;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ZeroCopyHttpOutputMessage;
+import org.springframework.http.codec.multipart.FilePartEvent;
+import org.springframework.http.codec.multipart.PartEvent;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * AttachmentService - Upload e download de anexos em streaming.
+ *
+ * O corpo multipart é consumido como PartEvent e repassado ao AttachmentStorage buffer a buffer,
+ * sem materializar o arquivo em memória nem em disco temporário do codec. Downloads usam
+ * zero-copy (sendfile) quando o armazenamento é local e suportam um intervalo Range por requisição.
+ * Transferências simultâneas são limitadas por bulkheads próprios, independentes dos endpoints JPA.
+ */
+@Slf4j
+@Service
+public class AttachmentService {
+
+    public static final String FILE_PART = "file";
+    private static final String HREF_PATTERN = "/api/interactions/%s/attachments/%s/content";
+
+    private final InteractionRepository interactionRepository;
+    private final AttachmentRepository attachmentRepository;
+    private final AttachmentStorage storage;
+    private final BlockingCallExecutor executor;
+    private final TransactionTemplate transactionTemplate;
+    private final AttachmentProperties properties;
+    private final Bulkhead uploads;
+    private final Bulkhead downloads;
+
+    public AttachmentService(InteractionRepository interactionRepository, AttachmentRepository attachmentRepository,
+                             AttachmentStorage storage, BlockingCallExecutor executor,
+                             TransactionTemplate transactionTemplate, AttachmentProperties properties) {
+        this.interactionRepository = interactionRepository;
+        this.attachmentRepository = attachmentRepository;
+        this.storage = storage;
+        this.executor = executor;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.uploads = new Bulkhead("attachmentUploads", properties.getMaxConcurrentUploads());
+        this.downloads = new Bulkhead("attachmentDownloads", properties.getMaxConcurrentDownloads());
+    }
+
+    /**
+     * Grava a parte "file" do multipart; Mono vazio se a interação não existe
+     */
+    public Mono<AttachmentDTO> upload(String interactionId, Flux<PartEvent> parts) {
+        return executor.mono("uploadAttachment", () -> interactionRepository.existsById(interactionId) ? Boolean.TRUE : null)
+            .flatMap(exists -> withPermit(uploads, () -> storeFilePart(parts)))
+            .flatMap(file -> executor.mono("uploadAttachment", () -> transactionTemplate.execute(status -> {
+                Attachment saved = attachmentRepository.save(Attachment.builder()
+                    .interactionId(interactionId)
+                    .fileName(file.getFileName())
+                    .fileType(file.getContentType())
+                    .fileSize(file.getContent().getSize())
+                    .fileUrl(file.getContent().getUri())
+                    .build());
+                interactionRepository.incrementAttachmentCount(interactionId);
+                return saved;
+            })))
+            .doOnNext(saved -> log.debug("Anexo {} gravado para interação {} ({} bytes)",
+                saved.getId(), interactionId, saved.getFileSize()))
+            .map(this::toDTO);
+    }
+
+    private Mono<UploadedFile> storeFilePart(Flux<PartEvent> parts) {
+        return parts.windowUntil(PartEvent::isLast)
+            .concatMap(partEvents -> partEvents.switchOnFirst((first, events) -> {
+                if (first.get() instanceof FilePartEvent filePart && FILE_PART.equals(filePart.name())) {
+                    MediaType contentType = filePart.headers().getContentType();
+                    return storage.store(events.map(PartEvent::content), properties.getMaxFileSize().toBytes())
+                        .map(content -> new UploadedFile(filePart.filename(),
+                            contentType != null ? contentType.toString() : null, content));
+                }
+                return events.doOnNext(event -> DataBufferUtils.release(event.content())).then(Mono.<UploadedFile>empty());
+            }))
+            .next()
+            .switchIfEmpty(Mono.error(new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                "Parte '" + FILE_PART + "' ausente")));
+    }
+
+    public Mono<List<AttachmentDTO>> listAttachments(String interactionId) {
+        return executor.mono("listAttachments", () -> attachmentRepository.findByInteractionIdOrderByCreatedAtDesc(interactionId)
+            .stream()
+            .map(this::toDTO)
+            .toList());
+    }
+
+    /**
+     * Escreve o conteúdo (ou o intervalo Range solicitado) diretamente na resposta
+     */
+    public Mono<Void> download(String interactionId, String attachmentId, ServerHttpRequest request, ServerHttpResponse response) {
+        return executor.mono("downloadAttachment",
+                () -> attachmentRepository.findByIdAndInteractionId(attachmentId, interactionId).orElse(null))
+            .switchIfEmpty(Mono.error(new ResponseStatusException(HttpStatus.NOT_FOUND)))
+            .flatMap(attachment -> {
+                if (!storage.supports(attachment.getFileUrl())) {
+                    // anexos anteriores ao armazenamento local apontam para uma URL externa
+                    response.setStatusCode(HttpStatus.FOUND);
+                    response.getHeaders().setLocation(URI.create(attachment.getFileUrl()));
+                    return response.setComplete();
+                }
+                return withPermit(downloads, () -> writeContent(attachment, request, response));
+            });
+    }
+
+    private Mono<Void> writeContent(Attachment attachment, ServerHttpRequest request, ServerHttpResponse response) {
+        long length = attachment.getFileSize();
+        HttpHeaders headers = response.getHeaders();
+        headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+        headers.setETag("\"" + attachment.getFileUrl() + "\"");
+        headers.setContentType(attachment.getFileType() != null
+            ? MediaType.parseMediaType(attachment.getFileType())
+            : MediaType.APPLICATION_OCTET_STREAM);
+        headers.setContentDisposition(ContentDisposition.attachment().filename(attachment.getFileName()).build());
+
+        long position = 0;
+        long count = length;
+        try {
+            List<HttpRange> ranges = request.getHeaders().getRange();
+            // múltiplos intervalos (multipart/byteranges) não são suportados: responde com o conteúdo completo
+            if (ranges.size() == 1) {
+                position = ranges.get(0).getRangeStart(length);
+                count = ranges.get(0).getRangeEnd(length) - position + 1;
+                response.setStatusCode(HttpStatus.PARTIAL_CONTENT);
+                headers.set(HttpHeaders.CONTENT_RANGE, "bytes " + position + "-" + (position + count - 1) + "/" + length);
+            }
+        } catch (IllegalArgumentException e) {
+            response.setStatusCode(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE);
+            headers.set(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+            return response.setComplete();
+        }
+        headers.setContentLength(count);
+
+        Optional<Path> file = storage.localFile(attachment.getFileUrl());
+        if (file.isPresent() && response instanceof ZeroCopyHttpOutputMessage zeroCopy) {
+            return zeroCopy.writeWith(file.get(), position, count);
+        }
+        return response.writeWith(storage.read(attachment.getFileUrl(), position, count, response.bufferFactory()));
+    }
+
+    private <T> Mono<T> withPermit(Bulkhead bulkhead, Supplier<Mono<T>> transfer) {
+        return Mono.defer(() -> {
+            if (!bulkhead.tryAcquire()) {
+                log.warn("Limite de transferências simultâneas atingido para {} ({})", bulkhead.getName(), bulkhead.getLimit());
+                return Mono.error(new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                    "Limite de transferências simultâneas atingido"));
+            }
+            return transfer.get().doFinally(signal -> bulkhead.release());
+        });
+    }
+
+    private AttachmentDTO toDTO(Attachment attachment) {
+        return AttachmentDTO.builder()
+            .id(attachment.getId())
+            .interactionId(attachment.getInteractionId())
+            .fileName(attachment.getFileName())
+            .fileType(attachment.getFileType())
+            .fileSize(attachment.getFileSize())
+            .href(String.format(HREF_PATTERN, attachment.getInteractionId(), attachment.getId()))
+            .uploadedBy(attachment.getUploadedBy())
+            .createdAt(attachment.getCreatedAt())
+            .build();
+    }
+
+    @Value
+    private static class UploadedFile {
+        String fileName;
+        String contentType;
+        StoredContent content;
+    }
+}
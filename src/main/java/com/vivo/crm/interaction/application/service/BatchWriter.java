@@ -0,0 +1,149 @@
+package com.vivo.crm.interaction.application.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BatchWriter - Base das gravações agrupadas em batch JDBC por uma thread dedicada.
+ *
+ * Os itens entram em uma fila limitada; a thread forma batches de até batchSize e, depois do
+ * primeiro item, espera até maxDelay por outros (zero: grava o que já está na fila, e o que
+ * chegar durante a gravação forma o batch seguinte). Cada batch é gravado em uma transação: se
+ * falhar, nada fica gravado e cada item é regravado na própria transação, então só os itens
+ * rejeitados falham e nenhum é inserido duas vezes. No stop do contexto (após o servidor web
+ * encerrar) a fila é drenada por completo; a fila está em memória e se perde se o processo morrer.
+ */
+@Slf4j
+abstract class BatchWriter<T> implements SmartLifecycle {
+
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private final String name;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration maxDelay;
+    private final BlockingQueue<T> queue;
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    protected BatchWriter(String name, TransactionTemplate transactionTemplate, int queueCapacity, int batchSize,
+                          Duration maxDelay, MeterRegistry meterRegistry, String queueMetric) {
+        this.name = name;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.maxDelay = maxDelay;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        meterRegistry.gaugeCollectionSize(queueMetric, List.of(), queue);
+    }
+
+    /**
+     * Grava o batch, dentro da transação; retorna as contagens do batch JDBC
+     */
+    protected abstract int[][] insert(List<T> batch);
+
+    /**
+     * Batch confirmado no banco
+     */
+    protected abstract void written(List<T> batch, int[][] counts);
+
+    /**
+     * Item rejeitado pelo banco mesmo gravado sozinho
+     */
+    protected abstract void rejected(T item, RuntimeException e);
+
+    /**
+     * Coloca o item na fila; false com a fila cheia ou o writer parado
+     */
+    protected boolean offer(T item) {
+        return running && queue.offer(item);
+    }
+
+    /**
+     * Grava o batch em uma transação; se falhar, regrava cada item em sua própria transação
+     */
+    protected void write(List<T> batch) {
+        int[][] counts;
+        try {
+            counts = transactionTemplate.execute(status -> insert(batch));
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                rejected(batch.get(0), e);
+                return;
+            }
+            log.warn("Falha no batch de {} itens em {}, gravando individualmente: {}", batch.size(), name, e.getMessage());
+            batch.forEach(item -> write(List.of(item)));
+            return;
+        }
+        written(batch, counts);
+    }
+
+    private void runFlusher() {
+        List<T> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                T first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + maxDelay.toNanos();
+                queue.drainTo(batch, batchSize - batch.size());
+                while (running && batch.size() < batchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    T next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                    queue.drainTo(batch, batchSize - batch.size());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (!batch.isEmpty()) {
+                write(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        flusher = Thread.ofPlatform().name(name).daemon().start(this::runFlusher);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        try {
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.info("Fila de {} drenada no shutdown", name);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Para depois do shutdown gracioso do servidor web, para receber as últimas requisições
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+}
@@ -0,0 +1,115 @@
+package com.vivo.crm.interaction.application.service;
+
+import com.vivo.crm.interaction.application.dto.BulkCreateResult;
+import com.vivo.crm.interaction.application.event.PartyInteractionChangedEvent;
+import com.vivo.crm.interaction.application.event.PartyInteractionChangedEvent.Type;
+import com.vivo.crm.interaction.application.mapper.PartyInteractionMapper;
+import com.vivo.crm.interaction.domain.entity.PartyInteraction;
+import com.vivo.crm.interaction.domain.repository.PartyInteractionRepository;
+import com.vivo.crm.interaction.infrastructure.config.BulkProperties;
+import com.vivo.crm.shared.dto.tmf683.PartyInteractionCreateDTO;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * BulkInteractionService - Carga em lote de Party Interactions.
+ * Cada bloco de chunkSize itens é gravado em uma transação própria com inserts em batch JDBC;
+ * se o bloco falhar, seus itens são regravados um a um para isolar e reportar os inválidos.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BulkInteractionService {
+
+    private final PartyInteractionRepository interactionRepository;
+    private final PartyInteractionMapper mapper;
+    private final TransactionTemplate transactionTemplate;
+    private final BulkProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public BulkCreateResult createInteractions(List<PartyInteractionCreateDTO> items) {
+        if (items.size() > properties.getMaxItems()) {
+            throw new IllegalArgumentException("Máximo de " + properties.getMaxItems() + " itens por requisição");
+        }
+        log.info("Carga em lote de {} Party Interactions", items.size());
+        BulkCreateResult result = new BulkCreateResult(items.size());
+
+        List<Integer> chunkIndexes = new ArrayList<>();
+        for (int index = 0; index < items.size(); index++) {
+            String invalidReason = validate(items.get(index));
+            if (invalidReason != null) {
+                result.getFailures().add(new BulkCreateResult.ItemFailure(index, invalidReason));
+                continue;
+            }
+            chunkIndexes.add(index);
+            if (chunkIndexes.size() == properties.getChunkSize()) {
+                persistChunk(items, chunkIndexes, result);
+                chunkIndexes.clear();
+            }
+        }
+        if (!chunkIndexes.isEmpty()) {
+            persistChunk(items, chunkIndexes, result);
+        }
+
+        log.info("Carga em lote concluída: {} criadas, {} falhas", result.getCreated(), result.getFailed());
+        return result;
+    }
+
+    private void persistChunk(List<PartyInteractionCreateDTO> items, List<Integer> indexes, BulkCreateResult result) {
+        try {
+            result.getCreatedIds().addAll(transactionTemplate.execute(status -> insert(items, indexes)));
+        } catch (RuntimeException e) {
+            log.warn("Falha no bloco iniciado no item {}, regravando item a item: {}", indexes.get(0), e.getMessage());
+            for (Integer index : indexes) {
+                try {
+                    result.getCreatedIds().addAll(transactionTemplate.execute(status -> insert(items, List.of(index))));
+                } catch (RuntimeException itemError) {
+                    result.getFailures().add(new BulkCreateResult.ItemFailure(index,
+                        NestedExceptionUtils.getMostSpecificCause(itemError).getMessage()));
+                }
+            }
+        }
+    }
+
+    private List<String> insert(List<PartyInteractionCreateDTO> items, List<Integer> indexes) {
+        List<PartyInteraction> entities = indexes.stream()
+            .map(index -> mapper.toEntity(items.get(index)))
+            .toList();
+        interactionRepository.saveAll(entities);
+        entities.forEach(entity -> eventPublisher.publishEvent(
+            PartyInteractionChangedEvent.of(Type.CREATED, entity, null, mapper.toDTO(entity))));
+        entityManager.flush();
+        entityManager.clear();
+        return entities.stream()
+            .map(PartyInteraction::getInteractionId)
+            .toList();
+    }
+
+    private String validate(PartyInteractionCreateDTO item) {
+        if (item == null) {
+            return "Item nulo";
+        }
+        if (item.getSubject() == null || item.getSubject().isBlank()) {
+            return "subject é obrigatório";
+        }
+        if (item.getChannel() == null) {
+            return "channel é obrigatório";
+        }
+        if (item.getDirection() == null) {
+            return "direction é obrigatório";
+        }
+        return null;
+    }
+}
@@ -0,0 +1,62 @@
+package com.vivo.crm.interaction.application.service;
+
+import com.vivo.crm.interaction.application.dto.InteractionPage;
+import com.vivo.crm.interaction.application.dto.TimelineEntryDTO;
+import com.vivo.crm.interaction.domain.repository.CustomerTimelineRepository;
+import com.vivo.crm.interaction.domain.repository.TimelineCursor;
+import com.vivo.crm.interaction.domain.repository.TimelineEntryView;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * CustomerTimelineService - Timeline do cliente mesclando PartyInteraction e Interaction.
+ * Lê limit + 1 itens de cada fonte a partir do cursor e intercala por (occurredAt, source, key);
+ * o custo por página é O(limit) independentemente do volume do cliente.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CustomerTimelineService {
+
+    private static final Comparator<TimelineEntryView> TIMELINE_ORDER = Comparator.comparing(TimelineEntryView::toCursor);
+
+    private final CustomerTimelineRepository timelineRepository;
+
+    public InteractionPage<TimelineEntryDTO> getTimeline(String customerId, String cursor, int limit) {
+        TimelineCursor after = cursor != null ? TimelineCursor.decode(cursor) : null;
+
+        List<TimelineEntryView> merged = new ArrayList<>(2 * (limit + 1));
+        merged.addAll(timelineRepository.findPartyInteractions(customerId, after, limit + 1));
+        merged.addAll(timelineRepository.findInteractions(customerId, after, limit + 1));
+        merged.sort(TIMELINE_ORDER);
+
+        boolean hasNext = merged.size() > limit;
+        List<TimelineEntryView> page = hasNext ? merged.subList(0, limit) : merged;
+        String nextCursor = hasNext ? page.get(page.size() - 1).toCursor().encode() : null;
+        List<TimelineEntryDTO> items = page.stream()
+            .map(this::toDTO)
+            .collect(Collectors.toList());
+        return new InteractionPage<>(items, nextCursor, null);
+    }
+
+    private TimelineEntryDTO toDTO(TimelineEntryView view) {
+        return TimelineEntryDTO.builder()
+            .source(view.getSource().name())
+            .id(view.getId())
+            .occurredAt(view.getOccurredAt())
+            .channel(view.getChannel())
+            .direction(view.getDirection())
+            .status(view.getStatus())
+            .subject(view.getSubject())
+            .type(view.getType())
+            .caseId(view.getCaseId())
+            .sentiment(view.getSentiment())
+            .build();
+    }
+}
@@ -0,0 +1,113 @@
+package com.vivo.crm.interaction.application.service;
+
+import com.vivo.crm.interaction.infrastructure.config.EnrichmentProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * EnrichmentStage - Estágio do pipeline: fila limitada de interaction ids consumida por
+ * parallelism workers (virtual threads) em lotes de até batchSize itens ou maxDelay.
+ */
+@Slf4j
+class EnrichmentStage {
+
+    private final String name;
+    private final EnrichmentProperties.Stage properties;
+    private final BlockingQueue<String> queue;
+    private final Consumer<List<String>> processor;
+    private final Timer latency;
+    private final List<Thread> workers = new ArrayList<>();
+
+    private volatile boolean running;
+
+    EnrichmentStage(String name, EnrichmentProperties.Stage properties, Consumer<List<String>> processor,
+                    MeterRegistry meterRegistry) {
+        this.name = name;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        this.processor = processor;
+        this.latency = Timer.builder("interaction.enrichment.latency")
+            .description("Tempo de processamento de um lote pelo estágio")
+            .tag("stage", name)
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(meterRegistry);
+        meterRegistry.gaugeCollectionSize("interaction.enrichment.queue", Tags.of("stage", name), queue);
+    }
+
+    String getName() {
+        return name;
+    }
+
+    /**
+     * Enfileira sem bloquear; false quando a fila está cheia
+     */
+    boolean offer(String interactionId) {
+        return queue.offer(interactionId);
+    }
+
+    /**
+     * Enfileira bloqueando enquanto a fila está cheia (backpressure entre estágios)
+     */
+    void put(String interactionId) throws InterruptedException {
+        queue.put(interactionId);
+    }
+
+    void start() {
+        running = true;
+        for (int i = 0; i < properties.getParallelism(); i++) {
+            workers.add(Thread.ofVirtual().name("enrichment-" + name + "-" + i).start(this::work));
+        }
+    }
+
+    /**
+     * Itens ainda na fila são descartados; o estado fica no banco e a varredura os retoma
+     */
+    void stop() {
+        running = false;
+        workers.forEach(Thread::interrupt);
+        workers.clear();
+    }
+
+    private void work() {
+        List<String> batch = new ArrayList<>(properties.getBatchSize());
+        while (running) {
+            try {
+                String first = queue.poll(properties.getMaxDelay().toMillis(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + properties.getMaxDelay().toNanos();
+                while (batch.size() < properties.getBatchSize()) {
+                    queue.drainTo(batch, properties.getBatchSize() - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= properties.getBatchSize() || remaining <= 0) {
+                        break;
+                    }
+                    String next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                latency.record(() -> processor.accept(List.copyOf(batch)));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Falha no estágio {} para o lote {}: {}", name, batch, e.getMessage(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.vivo.crm.interaction.application.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * IdempotencyWindow - Janela limitada em memória das chaves de idempotência recentes.
+ *
+ * Dividida em faixas independentes, cada uma com seu próprio lock e seu próprio limite (LRU),
+ * para que requisições de chaves diferentes em núcleos diferentes não disputem o mesmo lock.
+ * É apenas um atalho: a tabela de chaves e a restrição única continuam sendo a garantia.
+ */
+class IdempotencyWindow {
+
+    private final Stripe[] stripes;
+    private final int mask;
+    private final long ttlNanos;
+
+    IdempotencyWindow(int stripeCount, int capacity, long ttlNanos) {
+        this.stripes = new Stripe[stripeCount];
+        this.mask = stripeCount - 1;
+        this.ttlNanos = ttlNanos;
+        int perStripe = Math.max(capacity / stripeCount, 1);
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe(perStripe);
+        }
+    }
+
+    /**
+     * Interação criada pela chave, impressão do corpo e resposta originais, ou null se a chave não está na janela ou expirou
+     */
+    Created get(String key) {
+        Stripe stripe = stripeFor(key);
+        synchronized (stripe) {
+            Created entry = stripe.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (System.nanoTime() - entry.createdAt > ttlNanos) {
+                stripe.remove(key);
+                return null;
+            }
+            return entry;
+        }
+    }
+
+    void put(String key, String interactionId, String requestHash, String response) {
+        Stripe stripe = stripeFor(key);
+        synchronized (stripe) {
+            stripe.put(key, new Created(interactionId, requestHash, response, System.nanoTime()));
+        }
+    }
+
+    void remove(String key) {
+        Stripe stripe = stripeFor(key);
+        synchronized (stripe) {
+            stripe.remove(key);
+        }
+    }
+
+    private Stripe stripeFor(String key) {
+        int hash = key.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & mask];
+    }
+
+    record Created(String interactionId, String requestHash, String response, long createdAt) {
+    }
+
+    private static final class Stripe extends LinkedHashMap<String, Created> {
+
+        private final int capacity;
+
+        Stripe(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Created> eldest) {
+            return size() > capacity;
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package com.vivo.crm.interaction.application.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.vivo.crm.interaction.application.dto.CreateInteractionResult;
+import com.vivo.crm.interaction.application.exception.IdempotencyKeyReuseException;
+import com.vivo.crm.interaction.application.mapper.PartyInteractionMapper;
+import com.vivo.crm.interaction.domain.entity.PartyInteractionIdempotency;
+import com.vivo.crm.interaction.domain.repository.PartyInteractionIdempotencyRepository;
+import com.vivo.crm.interaction.infrastructure.config.IdempotencyProperties;
+import com.vivo.crm.shared.dto.tmf683.PartyInteractionCreateDTO;
+import com.vivo.crm.shared.dto.tmf683.PartyInteractionDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.regex.Pattern;
+
+/**
+ * IdempotentCreateService - Criação de Party Interaction idempotente por Idempotency-Key ou ID do cliente.
+ *
+ * Uma repetição é resolvida primeiro pela janela em memória, depois pela tabela de chaves;
+ * requisições simultâneas com a mesma chave são decididas pela restrição única (chave ou
+ * interaction_id): a perdedora recebe a interação gravada pela vencedora, sem segundo insert.
+ * A chave guarda o SHA-256 do corpo original; reutilizá-la com outro corpo resulta em 422.
+ * A repetição devolve a resposta original (JSON gravado junto com a chave e mantido na janela),
+ * não o estado atual da interação. Para o ID do cliente, sem linha na tabela de chaves, a
+ * comparação e a resposta original valem enquanto ele está na janela em memória; fora dela a
+ * repetição devolve o estado atual da interação.
+ */
+@Slf4j
+@Service
+public class IdempotentCreateService {
+
+    private static final int MAX_KEY_LENGTH = 100;
+    private static final int MAX_ID_LENGTH = 50;
+    private static final Pattern CLIENT_ID = Pattern.compile("[A-Za-z0-9._:-]+");
+
+    private final PartyInteractionService interactionService;
+    private final PartyInteractionMapper mapper;
+    private final PartyInteractionIdempotencyRepository idempotencyRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final IdempotencyProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ObjectWriter requestWriter;
+    private final ObjectWriter responseWriter;
+    private final ObjectReader responseReader;
+    private final IdempotencyWindow window;
+
+    public IdempotentCreateService(PartyInteractionService interactionService,
+                                   PartyInteractionMapper mapper,
+                                   PartyInteractionIdempotencyRepository idempotencyRepository,
+                                   TransactionTemplate transactionTemplate,
+                                   IdempotencyProperties properties,
+                                   MeterRegistry meterRegistry,
+                                   ObjectMapper objectMapper) {
+        this.interactionService = interactionService;
+        this.mapper = mapper;
+        this.idempotencyRepository = idempotencyRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.requestWriter = objectMapper.writer().with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+        this.responseWriter = objectMapper.writerFor(PartyInteractionDTO.class);
+        this.responseReader = objectMapper.readerFor(PartyInteractionDTO.class);
+        this.window = new IdempotencyWindow(properties.resolveStripes(), properties.getWindowSize(),
+            properties.getTtl().toNanos());
+    }
+
+    public CreateInteractionResult create(PartyInteractionCreateDTO createDTO, String idempotencyKey, String clientId) {
+        validate(idempotencyKey, clientId);
+        if (idempotencyKey == null && clientId == null) {
+            return new CreateInteractionResult(interactionService.createInteraction(createDTO), false);
+        }
+        String windowKey = idempotencyKey != null ? "key:" + idempotencyKey : "id:" + clientId;
+        String requestHash = requestHash(createDTO);
+
+        IdempotencyWindow.Created known = window.get(windowKey);
+        if (known != null) {
+            requireSameRequest(windowKey, known.requestHash(), requestHash);
+            CreateInteractionResult replay = replay(known.interactionId(), known.response(), "memory");
+            if (replay != null) {
+                return replay;
+            }
+            window.remove(windowKey);
+        }
+        boolean staleKey = false;
+        if (idempotencyKey != null) {
+            PartyInteractionIdempotency row = idempotencyRepository.findById(idempotencyKey).orElse(null);
+            if (row != null) {
+                if (row.getCreatedAt().isAfter(LocalDateTime.now().minus(properties.getTtl()))) {
+                    requireSameRequest(windowKey, row.getRequestHash(), requestHash);
+                    CreateInteractionResult replay = replay(row.getInteractionId(), row.getResponse(), "table");
+                    if (replay != null) {
+                        window.put(windowKey, row.getInteractionId(), requestHash, row.getResponse());
+                        return replay;
+                    }
+                }
+                staleKey = true;
+            }
+        }
+
+        String interactionId = clientId != null ? clientId : mapper.newInteractionId();
+        boolean replaceKey = staleKey;
+        try {
+            // flush pelo repositório: a violação da restrição única chega traduzida como DataIntegrityViolationException
+            Creation created = transactionTemplate.execute(status -> {
+                PartyInteractionDTO result = interactionService.createInteraction(createDTO, interactionId);
+                String response = writeResponse(result);
+                if (idempotencyKey != null) {
+                    if (replaceKey) {
+                        idempotencyRepository.deleteKey(idempotencyKey);
+                    }
+                    idempotencyRepository.insert(idempotencyKey, interactionId, requestHash, LocalDateTime.now(), response);
+                }
+                idempotencyRepository.flush();
+                return new Creation(result, response);
+            });
+            window.put(windowKey, interactionId, requestHash, created.response());
+            return new CreateInteractionResult(created.interaction(), false);
+        } catch (DataIntegrityViolationException e) {
+            PartyInteractionIdempotency row = idempotencyKey != null
+                ? idempotencyRepository.findById(idempotencyKey).orElse(null)
+                : null;
+            if (row != null) {
+                requireSameRequest(windowKey, row.getRequestHash(), requestHash);
+            }
+            String existingId = row != null ? row.getInteractionId() : clientId;
+            String response = row != null ? row.getResponse() : null;
+            CreateInteractionResult replay = existingId != null ? replay(existingId, response, "conflict") : null;
+            if (replay == null) {
+                throw e;
+            }
+            window.put(windowKey, existingId, requestHash, response);
+            return replay;
+        }
+    }
+
+    /**
+     * Remove da tabela as chaves fora da janela de idempotência
+     */
+    @Scheduled(cron = "${interaction.idempotency.cleanup-cron:0 30 * * * *}")
+    public void purgeExpiredKeys() {
+        LocalDateTime before = LocalDateTime.now().minus(properties.getTtl());
+        Integer removed = transactionTemplate.execute(status -> idempotencyRepository.deleteCreatedBefore(before));
+        if (removed != null && removed > 0) {
+            log.info("Removidas {} chaves de idempotência expiradas", removed);
+        }
+    }
+
+    /**
+     * Resposta original gravada na criação; sem ela (ID do cliente fora da janela), o estado atual da interação
+     */
+    private CreateInteractionResult replay(String interactionId, String response, String source) {
+        PartyInteractionDTO existing = response != null
+            ? readResponse(interactionId, response)
+            : null;
+        if (existing == null) {
+            existing = interactionService.getInteractionById(interactionId);
+        }
+        if (existing == null) {
+            return null;
+        }
+        meterRegistry.counter("interaction.idempotency.replays", "source", source).increment();
+        return new CreateInteractionResult(existing, true);
+    }
+
+    private String writeResponse(PartyInteractionDTO created) {
+        try {
+            return responseWriter.writeValueAsString(created);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha ao serializar a resposta original", e);
+        }
+    }
+
+    private PartyInteractionDTO readResponse(String interactionId, String response) {
+        try {
+            return responseReader.readValue(response);
+        } catch (JsonProcessingException e) {
+            log.warn("Resposta original da interação {} ilegível; devolvendo o estado atual", interactionId, e);
+            return null;
+        }
+    }
+
+    /**
+     * SHA-256 do corpo serializado com as chaves de mapas ordenadas
+     */
+    String requestHash(PartyInteractionCreateDTO createDTO) {
+        try {
+            byte[] body = requestWriter.writeValueAsBytes(createDTO);
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Falha ao calcular a impressão da requisição", e);
+        }
+    }
+
+    private void requireSameRequest(String windowKey, String originalHash, String requestHash) {
+        if (!originalHash.equals(requestHash)) {
+            meterRegistry.counter("interaction.idempotency.rejected").increment();
+            throw new IdempotencyKeyReuseException(windowKey);
+        }
+    }
+
+    private void validate(String idempotencyKey, String clientId) {
+        if (idempotencyKey != null && (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH)) {
+            throw new IllegalArgumentException("Idempotency-Key deve ter entre 1 e " + MAX_KEY_LENGTH + " caracteres");
+        }
+        if (clientId != null && (clientId.length() > MAX_ID_LENGTH || !CLIENT_ID.matcher(clientId).matches())) {
+            throw new IllegalArgumentException("ID da interação inválido: " + clientId);
+        }
+    }
+
+    private record Creation(PartyInteractionDTO interaction, String response) {
+    }
+}
@@ -0,0 +1,109 @@
+package com.vivo.crm.interaction.application.service;
+
+import com.vivo.crm.interaction.domain.repository.PartyInteractionArchiveRepository;
+import com.vivo.crm.interaction.infrastructure.config.ArchiveProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * InteractionArchiver - Move interações encerradas e antigas para as tabelas de arquivo.
+ *
+ * Roda em blocos de chunkSize interações, um bloco por transação, com pausa entre blocos e
+ * duração máxima por execução. A execução acontece em uma thread própria para não ocupar o
+ * scheduler compartilhado com os flushes de contadores. Cada bloco registra as exclusões para a
+ * sincronização do índice de busca das outras instâncias e, após o commit, as interações movidas
+ * saem do índice local.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "interaction.archive", name = "enabled", havingValue = "true")
+public class InteractionArchiver {
+
+    private final PartyInteractionArchiveRepository archiveRepository;
+    private final InteractionSearchService searchService;
+    private final TransactionTemplate transactionTemplate;
+    private final ArchiveProperties properties;
+    private final Counter archivedCounter;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public InteractionArchiver(PartyInteractionArchiveRepository archiveRepository,
+                               InteractionSearchService searchService,
+                               TransactionTemplate transactionTemplate,
+                               ArchiveProperties properties,
+                               MeterRegistry meterRegistry) {
+        this.archiveRepository = archiveRepository;
+        this.searchService = searchService;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.archivedCounter = Counter.builder("interaction.archive.archived")
+            .description("Interações movidas para o arquivo")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${interaction.archive.cron:0 0 3 * * *}")
+    public void scheduleArchive() {
+        if (!running.compareAndSet(false, true)) {
+            log.debug("Arquivamento anterior ainda em execução");
+            return;
+        }
+        Thread.ofVirtual().name("pi-archive").start(() -> {
+            try {
+                archive();
+            } finally {
+                running.set(false);
+            }
+        });
+    }
+
+    /**
+     * Arquiva até esgotar as candidatas ou atingir maxRunDuration; retorna o total movido
+     */
+    public long archive() {
+        if (!archiveRepository.isArchiveAvailable()) {
+            return 0;
+        }
+        LocalDateTime before = LocalDateTime.now().minus(properties.getMinAge());
+        long deadline = System.nanoTime() + properties.getMaxRunDuration().toNanos();
+        int chunkSize = properties.resolveChunkSize();
+        long total = 0;
+        try {
+            int moved;
+            do {
+                List<String> ids = transactionTemplate.execute(status -> moveChunk(before, chunkSize));
+                moved = ids.size();
+                total += moved;
+                archivedCounter.increment(moved);
+                searchService.removePartyInteractions(ids);
+                if (moved == chunkSize) {
+                    Thread.sleep(properties.getPause().toMillis());
+                }
+            } while (moved == chunkSize && System.nanoTime() < deadline);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.warn("Falha no arquivamento, nova tentativa na próxima execução: {}", e.getMessage());
+        }
+        if (total > 0) {
+            log.info("Arquivadas {} interações criadas antes de {}", total, before);
+        }
+        return total;
+    }
+
+    private List<String> moveChunk(LocalDateTime before, int chunkSize) {
+        List<String> ids = archiveRepository.lockCandidates(properties.getStatuses(), before, chunkSize);
+        if (!ids.isEmpty()) {
+            archiveRepository.moveToArchive(ids);
+            searchService.recordDeletes(ids);
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,352 @@
+package com.vivo.crm.interaction.application.service;
+
+import com.vivo.crm.interaction.domain.model.Interaction;
+import com.vivo.crm.interaction.domain.repository.InteractionEnrichmentClaimRepository;
+import com.vivo.crm.interaction.domain.repository.InteractionEnrichmentClaimRepository.Pending;
+import com.vivo.crm.interaction.domain.repository.InteractionRepository;
+import com.vivo.crm.interaction.infrastructure.config.EnrichmentProperties;
+import com.vivo.crm.interaction.infrastructure.enrichment.EnrichmentProvider;
+import com.vivo.crm.interaction.infrastructure.enrichment.SentimentResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * InteractionEnrichmentPipeline - Enriquecimento assíncrono de Interaction:
+ * transcrição (se há áudio) → resumo → sentimento.
+ *
+ * Cada etapa é um EnrichmentStage com fila limitada, paralelismo próprio e chamadas ao provedor
+ * em lote, com retry e backoff exponencial. A API apenas enfileira (sem bloquear); quando a fila
+ * está cheia a solicitação é recusada. O progresso fica nas colunas da própria interação, então
+ * a varredura periódica retoma itens que falharam ou se perderam em um restart.
+ *
+ * Entre instâncias, cada interação é reservada com um lease no banco (enrichment_lease_until)
+ * antes de entrar nas filas; a varredura trava as pendentes com SKIP LOCKED pelo índice de
+ * enrichment_state, então instâncias concorrentes pegam interações diferentes. Uma interação
+ * que falha volta a ser elegível quando o lease expira e, após backfill.maxAttempts tentativas,
+ * fica como FAILED (reprocessada apenas por nova solicitação na API).
+ */
+@Slf4j
+@Component
+public class InteractionEnrichmentPipeline implements SmartLifecycle {
+
+    public enum Submission {
+        ACCEPTED,
+        ALREADY_QUEUED,
+        NOTHING_TO_DO,
+        REJECTED
+    }
+
+    enum Step {
+        TRANSCRIBE,
+        SUMMARIZE,
+        SENTIMENT;
+
+        String stageName() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private final InteractionRepository interactionRepository;
+    private final InteractionEnrichmentClaimRepository claimRepository;
+    private final EnrichmentProvider provider;
+    private final InteractionSearchService searchService;
+    private final TransactionTemplate transactionTemplate;
+    private final EnrichmentProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<Step, EnrichmentStage> stages = new EnumMap<>(Step.class);
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+    private final Counter completedCounter;
+    private final Counter failedCounter;
+    private final Counter deadLetterCounter;
+
+    private volatile boolean running;
+
+    public InteractionEnrichmentPipeline(InteractionRepository interactionRepository,
+                                         InteractionEnrichmentClaimRepository claimRepository,
+                                         EnrichmentProvider provider,
+                                         InteractionSearchService searchService,
+                                         TransactionTemplate transactionTemplate,
+                                         EnrichmentProperties properties,
+                                         MeterRegistry meterRegistry) {
+        this.interactionRepository = interactionRepository;
+        this.claimRepository = claimRepository;
+        this.provider = provider;
+        this.searchService = searchService;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        for (Step step : Step.values()) {
+            stages.put(step, new EnrichmentStage(step.stageName(), properties.stage(step.stageName()),
+                ids -> process(step, ids), meterRegistry));
+        }
+        this.completedCounter = Counter.builder("interaction.enrichment.items")
+            .description("Interações que concluíram o pipeline")
+            .tag("outcome", "completed")
+            .register(meterRegistry);
+        this.failedCounter = Counter.builder("interaction.enrichment.items")
+            .description("Interações que esgotaram as tentativas em algum estágio")
+            .tag("outcome", "failed")
+            .register(meterRegistry);
+        this.deadLetterCounter = Counter.builder("interaction.enrichment.items")
+            .description("Interações marcadas como FAILED após backfill.maxAttempts tentativas")
+            .tag("outcome", "dead_letter")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Enfileira a interação na próxima etapa pendente; null se a interação não existe
+     */
+    public Submission submit(String interactionId) {
+        return interactionRepository.findById(interactionId)
+            .map(this::submit)
+            .orElse(null);
+    }
+
+    private Submission submit(Interaction interaction) {
+        Step step = route(interaction);
+        if (step == null) {
+            return Submission.NOTHING_TO_DO;
+        }
+        if (!running) {
+            return Submission.REJECTED;
+        }
+        if (inFlight.contains(interaction.getId())
+            || !claimRepository.claim(interaction.getId(), properties.getBackfill().getLease())) {
+            return Submission.ALREADY_QUEUED;
+        }
+        return enqueue(interaction.getId(), step) ? Submission.ACCEPTED : Submission.REJECTED;
+    }
+
+    /**
+     * Coloca na fila da etapa uma interação já reservada; com a fila cheia libera o lease
+     */
+    private boolean enqueue(String id, Step step) {
+        if (!inFlight.add(id)) {
+            return true;
+        }
+        if (running && stages.get(step).offer(id)) {
+            return true;
+        }
+        inFlight.remove(id);
+        claimRepository.release(List.of(id));
+        return false;
+    }
+
+    @Scheduled(fixedDelayString = "${interaction.enrichment.backfill.interval:60000}")
+    public void backfill() {
+        if (!running) {
+            return;
+        }
+        EnrichmentProperties.Backfill backfill = properties.getBackfill();
+        List<String> claimed = transactionTemplate.execute(status -> {
+            List<String> leased = new ArrayList<>();
+            List<String> exhausted = new ArrayList<>();
+            for (Pending pending : claimRepository.lockPending(backfill.getBatchSize())) {
+                (pending.attempts() >= backfill.getMaxAttempts() ? exhausted : leased).add(pending.id());
+            }
+            claimRepository.markFailed(exhausted);
+            deadLetterCounter.increment(exhausted.size());
+            claimRepository.lease(leased, backfill.getLease());
+            return leased;
+        });
+        if (claimed.isEmpty()) {
+            return;
+        }
+
+        List<String> completed = new ArrayList<>();
+        List<String> unqueued = new ArrayList<>(claimed);
+        int accepted = 0;
+        for (Interaction interaction : interactionRepository.findAllById(claimed)) {
+            Step step = route(interaction);
+            if (step == null) {
+                completed.add(interaction.getId());
+            } else if (enqueue(interaction.getId(), step)) {
+                accepted++;
+            } else {
+                break;
+            }
+            unqueued.remove(interaction.getId());
+        }
+        claimRepository.complete(completed);
+        claimRepository.release(unqueued);
+        if (accepted > 0) {
+            log.info("Varredura de enriquecimento enfileirou {} interações", accepted);
+        }
+    }
+
+    private void process(Step step, List<String> ids) {
+        Set<String> unresolved = new HashSet<>(ids);
+        try {
+            List<Interaction> pending = new ArrayList<>();
+            for (Interaction interaction : interactionRepository.findAllById(ids)) {
+                if (route(interaction) == step) {
+                    pending.add(interaction);
+                } else {
+                    forward(interaction, unresolved);
+                }
+            }
+            if (pending.isEmpty()) {
+                return;
+            }
+
+            List<String> inputs = pending.stream()
+                .map(interaction -> step == Step.TRANSCRIBE ? interaction.getAudioUrl() : textOf(interaction))
+                .toList();
+            List<?> results = callWithRetry(step, inputs);
+            Map<String, Object> resultById = new HashMap<>();
+            for (int i = 0; i < pending.size(); i++) {
+                resultById.put(pending.get(i).getId(), results.get(i));
+            }
+
+            List<Interaction> updated = transactionTemplate.execute(status -> {
+                List<Interaction> managed = interactionRepository.findAllById(resultById.keySet());
+                for (Interaction interaction : managed) {
+                    apply(step, interaction, resultById.get(interaction.getId()));
+                    if (route(interaction) == null) {
+                        interaction.completeEnrichment();
+                    }
+                }
+                return managed;
+            });
+            // transcrição e resumo entram na busca full-text
+            searchService.indexInteractions(updated);
+            for (Interaction interaction : updated) {
+                forward(interaction, unresolved);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            // o lease é mantido: a interação volta para a varredura quando ele expirar
+            failedCounter.increment(unresolved.size());
+            log.warn("Estágio {} falhou para {} interações após {} tentativas: {}",
+                step.stageName(), unresolved.size(), properties.getRetry().getMaxAttempts(), e.getMessage());
+        } finally {
+            inFlight.removeAll(unresolved);
+        }
+    }
+
+    /**
+     * Encaminha para a próxima etapa pendente, ou conclui; bloqueia se a fila seguinte está cheia
+     */
+    private void forward(Interaction interaction, Set<String> unresolved) throws InterruptedException {
+        Step next = route(interaction);
+        unresolved.remove(interaction.getId());
+        if (next == null) {
+            if (interaction.getEnrichmentState() != null) {
+                claimRepository.complete(List.of(interaction.getId()));
+            }
+            inFlight.remove(interaction.getId());
+            completedCounter.increment();
+            return;
+        }
+        try {
+            stages.get(next).put(interaction.getId());
+        } catch (InterruptedException e) {
+            inFlight.remove(interaction.getId());
+            throw e;
+        }
+    }
+
+    private List<?> callWithRetry(Step step, List<String> inputs) throws InterruptedException {
+        EnrichmentProperties.Retry retry = properties.getRetry();
+        long backoff = retry.getInitialBackoff().toMillis();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                List<?> results = call(step, inputs);
+                if (results.size() != inputs.size()) {
+                    throw new IllegalStateException("Provedor retornou " + results.size() + " resultados para " + inputs.size() + " itens");
+                }
+                return results;
+            } catch (RuntimeException e) {
+                if (attempt >= retry.getMaxAttempts()) {
+                    throw e;
+                }
+                meterRegistry.counter("interaction.enrichment.retries", "stage", step.stageName()).increment();
+                log.debug("Tentativa {} do estágio {} falhou: {}", attempt, step.stageName(), e.getMessage());
+                // full jitter evita que workers retentem em sincronia contra o provedor
+                Thread.sleep(ThreadLocalRandom.current().nextLong(backoff / 2, backoff + 1));
+                backoff = Math.min(backoff * 2, retry.getMaxBackoff().toMillis());
+            }
+        }
+    }
+
+    private List<?> call(Step step, List<String> inputs) {
+        return switch (step) {
+            case TRANSCRIBE -> provider.transcribe(inputs);
+            case SUMMARIZE -> provider.summarize(inputs);
+            case SENTIMENT -> provider.analyzeSentiment(inputs);
+        };
+    }
+
+    private static void apply(Step step, Interaction interaction, Object result) {
+        switch (step) {
+            case TRANSCRIBE -> interaction.addTranscription((String) result);
+            case SUMMARIZE -> interaction.addSummary((String) result);
+            case SENTIMENT -> {
+                SentimentResult sentiment = (SentimentResult) result;
+                interaction.analyzeSentiment(sentiment.getSentiment(), sentiment.getScore());
+            }
+        }
+    }
+
+    static Step route(Interaction interaction) {
+        if (interaction.hasAudio() && !interaction.hasTranscription()) {
+            return Step.TRANSCRIBE;
+        }
+        String text = textOf(interaction);
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+        if (interaction.getSummary() == null) {
+            return Step.SUMMARIZE;
+        }
+        if (interaction.getSentiment() == null) {
+            return Step.SENTIMENT;
+        }
+        return null;
+    }
+
+    private static String textOf(Interaction interaction) {
+        return interaction.hasTranscription() ? interaction.getTranscription() : interaction.getContent();
+    }
+
+    @Override
+    public void start() {
+        stages.values().forEach(EnrichmentStage::start);
+        running = true;
+        log.info("Pipeline de enriquecimento iniciado com provedor {}", properties.getProvider());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        stages.values().forEach(EnrichmentStage::stop);
+        inFlight.clear();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public boolean isAutoStartup() {
+        return properties.isEnabled();
+    }
+}
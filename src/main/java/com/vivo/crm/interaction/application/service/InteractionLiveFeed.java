@@ -0,0 +1,243 @@
+package com.vivo.crm.interaction.application.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vivo.crm.interaction.application.dto.LiveFeedFilter;
+import com.vivo.crm.interaction.application.dto.LiveInteractionEventDTO;
+import com.vivo.crm.interaction.application.event.PartyInteractionChangedEvent;
+import com.vivo.crm.interaction.application.event.PartyInteractionChangedEvent.Type;
+import com.vivo.crm.interaction.infrastructure.config.LiveFeedProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.Disposable;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * InteractionLiveFeed - Distribuição em processo das alterações de PartyInteraction para o feed SSE.
+ *
+ * Os eventos confirmados (criação, mudança de status, exclusão) publicados pelo
+ * PartyInteractionService entram em uma fila limitada e são distribuídos por uma única thread
+ * para sinks multicast: um global (assinaturas sem partyId) e um por party com assinantes, de
+ * modo que cada evento só percorre os assinantes que podem recebê-lo. O JSON é gerado uma vez
+ * por evento no dispatcher; a thread do dispatcher só filtra e enfileira, e a entrega de cada
+ * assinante (escrita na conexão) segue no scheduler parallel. Cada assinante tem buffer próprio
+ * e limitado (cliente lento perde eventos, contabilizados, sem atrasar os demais) e recebe o
+ * heartbeat de um único timer compartilhado; nenhuma thread é mantida por conexão.
+ */
+@Slf4j
+@Component
+public class InteractionLiveFeed implements SmartLifecycle {
+
+    private static final ServerSentEvent<String> HEARTBEAT = ServerSentEvent.<String>builder().comment("heartbeat").build();
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(5);
+
+    private final LiveFeedProperties properties;
+    private final ObjectMapper objectMapper;
+    private final Sinks.Many<EncodedEvent> globalSink = Sinks.many().multicast().directBestEffort();
+    private final Sinks.Many<ServerSentEvent<String>> heartbeatSink = Sinks.many().multicast().directBestEffort();
+    private final Map<String, PartySink> partySinks = new ConcurrentHashMap<>();
+    private final AtomicInteger subscribers = new AtomicInteger();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicLong sequence = new AtomicLong();
+    private final Counter intakeDropped;
+    private final Counter subscriberDropped;
+    private final Counter rejected;
+
+    private volatile Scheduler dispatcher;
+    private volatile Disposable heartbeat;
+    private volatile boolean running;
+
+    public InteractionLiveFeed(LiveFeedProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        Gauge.builder("interaction.live-feed.subscribers", subscribers, AtomicInteger::get)
+            .description("Conexões SSE abertas")
+            .register(meterRegistry);
+        this.intakeDropped = Counter.builder("interaction.live-feed.dropped")
+            .description("Eventos descartados com a fila de distribuição cheia")
+            .tag("stage", "intake")
+            .register(meterRegistry);
+        this.subscriberDropped = Counter.builder("interaction.live-feed.dropped")
+            .description("Eventos descartados com o buffer do assinante cheio")
+            .tag("stage", "subscriber")
+            .register(meterRegistry);
+        this.rejected = Counter.builder("interaction.live-feed.rejected")
+            .description("Assinaturas recusadas pelo limite de conexões")
+            .register(meterRegistry);
+    }
+
+    @TransactionalEventListener
+    public void onInteractionChanged(PartyInteractionChangedEvent event) {
+        if (!running || event.getType() == Type.UPDATED) {
+            return;
+        }
+        if (pending.incrementAndGet() > properties.getIntakeCapacity()) {
+            pending.decrementAndGet();
+            intakeDropped.increment();
+            return;
+        }
+        LiveInteractionEventDTO delta = toDelta(event);
+        dispatcher.schedule(() -> {
+            pending.decrementAndGet();
+            dispatch(delta);
+        });
+    }
+
+    /**
+     * Fluxo SSE filtrado, com o JSON já serializado; a assinatura é recusada com 503 acima de maxSubscribers
+     */
+    public Flux<ServerSentEvent<String>> subscribe(LiveFeedFilter filter) {
+        return Flux.defer(() -> {
+            if (!running) {
+                return Flux.error(new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Feed indisponível"));
+            }
+            if (subscribers.incrementAndGet() > properties.getMaxSubscribers()) {
+                subscribers.decrementAndGet();
+                rejected.increment();
+                return Flux.error(new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                    "Limite de conexões do feed atingido"));
+            }
+            String partyId = filter.getPartyId();
+            Flux<EncodedEvent> source = partyId == null
+                ? globalSink.asFlux()
+                : partySinks.compute(partyId, (id, sink) -> (sink == null ? new PartySink() : sink).retain()).asFlux();
+            int bufferSize = properties.getOverflow() == LiveFeedProperties.Overflow.LATEST
+                ? 1
+                : properties.getSubscriberBufferSize();
+            // no dispatcher só o filtro e o buffer; a entrega ao cliente segue no scheduler parallel
+            Flux<ServerSentEvent<String>> events = source
+                .filter(event -> filter.matches(event.delta()))
+                .map(EncodedEvent::sse)
+                .onBackpressureBuffer(bufferSize, dropped -> subscriberDropped.increment(), BufferOverflowStrategy.DROP_OLDEST)
+                .publishOn(Schedulers.parallel(), 1);
+            return Flux.merge(events, heartbeatSink.asFlux())
+                .doFinally(signal -> {
+                    subscribers.decrementAndGet();
+                    if (partyId != null) {
+                        partySinks.computeIfPresent(partyId, (id, sink) -> sink.release());
+                    }
+                });
+        });
+    }
+
+    /**
+     * Executado apenas na thread do dispatcher, que serializa as emissões nos sinks; o JSON é
+     * gerado aqui, uma vez, e compartilhado por todos os assinantes
+     */
+    private void dispatch(LiveInteractionEventDTO delta) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(delta);
+        } catch (JsonProcessingException e) {
+            log.warn("Evento do feed descartado para {}: {}", delta.getInteractionId(), e.getMessage());
+            return;
+        }
+        EncodedEvent event = new EncodedEvent(delta, ServerSentEvent.builder(json)
+            .id(String.valueOf(sequence.incrementAndGet()))
+            .event(delta.getType().toLowerCase(Locale.ROOT))
+            .build());
+        globalSink.tryEmitNext(event);
+        PartySink partySink = delta.getPartyId() != null ? partySinks.get(delta.getPartyId()) : null;
+        if (partySink != null) {
+            partySink.sink.tryEmitNext(event);
+        }
+    }
+
+    private static LiveInteractionEventDTO toDelta(PartyInteractionChangedEvent event) {
+        return LiveInteractionEventDTO.builder()
+            .type(event.getType().name())
+            .interactionId(event.getInteractionId())
+            .partyId(event.getPartyId())
+            .channel(event.getChannel())
+            .direction(event.getDirection())
+            .previousStatus(event.getPreviousStatus())
+            .status(event.getStatus())
+            .statusChangeReason(event.getStatusChangeReason())
+            .activeDelta(event.activeDelta())
+            .occurredAt(event.getOccurredAt())
+            .interaction(event.getType() == Type.CREATED ? event.getInteraction() : null)
+            .build();
+    }
+
+    /**
+     * Evento serializado, com o delta para os filtros dos assinantes
+     */
+    private record EncodedEvent(LiveInteractionEventDTO delta, ServerSentEvent<String> sse) {
+    }
+
+    /**
+     * Sink de uma party com contagem de assinantes; alterado apenas dentro de compute no mapa
+     */
+    private static final class PartySink {
+
+        private final Sinks.Many<EncodedEvent> sink = Sinks.many().multicast().directBestEffort();
+        private int references;
+
+        PartySink retain() {
+            references++;
+            return this;
+        }
+
+        PartySink release() {
+            return --references == 0 ? null : this;
+        }
+
+        Flux<EncodedEvent> asFlux() {
+            return sink.asFlux();
+        }
+    }
+
+    @Override
+    public void start() {
+        dispatcher = Schedulers.newSingle("pi-live-feed");
+        heartbeat = Flux.interval(properties.getHeartbeatInterval())
+            .onBackpressureDrop()
+            .subscribe(tick -> heartbeatSink.tryEmitNext(HEARTBEAT));
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        heartbeat.dispose();
+        // encerra as conexões abertas para não segurar o shutdown; na thread do dispatcher, após os eventos pendentes
+        Mono.fromRunnable(() -> {
+                globalSink.tryEmitComplete();
+                heartbeatSink.tryEmitComplete();
+                partySinks.values().forEach(partySink -> partySink.sink.tryEmitComplete());
+            })
+            .subscribeOn(dispatcher)
+            .block(SHUTDOWN_TIMEOUT);
+        dispatcher.dispose();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public boolean isAutoStartup() {
+        return properties.isEnabled();
+    }
+}
@@ -0,0 +1,123 @@
+package com.vivo.crm.interaction.application.service;
+
+import com.vivo.crm.interaction.application.dto.RelatedInteractionsDTO;
+import com.vivo.crm.interaction.application.mapper.PartyInteractionMapper;
+import com.vivo.crm.interaction.domain.entity.PartyInteractionRelationship;
+import com.vivo.crm.interaction.domain.repository.PartyInteractionRelationshipRepository;
+import com.vivo.crm.interaction.domain.repository.PartyInteractionRepository;
+import com.vivo.crm.interaction.domain.repository.PartyInteractionView;
+import com.vivo.crm.interaction.infrastructure.config.RelationshipProperties;
+import com.vivo.crm.shared.dto.tmf683.PartyInteractionDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * InteractionRelationshipService - Navegação no grafo de PARTY_INTERACTION_RELATIONSHIP.
+ *
+ * Busca em largura nível a nível: cada nível é uma consulta com lista IN de toda a fronteira
+ * (em blocos de 1000), nunca uma consulta por aresta. Arestas são seguidas nos dois sentidos;
+ * interações já visitadas não voltam para a fronteira (ciclos) e a expansão para ao atingir
+ * maxNodes. As projeções das interações são carregadas juntas ao final.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class InteractionRelationshipService {
+
+    private static final int IN_LIST_LIMIT = 1000;
+
+    private final PartyInteractionRepository interactionRepository;
+    private final PartyInteractionRelationshipRepository relationshipRepository;
+    private final PartyInteractionMapper mapper;
+    private final RelationshipProperties properties;
+
+    /**
+     * Interações relacionadas até depth saltos; retorna null se a raiz não existe
+     */
+    public RelatedInteractionsDTO getRelated(String interactionId, Integer requestedDepth) {
+        if (interactionRepository.findStatusByInteractionId(interactionId).isEmpty()) {
+            return null;
+        }
+        int depth = properties.resolveDepth(requestedDepth);
+        int maxNodes = properties.getMaxNodes();
+
+        Map<String, Integer> distances = new LinkedHashMap<>();
+        distances.put(interactionId, 0);
+        Map<Long, PartyInteractionRelationship> edges = new LinkedHashMap<>();
+        Set<String> frontier = Set.of(interactionId);
+        boolean truncated = false;
+
+        for (int level = 1; level <= depth && !frontier.isEmpty() && !truncated; level++) {
+            Set<String> next = new LinkedHashSet<>();
+            for (PartyInteractionRelationship edge : inChunks(frontier, relationshipRepository::findTouching)) {
+                String source = edge.getSourceInteractionId();
+                String target = edge.getTargetInteractionId();
+                for (String neighbor : List.of(source, target)) {
+                    if (distances.containsKey(neighbor)) {
+                        continue;
+                    }
+                    if (distances.size() >= maxNodes) {
+                        truncated = true;
+                        break;
+                    }
+                    distances.put(neighbor, level);
+                    next.add(neighbor);
+                }
+                if (distances.containsKey(source) && distances.containsKey(target)) {
+                    edges.putIfAbsent(edge.getId(), edge);
+                }
+            }
+            frontier = next;
+        }
+
+        Map<String, PartyInteractionDTO> interactions = new HashMap<>();
+        for (PartyInteractionView view : inChunks(distances.keySet(), interactionRepository::findViewsByInteractionIds)) {
+            interactions.put(view.getInteractionId(), mapper.toDTO(view));
+        }
+
+        List<RelatedInteractionsDTO.Node> nodes = new ArrayList<>(distances.size());
+        distances.forEach((id, distance) -> {
+            PartyInteractionDTO interaction = interactions.get(id);
+            if (interaction != null) {
+                nodes.add(new RelatedInteractionsDTO.Node(distance, interaction));
+            }
+        });
+        List<RelatedInteractionsDTO.Edge> relationships = edges.values().stream()
+            .filter(edge -> interactions.containsKey(edge.getSourceInteractionId())
+                && interactions.containsKey(edge.getTargetInteractionId()))
+            .map(edge -> new RelatedInteractionsDTO.Edge(
+                edge.getSourceInteractionId(), edge.getTargetInteractionId(), edge.getRelationshipType()))
+            .toList();
+
+        return RelatedInteractionsDTO.builder()
+            .rootId(interactionId)
+            .depth(depth)
+            .interactions(nodes)
+            .relationships(relationships)
+            .truncated(truncated)
+            .build();
+    }
+
+    private static <T> List<T> inChunks(Collection<String> ids, Function<Collection<String>, List<T>> query) {
+        if (ids.size() <= IN_LIST_LIMIT) {
+            return query.apply(ids);
+        }
+        List<String> all = new ArrayList<>(ids);
+        List<T> result = new ArrayList<>();
+        for (int from = 0; from < all.size(); from += IN_LIST_LIMIT) {
+            result.addAll(query.apply(all.subList(from, Math.min(from + IN_LIST_LIMIT, all.size()))));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,303 @@
+package com.vivo.crm.interaction.application.service;
+
+import com.vivo.crm.interaction.application.dto.InteractionPage;
+import com.vivo.crm.interaction.application.dto.SearchHitDTO;
+import com.vivo.crm.interaction.application.event.PartyInteractionChangedEvent;
+import com.vivo.crm.interaction.domain.model.Interaction;
+import com.vivo.crm.interaction.domain.repository.SearchDocument;
+import com.vivo.crm.interaction.domain.repository.SearchSourceRepository;
+import com.vivo.crm.interaction.domain.repository.SearchTombstoneRepository;
+import com.vivo.crm.interaction.domain.repository.TimelineSource;
+import com.vivo.crm.interaction.infrastructure.config.SearchIndexProperties;
+import com.vivo.crm.interaction.infrastructure.search.InteractionSearchIndex;
+import com.vivo.crm.shared.dto.tmf683.PartyInteractionDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * InteractionSearchService - Busca full-text sobre PartyInteraction e Interaction.
+ *
+ * O índice é atualizado após o commit pelos caminhos de escrita desta instância (eventos de
+ * PartyInteraction e enriquecimento de Interaction). A sincronização periódica relê as linhas
+ * com updated_at posterior ao watermark do último commit do índice e remove os ids registrados
+ * em SEARCH_INDEX_TOMBSTONE desde ele, cobrindo escritas e exclusões (inclusive arquivamento) de
+ * outras instâncias e alterações perdidas em um restart. Sincronização e reconstrução nunca
+ * rodam juntas: a reconstrução espera a sincronização em andamento, que é pulada enquanto ela dura.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InteractionSearchService {
+
+    private final InteractionSearchIndex index;
+    private final SearchSourceRepository sourceRepository;
+    private final SearchTombstoneRepository tombstoneRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final SearchIndexProperties properties;
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    /**
+     * Mantida pela sincronização e por toda a reconstrução
+     */
+    private final Lock maintenance = new ReentrantLock();
+
+    @TransactionalEventListener
+    public void onInteractionChanged(PartyInteractionChangedEvent event) {
+        if (!index.isRunning()) {
+            return;
+        }
+        try {
+            if (event.getType() == PartyInteractionChangedEvent.Type.DELETED) {
+                index.delete(TimelineSource.PARTY_INTERACTION, event.getInteractionId());
+            } else if (event.getInteraction() != null) {
+                PartyInteractionDTO interaction = event.getInteraction();
+                index.update(SearchDocument.ofPartyInteraction(event.getInteractionId(), event.getPartyId(),
+                    event.getChannel(), event.getStatus(), interaction.getSubject(), interaction.getDescription(),
+                    event.getCreationDate()));
+            }
+        } catch (RuntimeException e) {
+            log.warn("Falha ao indexar a interação {}, corrigida na próxima sincronização: {}",
+                event.getInteractionId(), e.getMessage());
+        }
+    }
+
+    /**
+     * Reindexa interações alteradas (transcrição/resumo); chamar após o commit
+     */
+    public void indexInteractions(Collection<Interaction> interactions) {
+        if (!index.isRunning()) {
+            return;
+        }
+        try {
+            for (Interaction interaction : interactions) {
+                index.update(SearchDocument.ofInteraction(interaction.getId(), interaction.getCustomerId(),
+                    interaction.getChannel(), interaction.getContent(), interaction.getTranscription(),
+                    interaction.getSummary(), interaction.getCreatedAt()));
+            }
+        } catch (RuntimeException e) {
+            log.warn("Falha ao indexar {} interações, corrigida na próxima sincronização: {}",
+                interactions.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * Registra PartyInteractions excluídas para a sincronização das outras instâncias; chamar na
+     * transação da exclusão. Sem efeito com o índice desligado
+     */
+    public void recordDeletes(Collection<String> interactionIds) {
+        if (properties.isEnabled() && !interactionIds.isEmpty()) {
+            tombstoneRepository.record(TimelineSource.PARTY_INTERACTION, interactionIds, LocalDateTime.now());
+        }
+    }
+
+    /**
+     * Remove do índice interações que saíram de PARTY_INTERACTION sem evento (arquivamento); chamar após o commit
+     */
+    public void removePartyInteractions(Collection<String> interactionIds) {
+        if (!index.isRunning()) {
+            return;
+        }
+        try {
+            for (String interactionId : interactionIds) {
+                index.delete(TimelineSource.PARTY_INTERACTION, interactionId);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Falha ao remover {} interações arquivadas do índice de busca: {}", interactionIds.size(), e.getMessage());
+        }
+    }
+
+    public InteractionPage<SearchHitDTO> search(String text, TimelineSource source, String partyId, String channel,
+                                                String cursor, int limit) {
+        if (text == null || text.isBlank()) {
+            throw new IllegalArgumentException("Parâmetro q é obrigatório");
+        }
+        if (text.length() > properties.getMaxQueryLength()) {
+            throw new IllegalArgumentException("Consulta com mais de " + properties.getMaxQueryLength() + " caracteres");
+        }
+        if (!index.isRunning()) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Índice de busca indisponível");
+        }
+        return index.search(text, source, partyId, channel, cursor, limit);
+    }
+
+    @Scheduled(fixedDelayString = "${interaction.search-index.refresh-interval:1000}")
+    public void refresh() {
+        try {
+            index.refresh();
+        } catch (RuntimeException e) {
+            log.warn("Falha ao reabrir o índice de busca: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Reindexa as linhas alteradas e remove as excluídas desde o último commit, e grava um novo
+     * commit; um índice sem commit (novo ou corrompido) ou com watermark anterior à retenção das
+     * exclusões é reconstruído
+     */
+    @Scheduled(fixedDelayString = "${interaction.search-index.sync-interval:30000}")
+    public void sync() {
+        if (!index.isRunning() || rebuilding.get() || !maintenance.tryLock()) {
+            return;
+        }
+        try {
+            LocalDateTime watermark = index.getCommittedWatermark();
+            if (watermark == null) {
+                if (properties.isRebuildOnStartup()) {
+                    startRebuild();
+                }
+                return;
+            }
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime since = watermark.minus(properties.getSyncOverlap());
+            if (since.isBefore(now.minus(properties.getTombstoneRetention()))) {
+                log.warn("Watermark do índice de busca ({}) anterior à retenção das exclusões, reconstruindo", watermark);
+                startRebuild();
+                return;
+            }
+            syncSince(since, now);
+        } finally {
+            maintenance.unlock();
+        }
+    }
+
+    private void syncSince(LocalDateTime since, LocalDateTime now) {
+        int fetchSize = properties.getRebuild().getFetchSize();
+        try {
+            AtomicLong synced = new AtomicLong();
+            Consumer<SearchDocument> sink = document -> {
+                index.update(document);
+                synced.incrementAndGet();
+            };
+            sourceRepository.readPartyInteractionsUpdatedSince(since, fetchSize, sink);
+            sourceRepository.readInteractionsUpdatedSince(since, fetchSize, sink);
+            AtomicLong deleted = new AtomicLong();
+            tombstoneRepository.readDeletedSince(since, (source, id) -> {
+                index.delete(source, id);
+                deleted.incrementAndGet();
+            });
+            index.commit(now);
+            log.debug("Sincronização do índice de busca: {} documentos alterados e {} excluídos desde {}",
+                synced.get(), deleted.get(), since);
+        } catch (RuntimeException e) {
+            log.warn("Falha na sincronização do índice de busca, nova tentativa no próximo ciclo: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Remove as exclusões fora da retenção, já aplicadas por todas as instâncias sincronizadas
+     */
+    @Scheduled(cron = "${interaction.search-index.tombstone-cleanup-cron:0 15 * * * *}")
+    public void purgeTombstones() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        LocalDateTime before = LocalDateTime.now().minus(properties.getTombstoneRetention());
+        try {
+            Integer removed = transactionTemplate.execute(status -> tombstoneRepository.deleteBefore(before));
+            if (removed != null && removed > 0) {
+                log.info("Removidas {} exclusões expiradas do índice de busca", removed);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Falha ao remover as exclusões expiradas do índice de busca: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Inicia a reconstrução em background; false se já há uma em andamento ou o índice está desligado
+     */
+    public boolean startRebuild() {
+        if (!index.isRunning() || !rebuilding.compareAndSet(false, true)) {
+            return false;
+        }
+        Thread.ofVirtual().name("pi-search-rebuild").start(() -> {
+            maintenance.lock();
+            try {
+                rebuild();
+            } finally {
+                maintenance.unlock();
+                rebuilding.set(false);
+            }
+        });
+        return true;
+    }
+
+    /**
+     * Relê as duas tabelas em blocos independentes (faixas de id e janelas de created_at),
+     * processados em paralelo; as buscas seguem no snapshot anterior até o commit final
+     */
+    private void rebuild() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        long start = System.nanoTime();
+        SearchIndexProperties.Rebuild settings = properties.getRebuild();
+        AtomicLong indexed = new AtomicLong();
+        Consumer<SearchDocument> sink = document -> {
+            index.update(document);
+            indexed.incrementAndGet();
+        };
+
+        List<Callable<Void>> chunks = new ArrayList<>();
+        sourceRepository.partyInteractionIdRange().ifPresent(range -> {
+            for (long from = range.min(); from <= range.max(); from += settings.getPartyInteractionChunk()) {
+                long fromId = from;
+                long toId = from + settings.getPartyInteractionChunk();
+                chunks.add(() -> {
+                    sourceRepository.readPartyInteractions(fromId, toId, settings.getFetchSize(), sink);
+                    return null;
+                });
+            }
+        });
+        sourceRepository.interactionCreatedRange().ifPresent(range -> {
+            Duration window = settings.getInteractionWindow();
+            for (LocalDateTime from = range.min(); !from.isAfter(range.max()); from = from.plus(window)) {
+                LocalDateTime windowStart = from;
+                LocalDateTime windowEnd = from.plus(window);
+                chunks.add(() -> {
+                    sourceRepository.readInteractions(windowStart, windowEnd, settings.getFetchSize(), sink);
+                    return null;
+                });
+            }
+        });
+
+        log.info("Reconstrução do índice de busca iniciada: {} blocos, paralelismo {}", chunks.size(), settings.getParallelism());
+        index.beginRebuild();
+        try (ExecutorService workers = Executors.newFixedThreadPool(Math.max(1, settings.getParallelism()),
+                Thread.ofVirtual().name("pi-search-rebuild-", 0).factory())) {
+            for (Future<Void> chunk : workers.invokeAll(chunks)) {
+                chunk.get();
+            }
+            // alterações concorrentes com a leitura dos blocos são relidas pela sincronização a partir de startedAt
+            index.finishRebuild(startedAt);
+            log.info("Índice de busca reconstruído: {} documentos em {} ms",
+                indexed.get(), Duration.ofNanos(System.nanoTime() - start).toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            index.abortRebuild();
+        } catch (ExecutionException | RuntimeException e) {
+            log.error("Falha na reconstrução do índice de busca, mantido o último commit: {}", e.getMessage());
+            index.abortRebuild();
+        }
+    }
+}
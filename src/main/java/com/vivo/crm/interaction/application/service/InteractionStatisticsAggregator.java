@@ -0,0 +1,160 @@
+package com.vivo.crm.interaction.application.service;
+
+import com.vivo.crm.interaction.application.event.PartyInteractionChangedEvent;
+import com.vivo.crm.interaction.domain.entity.PartyInteractionStatsId;
+import com.vivo.crm.interaction.domain.repository.PartyInteractionStatsRepository;
+import com.vivo.crm.interaction.infrastructure.lock.ClusterLock;
+import com.vivo.crm.shared.dto.tmf683.PartyInteractionDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * InteractionStatisticsAggregator - Mantém PARTY_INTERACTION_STATS_HOURLY incrementalmente.
+ *
+ * Cada criação, troca de status ou exclusão confirmada gera deltas por (hora de criação, canal,
+ * direção, status) acumulados em memória e somados à tabela periodicamente com MERGE, no mesmo
+ * esquema do ActiveInteractionCounter: saem do mapa só depois do commit. Ao deixar um status
+ * (troca ou exclusão), todas as medidas do estado anterior são descontadas, não só a contagem.
+ *
+ * A reconciliação recalcula a janela recente a partir de PARTY_INTERACTION para corrigir desvios
+ * (ex.: satisfação alterada após a conclusão). Roda em uma instância por vez (ClusterLock) e em um
+ * único MERGE, sem apagar a janela: horas com interações alteradas dentro de settleWindow ficam
+ * de fora, pois seus deltas podem ainda estar pendentes em alguma instância. Como no contador de
+ * ativas, uma exclusão ainda não gravada por outra instância pode gerar uma correção de ±1,
+ * desfeita na execução seguinte.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InteractionStatisticsAggregator {
+
+    static final Set<String> FINAL_STATUSES = Set.of("completed", "cancelled", "failed");
+
+    private static final String RECONCILE_LOCK = "statistics-reconcile";
+
+    // posições dos valores em cada delta
+    private static final int COUNT = 0;
+    private static final int DURATION_SUM = 1;
+    private static final int DURATION_COUNT = 2;
+    private static final int SATISFIED = 3;
+    private static final int NEUTRAL = 4;
+    private static final int DISSATISFIED = 5;
+    private static final int MEASURES = 6;
+
+    private final PartyInteractionStatsRepository statsRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ClusterLock clusterLock;
+
+    private final ConcurrentHashMap<PartyInteractionStatsId, long[]> pendingDeltas = new ConcurrentHashMap<>();
+
+    @Value("${interaction.statistics.reconcile-window:48h}")
+    private Duration reconcileWindow;
+
+    @Value("${interaction.statistics.settle-window:1m}")
+    private Duration settleWindow;
+
+    @Value("${interaction.statistics.reconcile-lease:30m}")
+    private Duration reconcileLease;
+
+    @TransactionalEventListener
+    public void onInteractionChanged(PartyInteractionChangedEvent event) {
+        if (!event.isStatusChanged() || event.getCreationDate() == null
+            || event.getChannel() == null || event.getDirection() == null) {
+            return;
+        }
+        LocalDateTime bucket = event.getCreationDate().truncatedTo(ChronoUnit.HOURS);
+        if (event.getPreviousStatus() != null) {
+            PartyInteractionStatsId previous = new PartyInteractionStatsId(
+                bucket, event.getChannel(), event.getDirection(), event.getPreviousStatus());
+            addMeasures(previous, event.getPreviousStatus(), event.getPreviousDuration(), event.getPreviousSatisfaction(), -1);
+        }
+        if (event.getStatus() == null) {
+            return;
+        }
+        PartyInteractionStatsId key = new PartyInteractionStatsId(bucket, event.getChannel(), event.getDirection(), event.getStatus());
+        PartyInteractionDTO interaction = event.getInteraction();
+        Long duration = interaction != null ? PartyInteractionChangedEvent.durationSeconds(
+            interaction.getDuration(), interaction.getInitiationDate(), interaction.getCompletionDate()) : null;
+        addMeasures(key, event.getStatus(), duration, interaction != null ? interaction.getSatisfaction() : null, 1);
+    }
+
+    /**
+     * Soma (sign = 1) ou desconta (sign = -1) a interação do agregado; duração e satisfação só contam em status finais
+     */
+    private void addMeasures(PartyInteractionStatsId key, String status, Long duration, String satisfaction, int sign) {
+        add(key, COUNT, sign);
+        if (!FINAL_STATUSES.contains(status)) {
+            return;
+        }
+        if (duration != null) {
+            add(key, DURATION_SUM, sign * duration);
+            add(key, DURATION_COUNT, sign);
+        }
+        if (satisfaction != null) {
+            switch (satisfaction) {
+                case "satisfied" -> add(key, SATISFIED, sign);
+                case "neutral" -> add(key, NEUTRAL, sign);
+                case "dissatisfied" -> add(key, DISSATISFIED, sign);
+                default -> {
+                }
+            }
+        }
+    }
+
+    private void add(PartyInteractionStatsId key, int measure, long value) {
+        pendingDeltas.compute(key, (k, delta) -> {
+            long[] values = delta != null ? delta : new long[MEASURES];
+            values[measure] += value;
+            return values;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${interaction.statistics.flush-interval:1000}")
+    public synchronized void flush() {
+        if (pendingDeltas.isEmpty()) {
+            return;
+        }
+        Map<PartyInteractionStatsId, long[]> snapshot = new HashMap<>();
+        pendingDeltas.forEach((key, delta) -> snapshot.put(key, delta.clone()));
+        try {
+            transactionTemplate.executeWithoutResult(status -> statsRepository.addDeltas(snapshot));
+        } catch (RuntimeException e) {
+            log.warn("Falha ao gravar {} agregados de estatísticas, nova tentativa no próximo ciclo: {}",
+                snapshot.size(), e.getMessage());
+            return;
+        }
+        // desconta só o que foi gravado; deltas que chegaram durante a transação continuam pendentes
+        snapshot.forEach((key, flushed) -> pendingDeltas.computeIfPresent(key, (k, delta) -> {
+            boolean empty = true;
+            for (int i = 0; i < MEASURES; i++) {
+                delta[i] -= flushed[i];
+                empty &= delta[i] == 0;
+            }
+            return empty ? null : delta;
+        }));
+    }
+
+    @Scheduled(cron = "${interaction.statistics.reconcile-cron:0 5 * * * *}")
+    public void reconcile() {
+        flush();
+        clusterLock.runExclusively(RECONCILE_LOCK, reconcileLease, () -> {
+            LocalDateTime from = LocalDateTime.now().minus(reconcileWindow).truncatedTo(ChronoUnit.HOURS);
+            LocalDateTime settledBefore = LocalDateTime.now().minus(settleWindow);
+            Integer rows = transactionTemplate.execute(status -> statsRepository.reconcileFrom(from, settledBefore));
+            log.info("Estatísticas de interações reconciliadas a partir de {} ({} agregados corrigidos)", from, rows);
+        });
+    }
+}
@@ -0,0 +1,100 @@
+package com.vivo.crm.interaction.application.service;
+
+import com.vivo.crm.interaction.application.dto.CaseInteractionStatsDTO;
+import com.vivo.crm.interaction.application.dto.InteractionStatisticsDTO;
+import com.vivo.crm.interaction.domain.repository.InteractionRepository;
+import com.vivo.crm.interaction.domain.repository.PartyInteractionStatsRepository;
+import com.vivo.crm.interaction.domain.repository.StatisticsDimension;
+import jakarta.persistence.Tuple;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * InteractionStatisticsService - Consultas de estatísticas servidas pelos agregados horários
+ * (PARTY_INTERACTION_STATS_HOURLY), sem varrer PARTY_INTERACTION
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class InteractionStatisticsService {
+
+    private static final String UNKNOWN = "unknown";
+
+    private final PartyInteractionStatsRepository statsRepository;
+    private final InteractionRepository interactionRepository;
+
+    public List<InteractionStatisticsDTO> getStatistics(LocalDateTime from, LocalDateTime to, List<String> groupBy,
+                                                        String channel, String direction, String status) {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("Intervalo inválido: from deve ser anterior a to");
+        }
+        Set<StatisticsDimension> dimensions = EnumSet.noneOf(StatisticsDimension.class);
+        if (groupBy != null) {
+            groupBy.forEach(name -> dimensions.add(StatisticsDimension.of(name)));
+        }
+        return statsRepository.aggregate(from, to, dimensions, channel, direction, status)
+            .stream()
+            .map(row -> toDTO(row, dimensions))
+            .collect(Collectors.toList());
+    }
+
+    private InteractionStatisticsDTO toDTO(Tuple row, Set<StatisticsDimension> dimensions) {
+        long durationCount = longOf(row, PartyInteractionStatsRepository.DURATION_COUNT);
+        return InteractionStatisticsDTO.builder()
+            .hour(dimensions.contains(StatisticsDimension.HOUR)
+                ? row.get(StatisticsDimension.HOUR.alias(), LocalDateTime.class) : null)
+            .channel(dimensions.contains(StatisticsDimension.CHANNEL)
+                ? row.get(StatisticsDimension.CHANNEL.alias(), String.class) : null)
+            .direction(dimensions.contains(StatisticsDimension.DIRECTION)
+                ? row.get(StatisticsDimension.DIRECTION.alias(), String.class) : null)
+            .status(dimensions.contains(StatisticsDimension.STATUS)
+                ? row.get(StatisticsDimension.STATUS.alias(), String.class) : null)
+            .count(longOf(row, PartyInteractionStatsRepository.INTERACTION_COUNT))
+            .averageDuration(durationCount > 0
+                ? (double) longOf(row, PartyInteractionStatsRepository.DURATION_SUM) / durationCount : null)
+            .satisfied(longOf(row, PartyInteractionStatsRepository.SATISFIED_COUNT))
+            .neutral(longOf(row, PartyInteractionStatsRepository.NEUTRAL_COUNT))
+            .dissatisfied(longOf(row, PartyInteractionStatsRepository.DISSATISFIED_COUNT))
+            .build();
+    }
+
+    private static long longOf(Tuple row, String alias) {
+        Number value = (Number) row.get(alias);
+        return value != null ? value.longValue() : 0L;
+    }
+
+    /**
+     * Resumo por caso: uma agregação limitada às interações do caso (índice idx_interactions_case)
+     */
+    public CaseInteractionStatsDTO getCaseStats(String caseId) {
+        long total = 0;
+        long durationSum = 0;
+        long durationCount = 0;
+        Map<String, Long> byChannel = new TreeMap<>();
+        Map<String, Long> bySentiment = new TreeMap<>();
+        for (Object[] row : interactionRepository.aggregateByCase(caseId)) {
+            long count = ((Number) row[2]).longValue();
+            total += count;
+            durationSum += row[3] != null ? ((Number) row[3]).longValue() : 0L;
+            durationCount += ((Number) row[4]).longValue();
+            byChannel.merge(row[0] != null ? (String) row[0] : UNKNOWN, count, Long::sum);
+            bySentiment.merge(row[1] != null ? (String) row[1] : UNKNOWN, count, Long::sum);
+        }
+        return CaseInteractionStatsDTO.builder()
+            .caseId(caseId)
+            .totalInteractions(total)
+            .averageDurationSeconds(durationCount > 0 ? (double) durationSum / durationCount : null)
+            .byChannel(byChannel)
+            .bySentiment(bySentiment)
+            .build();
+    }
+}
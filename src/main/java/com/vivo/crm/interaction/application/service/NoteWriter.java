@@ -0,0 +1,103 @@
+package com.vivo.crm.interaction.application.service;
+
+import com.vivo.crm.interaction.domain.entity.PartyInteractionNote;
+import com.vivo.crm.interaction.infrastructure.config.NoteProperties;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * NoteWriter - Inserção agrupada (group commit) em PARTY_INTERACTION_NOTE.
+ *
+ * Cada nota é um INSERT de uma linha, sem ler nem regravar as notas anteriores. Notas enviadas
+ * ao mesmo tempo (agentes e sistema) são gravadas juntas pelo BatchWriter, sem espera artificial.
+ * A transação do batch trava as interações das notas antes do INSERT ... SELECT, o mesmo lock
+ * tomado pela exclusão: uma nota nunca é gravada para uma interação excluída em paralelo, e
+ * write() informa quando a interação não existe. write() só retorna depois do commit.
+ */
+@Component
+public class NoteWriter extends BatchWriter<NoteWriter.PendingNote> {
+
+    private static final String LOCK_SQL = "SELECT interaction_id FROM PARTY_INTERACTION " +
+        "WHERE interaction_id IN (%s) FOR UPDATE";
+    private static final String INSERT_SQL = "INSERT INTO PARTY_INTERACTION_NOTE " +
+        "(interaction_id, note_id, text, author, note_date, is_system_note) " +
+        "SELECT interaction_id, ?, ?, ?, ?, ? FROM PARTY_INTERACTION WHERE interaction_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DistributionSummary batchSizes;
+
+    public NoteWriter(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate, NoteProperties properties,
+                      MeterRegistry meterRegistry) {
+        super("note-writer", transactionTemplate, properties.getQueueCapacity(), properties.getBatchSize(),
+            Duration.ZERO, meterRegistry, "interaction.notes.queue");
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSizes = DistributionSummary.builder("interaction.notes.batch.size")
+            .description("Notas gravadas por batch JDBC")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Grava a nota e aguarda o commit; false se a interação não existe. Com a fila cheia ou o
+     * writer parado grava diretamente
+     */
+    public boolean write(PartyInteractionNote note) {
+        PendingNote pending = new PendingNote(note, new CompletableFuture<>());
+        if (!offer(pending)) {
+            write(List.of(pending));
+        }
+        try {
+            return pending.done().join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    @Override
+    protected int[][] insert(List<PendingNote> batch) {
+        List<String> interactionIds = batch.stream()
+            .map(pending -> pending.note().getInteractionId())
+            .distinct()
+            .sorted()
+            .toList();
+        jdbcTemplate.queryForList(String.format(LOCK_SQL, String.join(", ", Collections.nCopies(interactionIds.size(), "?"))),
+            String.class, interactionIds.toArray());
+        return jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (statement, pending) -> {
+            PartyInteractionNote note = pending.note();
+            statement.setString(1, note.getNoteId());
+            statement.setString(2, note.getText());
+            statement.setString(3, note.getAuthor());
+            statement.setTimestamp(4, Timestamp.valueOf(note.getNoteDate()));
+            statement.setString(5, note.isSystemNote() ? "Y" : "N");
+            statement.setString(6, note.getInteractionId());
+        });
+    }
+
+    @Override
+    protected void written(List<PendingNote> batch, int[][] counts) {
+        batchSizes.record(batch.size());
+        int index = 0;
+        for (int[] chunk : counts) {
+            for (int count : chunk) {
+                batch.get(index++).done().complete(count != 0);
+            }
+        }
+    }
+
+    @Override
+    protected void rejected(PendingNote pending, RuntimeException e) {
+        pending.done().completeExceptionally(e);
+    }
+
+    record PendingNote(PartyInteractionNote note, CompletableFuture<Boolean> done) {
+    }
+}
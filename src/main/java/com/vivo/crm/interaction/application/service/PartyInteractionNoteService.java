@@ -0,0 +1,88 @@
+package com.vivo.crm.interaction.application.service;
+
+import com.vivo.crm.interaction.application.dto.InteractionPage;
+import com.vivo.crm.interaction.application.dto.NoteDTO;
+import com.vivo.crm.interaction.application.mapper.PartyInteractionMapper;
+import com.vivo.crm.interaction.domain.entity.PartyInteractionNote;
+import com.vivo.crm.interaction.domain.repository.KeysetCursor;
+import com.vivo.crm.interaction.domain.repository.PartyInteractionNoteRepository;
+import com.vivo.crm.interaction.domain.repository.PartyInteractionRepository;
+import com.vivo.crm.interaction.infrastructure.config.NoteProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * PartyInteractionNoteService - Notas de interação como sub-recurso (PARTY_INTERACTION_NOTE).
+ * Incluir uma nota custa um INSERT de uma linha, independente de quantas notas a interação já tem;
+ * a leitura é paginada por keyset (note_date, id), da mais recente para a mais antiga. É a única
+ * origem das notas: as do antigo array JSON (coluna notes) foram migradas pela V16.
+ */
+@Service
+@RequiredArgsConstructor
+public class PartyInteractionNoteService {
+
+    private final PartyInteractionRepository interactionRepository;
+    private final PartyInteractionNoteRepository noteRepository;
+    private final PartyInteractionMapper mapper;
+    private final NoteWriter noteWriter;
+    private final NoteProperties properties;
+
+    /**
+     * Inclui a nota; retorna null se a interação não existe
+     */
+    public NoteDTO addNote(String interactionId, NoteDTO note) {
+        if (note == null || note.getText() == null || note.getText().isBlank()) {
+            throw new IllegalArgumentException("text é obrigatório");
+        }
+        if (note.getText().length() > properties.getMaxTextLength()) {
+            throw new IllegalArgumentException("text excede " + properties.getMaxTextLength() + " caracteres");
+        }
+        PartyInteractionNote entity = mapper.toNote(interactionId, note, LocalDateTime.now());
+        return noteWriter.write(entity) ? mapper.toDTO(entity) : null;
+    }
+
+    /**
+     * Notas mais recentes de cada interação (até embeddedLimit), para o atributo note de fields=
+     */
+    public Map<String, List<NoteDTO>> getLatestNotes(Collection<String> interactionIds) {
+        if (interactionIds.isEmpty()) {
+            return Map.of();
+        }
+        return noteRepository.findLatestByInteractionIds(interactionIds, properties.getEmbeddedLimit()).stream()
+            .collect(Collectors.groupingBy(PartyInteractionNote::getInteractionId,
+                Collectors.mapping(mapper::toDTO, Collectors.toList())));
+    }
+
+    /**
+     * Página de notas; retorna null se a interação não existe
+     */
+    @Transactional(readOnly = true)
+    public InteractionPage<NoteDTO> getNotes(String interactionId, String cursor, int limit) {
+        KeysetCursor after = cursor != null ? KeysetCursor.decode(cursor) : null;
+        List<PartyInteractionNote> rows = after == null
+            ? noteRepository.findLatest(interactionId, Limit.of(limit + 1))
+            : noteRepository.findBefore(interactionId, after.getCreationDate(), after.getId(), Limit.of(limit + 1));
+        if (rows.isEmpty() && after == null && interactionRepository.findStatusByInteractionId(interactionId).isEmpty()) {
+            return null;
+        }
+        boolean hasNext = rows.size() > limit;
+        List<PartyInteractionNote> page = hasNext ? rows.subList(0, limit) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            PartyInteractionNote last = page.get(page.size() - 1);
+            nextCursor = new KeysetCursor(last.getNoteDate(), last.getId()).encode();
+        }
+        List<NoteDTO> items = page.stream()
+            .map(mapper::toDTO)
+            .collect(Collectors.toList());
+        return new InteractionPage<>(items, nextCursor, null);
+    }
+}
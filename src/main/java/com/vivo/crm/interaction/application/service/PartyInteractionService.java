@@ -1,19 +1,48 @@
 package com.vivo.crm.interaction.application.service;
 
+import com.vivo.crm.interaction.application.dto.InteractionPage;
+import com.vivo.crm.interaction.application.dto.NoteDTO;
+import com.vivo.crm.interaction.application.dto.StatusHistoryDTO;
+import com.vivo.crm.interaction.application.event.PartyInteractionChangedEvent;
+import com.vivo.crm.interaction.application.event.PartyInteractionChangedEvent.Type;
+import com.vivo.crm.interaction.application.exception.InteractionConflictException;
 import com.vivo.crm.interaction.application.mapper.PartyInteractionMapper;
 import com.vivo.crm.interaction.domain.entity.PartyInteraction;
+import com.vivo.crm.interaction.domain.repository.JsonAttributeFilter;
+import com.vivo.crm.interaction.domain.repository.KeysetCursor;
+import com.vivo.crm.interaction.domain.repository.OffsetLimitRequest;
+import com.vivo.crm.interaction.domain.repository.PartyInteractionArchiveRepository;
+import com.vivo.crm.interaction.domain.repository.PartyInteractionAttributeSearchRepository;
+import com.vivo.crm.interaction.domain.repository.PartyInteractionFields;
+import com.vivo.crm.interaction.domain.repository.PartyInteractionFilter;
+import com.vivo.crm.interaction.domain.repository.PartyInteractionNoteRepository;
+import com.vivo.crm.interaction.domain.repository.PartyInteractionRelationshipRepository;
 import com.vivo.crm.interaction.domain.repository.PartyInteractionRepository;
+import com.vivo.crm.interaction.domain.repository.PartyInteractionRepositoryCustom;
+import com.vivo.crm.interaction.domain.repository.PartyInteractionStatusHistoryRepository;
+import com.vivo.crm.interaction.domain.repository.PartyInteractionView;
+import com.vivo.crm.interaction.infrastructure.config.ArchiveProperties;
+import com.vivo.crm.interaction.infrastructure.config.CacheConfig;
 import com.vivo.crm.shared.dto.tmf683.PartyInteractionDTO;
 import com.vivo.crm.shared.dto.tmf683.PartyInteractionCreateDTO;
 import com.vivo.crm.shared.dto.tmf683.PartyInteractionUpdateDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.Tuple;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -25,89 +54,259 @@ import java.util.stream.Collectors;
 @Transactional
 public class PartyInteractionService {
 
+    private static final int MAX_IN_LIST = 1000;
+
     private final PartyInteractionRepository interactionRepository;
     private final PartyInteractionMapper mapper;
+    private final ActiveInteractionCounter activeInteractionCounter;
+    private final PartyInteractionStatusHistoryRepository statusHistoryRepository;
+    private final PartyInteractionNoteRepository noteRepository;
+    private final PartyInteractionNoteService noteService;
+    private final PartyInteractionRelationshipRepository relationshipRepository;
+    private final InteractionSearchService searchService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+    private final PartyInteractionArchiveRepository archiveRepository;
+    private final PartyInteractionAttributeSearchRepository attributeSearchRepository;
+    private final ArchiveProperties archiveProperties;
 
     public PartyInteractionDTO createInteraction(PartyInteractionCreateDTO createDTO) {
-        log.info("Criando nova Party Interaction: {}", createDTO.getSubject());
-        PartyInteraction entity = mapper.toEntity(createDTO);
+        return createInteraction(createDTO, mapper.newInteractionId());
+    }
+
+    public PartyInteractionDTO createInteraction(PartyInteractionCreateDTO createDTO, String interactionId) {
+        log.debug("Criando nova Party Interaction: {}", createDTO.getSubject());
+        PartyInteraction entity = mapper.toEntity(createDTO, interactionId);
         PartyInteraction saved = interactionRepository.save(entity);
-        return mapper.toDTO(saved);
+        PartyInteractionDTO result = mapper.toDTO(saved);
+        eventPublisher.publishEvent(PartyInteractionChangedEvent.of(Type.CREATED, saved, null, result));
+        return result;
     }
 
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.PARTY_INTERACTION_CACHE, key = "#interactionId", unless = "#result == null")
     public PartyInteractionDTO getInteractionById(String interactionId) {
-        return interactionRepository.findByInteractionId(interactionId)
+        return interactionRepository.findViewByInteractionId(interactionId)
             .map(mapper::toDTO)
+            .or(() -> findArchived(interactionId))
             .orElse(null);
     }
 
-    @Transactional(readOnly = true)
-    public List<PartyInteractionDTO> getInteractionsByParty(String partyId) {
-        return interactionRepository.findByOriginatingPartyId(partyId)
-            .stream()
-            .map(mapper::toDTO)
-            .collect(Collectors.toList());
+    /**
+     * Interações encerradas e antigas são movidas para o arquivo; a leitura por id as encontra lá
+     */
+    private Optional<PartyInteractionDTO> findArchived(String interactionId) {
+        if (!archiveProperties.isReadFallback()) {
+            return Optional.empty();
+        }
+        return archiveRepository.findArchived(interactionId).map(mapper::toDTO);
     }
 
     @Transactional(readOnly = true)
     public List<PartyInteractionDTO> getActiveInteractionsByParty(String partyId) {
-        return interactionRepository.findActiveByParty(partyId)
+        List<PartyInteractionDTO> result = interactionRepository.findActiveViewsByParty(partyId)
             .stream()
             .map(mapper::toDTO)
             .collect(Collectors.toList());
+        recordResultSize("getActiveInteractionsByParty", result.size());
+        return result;
     }
 
+    /**
+     * Lista paginada; com cursor usa keyset (creation_date, id), caso contrário offset.
+     * Lê limit + 1 linhas para saber se existe próxima página sem uma consulta extra.
+     */
     @Transactional(readOnly = true)
-    public List<PartyInteractionDTO> getInteractionsByStatus(String status) {
-        return interactionRepository.findByStatus(status)
-            .stream()
-            .map(mapper::toDTO)
-            .collect(Collectors.toList());
+    public InteractionPage<PartyInteractionDTO> findInteractions(PartyInteractionFilter filter, String cursor,
+                                                                 int offset, int limit, boolean includeTotal) {
+        KeysetCursor after = cursor != null ? KeysetCursor.decode(cursor) : null;
+        List<PartyInteractionView> rows = interactionRepository.search(filter, after, offset, limit + 1);
+        return toPage("findInteractions", rows, limit,
+            row -> new KeysetCursor(row.getCreationDate(), row.getId()),
+            mapper::toDTO,
+            includeTotal ? interactionRepository.count(filter) : null);
     }
 
+    /**
+     * Lista paginada com projeção TMF (fields=): seleciona apenas as colunas solicitadas
+     */
     @Transactional(readOnly = true)
-    public List<PartyInteractionDTO> getInteractionsByChannel(String channel) {
-        return interactionRepository.findByChannel(channel)
-            .stream()
-            .map(mapper::toDTO)
+    public InteractionPage<Map<String, Object>> findInteractionFields(PartyInteractionFilter filter, String cursor,
+                                                                      int offset, int limit, boolean includeTotal,
+                                                                      List<String> fields) {
+        PartyInteractionFields.validate(fields);
+        KeysetCursor after = cursor != null ? KeysetCursor.decode(cursor) : null;
+        List<Tuple> rows = interactionRepository.searchFields(filter, after, offset, limit + 1, fields);
+        Map<String, List<NoteDTO>> notes = fields.contains(PartyInteractionFields.NOTE)
+            ? noteService.getLatestNotes(rows.stream()
+                .limit(limit)
+                .map(row -> row.get(PartyInteractionFields.ID, String.class))
+                .toList())
+            : Map.of();
+        return toPage("findInteractionFields", rows, limit,
+            row -> new KeysetCursor(
+                row.get(PartyInteractionRepositoryCustom.CURSOR_CREATION_DATE, LocalDateTime.class),
+                row.get(PartyInteractionRepositoryCustom.CURSOR_ID, Long.class)),
+            row -> mapper.toFields(row, fields, notes),
+            includeTotal ? interactionRepository.count(filter) : null);
+    }
+
+    /**
+     * Busca por atributos de context_data/characteristics combinados com os filtros de coluna;
+     * paginada apenas por cursor (keyset). Na avaliação em memória uma página pode vir com menos
+     * itens que o limite e ainda assim ter próxima página
+     */
+    @Transactional(readOnly = true)
+    public InteractionPage<PartyInteractionDTO> searchByAttributes(PartyInteractionFilter filter,
+                                                                   JsonAttributeFilter attributes,
+                                                                   String cursor, int limit) {
+        KeysetCursor after = cursor != null ? KeysetCursor.decode(cursor) : null;
+        PartyInteractionAttributeSearchRepository.Result result =
+            attributeSearchRepository.searchIds(filter, attributes, after, limit + 1);
+        List<String> ids = result.interactionIds();
+        Map<String, PartyInteractionView> views = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += MAX_IN_LIST) {
+            interactionRepository.findViewsByInteractionIds(ids.subList(from, Math.min(from + MAX_IN_LIST, ids.size())))
+                .forEach(view -> views.put(view.getInteractionId(), view));
+        }
+        List<PartyInteractionView> rows = ids.stream()
+            .map(views::get)
+            .filter(Objects::nonNull)
+            .toList();
+        InteractionPage<PartyInteractionDTO> page = toPage("searchByAttributes", rows, limit,
+            row -> new KeysetCursor(row.getCreationDate(), row.getId()),
+            mapper::toDTO,
+            null);
+        if (result.scanPosition() != null) {
+            // varredura em memória interrompida: a página pode vir incompleta, e a próxima continua dali
+            page.setNextCursor(result.scanPosition().encode());
+        }
+        return page;
+    }
+
+    private <R, T> InteractionPage<T> toPage(String operation, List<R> rows, int limit,
+                                             Function<R, KeysetCursor> cursorOf,
+                                             Function<R, T> converter, Long total) {
+        boolean hasNext = rows.size() > limit;
+        List<R> page = hasNext ? rows.subList(0, limit) : rows;
+        recordResultSize(operation, page.size());
+        String nextCursor = hasNext ? cursorOf.apply(page.get(page.size() - 1)).encode() : null;
+        List<T> items = page.stream()
+            .map(converter)
             .collect(Collectors.toList());
+        return new InteractionPage<>(items, nextCursor, total);
+    }
+
+    /**
+     * Distribuição do número de linhas devolvidas por operação de leitura
+     */
+    private void recordResultSize(String operation, int size) {
+        meterRegistry.summary("interaction.result.size", "operation", operation).record(size);
     }
 
-    public PartyInteractionDTO updateInteraction(String interactionId, PartyInteractionUpdateDTO updateDTO) {
-        Optional<PartyInteraction> existing = interactionRepository.findByInteractionId(interactionId);
-        if (existing.isPresent()) {
-            PartyInteraction entity = existing.get();
-            mapper.updateEntity(entity, updateDTO);
-            PartyInteraction saved = interactionRepository.save(entity);
-            return mapper.toDTO(saved);
+    /**
+     * Atualização parcial em um único UPDATE das colunas informadas, condicionado ao status e ao
+     * updatedAt lidos imediatamente antes (como changeStatus). Lança InteractionConflictException
+     * se o status difere de expectedStatus ou se outra transação alterou a interação nesse intervalo.
+     */
+    @CacheEvict(cacheNames = CacheConfig.PARTY_INTERACTION_CACHE, key = "#interactionId")
+    public PartyInteractionDTO updateInteraction(String interactionId, PartyInteractionUpdateDTO updateDTO,
+                                                 String expectedStatus) {
+        Optional<PartyInteractionView> current = interactionRepository.findViewByInteractionId(interactionId);
+        if (current.isEmpty()) {
+            return null;
+        }
+        PartyInteractionView view = current.get();
+        if (expectedStatus != null && !expectedStatus.equals(view.getStatus())) {
+            throw new InteractionConflictException(interactionId, expectedStatus);
+        }
+        Map<String, Object> changes = mapper.toChanges(updateDTO, LocalDateTime.now());
+        int updated = interactionRepository.updateIfUnchanged(interactionId, view.getStatus(), view.getUpdatedAt(), changes);
+        if (updated == 0) {
+            if (interactionRepository.findStatusByInteractionId(interactionId).isEmpty()) {
+                return null;
+            }
+            throw new InteractionConflictException(interactionId);
         }
-        return null;
+        PartyInteractionView changed = interactionRepository.findViewByInteractionId(interactionId).orElseThrow();
+        PartyInteractionDTO result = mapper.toDTO(changed);
+        eventPublisher.publishEvent(PartyInteractionChangedEvent.of(Type.UPDATED, changed, view.getStatus(), result));
+        return result;
     }
 
+    @CacheEvict(cacheNames = CacheConfig.PARTY_INTERACTION_CACHE, key = "#interactionId")
     public void deleteInteraction(String interactionId) {
-        Optional<PartyInteraction> existing = interactionRepository.findByInteractionId(interactionId);
-        existing.ifPresent(interactionRepository::delete);
+        // lock antes do evento: o outbox ordena os eventos da interação pela ordem de gravação
+        Optional<PartyInteraction> existing = interactionRepository.lockByInteractionId(interactionId);
+        existing.ifPresent(entity -> {
+            statusHistoryRepository.deleteByInteractionId(interactionId);
+            noteRepository.deleteByInteractionId(interactionId);
+            relationshipRepository.deleteTouching(interactionId);
+            interactionRepository.delete(entity);
+            searchService.recordDeletes(List.of(interactionId));
+            eventPublisher.publishEvent(PartyInteractionChangedEvent.of(Type.DELETED, entity, entity.getStatus(), null));
+        });
     }
 
-    public PartyInteractionDTO changeStatus(String interactionId, String newStatus, String reason) {
-        Optional<PartyInteraction> existing = interactionRepository.findByInteractionId(interactionId);
-        if (existing.isPresent()) {
-            PartyInteraction entity = existing.get();
-            entity.setStatus(newStatus);
-            entity.setStatusChangeDate(LocalDateTime.now());
-            entity.setStatusChangeReason(reason);
-            if ("completed".equals(newStatus)) {
-                entity.setCompletionDate(LocalDateTime.now());
+    /**
+     * Troca de status em duas idas ao banco: a projeção sem as colunas JSON/CLOB de relacionamentos
+     * e um UPDATE condicionado ao status e ao updatedAt dessa leitura. Com o UPDATE aplicado, o novo
+     * estado é a projeção com a troca, sem reler a linha; Oracle UPDATE ... RETURNING não é
+     * acessível via JPA.
+     */
+    @CacheEvict(cacheNames = CacheConfig.PARTY_INTERACTION_CACHE, key = "#interactionId")
+    public PartyInteractionDTO changeStatus(String interactionId, String newStatus, String reason, String expectedStatus) {
+        Optional<PartyInteractionView> current = interactionRepository.findViewByInteractionId(interactionId);
+        if (current.isEmpty()) {
+            return null;
+        }
+        PartyInteractionView view = current.get();
+        if (expectedStatus != null && !expectedStatus.equals(view.getStatus())) {
+            throw new InteractionConflictException(interactionId, expectedStatus);
+        }
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime completionDate = "completed".equals(newStatus) ? now : null;
+        int updated = interactionRepository.updateStatusIfUnchanged(
+            interactionId, view.getStatus(), view.getUpdatedAt(), newStatus, reason, completionDate, now);
+        if (updated == 0) {
+            if (interactionRepository.findStatusByInteractionId(interactionId).isEmpty()) {
+                return null;
             }
-            PartyInteraction saved = interactionRepository.save(entity);
-            return mapper.toDTO(saved);
+            throw new InteractionConflictException(interactionId, view.getStatus());
+        }
+        PartyInteractionView changed = view.withStatusChange(newStatus, reason, completionDate, now);
+        PartyInteractionDTO result = mapper.toDTO(changed);
+        eventPublisher.publishEvent(PartyInteractionChangedEvent.ofStatusChange(view, changed, result));
+        return result;
+    }
+
+    /**
+     * Histórico de status paginado, do mais recente para o mais antigo; null se a interação não existe
+     */
+    @Transactional(readOnly = true)
+    public List<StatusHistoryDTO> getStatusHistory(String interactionId, int offset, int limit) {
+        List<StatusHistoryDTO> history = statusHistoryRepository
+            .findByInteractionIdOrderByChangedAtDescIdDesc(interactionId, OffsetLimitRequest.of(offset, limit))
+            .stream()
+            .map(row -> StatusHistoryDTO.builder()
+                .oldStatus(row.getOldStatus())
+                .newStatus(row.getNewStatus())
+                .changeReason(row.getChangeReason())
+                .changedBy(row.getChangedBy())
+                .changedAt(row.getChangedAt())
+                .build())
+            .collect(Collectors.toList());
+        if (history.isEmpty() && interactionRepository.findStatusByInteractionId(interactionId).isEmpty()) {
+            return null;
         }
-        return null;
+        return history;
     }
 
+    /**
+     * Contagem O(1) a partir do contador materializado; não consulta PARTY_INTERACTION
+     */
     @Transactional(readOnly = true)
     public long countActiveInteractions(String partyId) {
-        return interactionRepository.countActiveByParty(partyId);
+        return activeInteractionCounter.count(partyId);
     }
 }
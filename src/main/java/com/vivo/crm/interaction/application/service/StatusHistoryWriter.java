@@ -0,0 +1,112 @@
+package com.vivo.crm.interaction.application.service;
+
+import com.vivo.crm.interaction.application.event.PartyInteractionChangedEvent;
+import com.vivo.crm.interaction.domain.entity.PartyInteractionStatusHistory;
+import com.vivo.crm.interaction.infrastructure.config.StatusHistoryProperties;
+import com.vivo.crm.interaction.infrastructure.config.StatusHistoryProperties.Durability;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * StatusHistoryWriter - Grava PARTY_INTERACTION_STATUS_HISTORY fora do caminho da requisição.
+ *
+ * Mudanças de status confirmadas são gravadas em batch pelo BatchWriter, que agrupa até
+ * batchSize registros ou maxDelay. Registros de interações excluídas antes da gravação são
+ * ignorados pelo próprio INSERT ... SELECT e contabilizados. Depois do stop do contexto as
+ * gravações são síncronas.
+ */
+@Slf4j
+@Component
+public class StatusHistoryWriter extends BatchWriter<PartyInteractionStatusHistory> {
+
+    private static final String INSERT_SQL = "INSERT INTO PARTY_INTERACTION_STATUS_HISTORY " +
+        "(interaction_id, old_status, new_status, change_reason, changed_by, changed_at) " +
+        "SELECT interaction_id, ?, ?, ?, ?, ? FROM PARTY_INTERACTION WHERE interaction_id = ?";
+    private static final int MAX_REASON_LENGTH = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final StatusHistoryProperties properties;
+    private final Counter droppedCounter;
+    private final Counter failedCounter;
+    private final Counter orphanedCounter;
+
+    public StatusHistoryWriter(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                               StatusHistoryProperties properties, MeterRegistry meterRegistry) {
+        super("status-history-writer", transactionTemplate, properties.getQueueCapacity(), properties.getBatchSize(),
+            properties.getMaxDelay(), meterRegistry, "interaction.status_history.queue");
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.droppedCounter = Counter.builder("interaction.status_history.dropped")
+            .description("Registros de histórico descartados com a fila cheia (BEST_EFFORT)")
+            .register(meterRegistry);
+        this.failedCounter = Counter.builder("interaction.status_history.failed")
+            .description("Registros de histórico rejeitados pelo banco")
+            .register(meterRegistry);
+        this.orphanedCounter = Counter.builder("interaction.status_history.orphaned")
+            .description("Registros de histórico ignorados porque a interação foi excluída antes da gravação")
+            .register(meterRegistry);
+    }
+
+    @TransactionalEventListener
+    public void onInteractionChanged(PartyInteractionChangedEvent event) {
+        if (event.getStatus() == null || !event.isStatusChanged()) {
+            return;
+        }
+        String reason = event.getStatusChangeReason();
+        enqueue(PartyInteractionStatusHistory.builder()
+            .interactionId(event.getInteractionId())
+            .oldStatus(event.getPreviousStatus())
+            .newStatus(event.getStatus())
+            .changeReason(reason != null && reason.length() > MAX_REASON_LENGTH ? reason.substring(0, MAX_REASON_LENGTH) : reason)
+            .changedBy(event.getInteraction() != null ? event.getInteraction().getUpdatedBy() : null)
+            .changedAt(event.getOccurredAt())
+            .build());
+    }
+
+    void enqueue(PartyInteractionStatusHistory record) {
+        if (offer(record)) {
+            return;
+        }
+        if (!isRunning() || properties.getDurability() == Durability.DURABLE) {
+            write(List.of(record));
+        } else {
+            droppedCounter.increment();
+        }
+    }
+
+    @Override
+    protected int[][] insert(List<PartyInteractionStatusHistory> batch) {
+        return jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (statement, record) -> {
+            statement.setString(1, record.getOldStatus());
+            statement.setString(2, record.getNewStatus());
+            statement.setString(3, record.getChangeReason());
+            statement.setString(4, record.getChangedBy());
+            statement.setTimestamp(5, Timestamp.valueOf(record.getChangedAt()));
+            statement.setString(6, record.getInteractionId());
+        });
+    }
+
+    @Override
+    protected void written(List<PartyInteractionStatusHistory> batch, int[][] counts) {
+        long orphaned = Arrays.stream(counts).flatMapToInt(Arrays::stream).filter(count -> count == 0).count();
+        if (orphaned > 0) {
+            orphanedCounter.increment(orphaned);
+            log.debug("{} registros de histórico ignorados: interação excluída", orphaned);
+        }
+    }
+
+    @Override
+    protected void rejected(PartyInteractionStatusHistory record, RuntimeException e) {
+        failedCounter.increment();
+        log.warn("Histórico de status descartado para {}: {}", record.getInteractionId(), e.getMessage());
+    }
+}
@@ -0,0 +1,38 @@
+package com.vivo.crm.interaction.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * ClusterLockLease - Lease de uma tarefa periódica que roda em uma única instância por vez
+ * (gravado pelo ClusterLock; linhas criadas no primeiro uso)
+ */
+@Entity
+@Table(name = "CLUSTER_LOCK")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClusterLockLease {
+
+    @Id
+    @Column(name = "lock_name", length = 100)
+    private String lockName;
+
+    @Column(name = "locked_until", nullable = false)
+    private LocalDateTime lockedUntil;
+
+    @Column(name = "locked_at", nullable = false)
+    private LocalDateTime lockedAt;
+
+    @Column(name = "locked_by", nullable = false, length = 200)
+    private String lockedBy;
+}
@@ -0,0 +1,57 @@
+package com.vivo.crm.interaction.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * InteractionOutboxEvent - Evento de ciclo de vida gravado na mesma transação da alteração
+ * (transactional outbox) e publicado no Kafka pelo OutboxRelay.
+ *
+ * O id é a ordem de publicação: vem da sequence sem pool (um NEXTVAL por evento, nunca um bloco
+ * reservado por instância), obtido com o lock da linha de PARTY_INTERACTION, então é crescente
+ * por interação.
+ */
+@Entity
+@Table(name = "INTERACTION_OUTBOX", indexes = {
+    @Index(name = "idx_outbox_aggregate_id", columnList = "aggregate_id, id"),
+    @Index(name = "idx_outbox_created_at", columnList = "created_at")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InteractionOutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "interaction_outbox_seq")
+    @SequenceGenerator(name = "interaction_outbox_seq", sequenceName = "INTERACTION_OUTBOX_SEQ", allocationSize = 1)
+    private Long id;
+
+    @Column(name = "aggregate_id", nullable = false, length = 50)
+    private String aggregateId; // interaction_id, usado como chave da mensagem
+
+    @Column(name = "event_type", nullable = false, length = 50)
+    private String eventType;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "payload", columnDefinition = "JSON", nullable = false)
+    private Map<String, Object> payload;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.vivo.crm.interaction.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * PartyActiveInteractionCount - Contador materializado de interações ativas (initiated/active) por party
+ */
+@Entity
+@Table(name = "PARTY_ACTIVE_INTERACTION_COUNT")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PartyActiveInteractionCount {
+
+    @Id
+    @Column(name = "party_id", length = 50)
+    private String partyId;
+
+    @Column(name = "active_count", nullable = false)
+    private long activeCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -4,8 +4,11 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.LazyGroup;
 import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
@@ -18,10 +21,12 @@ import java.util.Map;
  */
 @Entity
 @Table(name = "PARTY_INTERACTION", indexes = {
-    @Index(name = "idx_pi_status", columnList = "status"),
-    @Index(name = "idx_pi_originating_party", columnList = "originating_party_id"),
-    @Index(name = "idx_pi_channel", columnList = "channel"),
-    @Index(name = "idx_pi_creation_date", columnList = "creation_date")
+    @Index(name = "idx_pi_status_created", columnList = "status, creation_date, id"),
+    @Index(name = "idx_pi_channel_status_created", columnList = "channel, status, creation_date, id"),
+    @Index(name = "idx_pi_direction_created", columnList = "direction, creation_date, id"),
+    @Index(name = "idx_pi_priority_status_created", columnList = "priority, status, creation_date, id"),
+    @Index(name = "idx_pi_created_id", columnList = "creation_date, id"),
+    @Index(name = "idx_pi_party_timeline", columnList = "originating_party_id, creation_date, id, interaction_id, channel, direction, status, subject")
 })
 @Data
 @Builder
@@ -29,8 +34,10 @@ import java.util.Map;
 @AllArgsConstructor
 public class PartyInteraction {
 
+    // Sequence com pooled-lo (allocationSize = INCREMENT BY da sequence) mantém o batching JDBC ativo
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "party_interaction_seq")
+    @SequenceGenerator(name = "party_interaction_seq", sequenceName = "PARTY_INTERACTION_SEQ", allocationSize = 50)
     private Long id;
 
     @Column(name = "interaction_id", unique = true, nullable = false, length = 50)
@@ -82,24 +89,45 @@ public class PartyInteraction {
     private String originatingPartyRole; // customer, agent, supervisor, etc.
 
     // JSON native support para Oracle
+    // Colunas de relacionamento carregadas sob demanda (grupo "relations", requer bytecode enhancement)
+    @Basic(fetch = FetchType.LAZY)
+    @LazyGroup("relations")
     @JdbcTypeCode(SqlTypes.JSON)
     @Column(name = "related_parties", columnDefinition = "JSON")
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private List<Map<String, Object>> relatedParties;
 
+    @Basic(fetch = FetchType.LAZY)
+    @LazyGroup("relations")
     @JdbcTypeCode(SqlTypes.JSON)
     @Column(name = "related_entities", columnDefinition = "JSON")
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private List<Map<String, Object>> relatedEntities; // Tickets, Orders, etc.
 
+    @Basic(fetch = FetchType.LAZY)
+    @LazyGroup("relations")
     @JdbcTypeCode(SqlTypes.JSON)
     @Column(name = "notes", columnDefinition = "JSON")
-    private List<Map<String, Object>> notes;
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private List<Map<String, Object>> notes; // legado, migrado para PARTY_INTERACTION_NOTE (V16)
 
+    @Basic(fetch = FetchType.LAZY)
+    @LazyGroup("relations")
     @JdbcTypeCode(SqlTypes.JSON)
     @Column(name = "attachments", columnDefinition = "JSON")
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private List<Map<String, Object>> attachments;
 
+    @Basic(fetch = FetchType.LAZY)
+    @LazyGroup("relations")
     @JdbcTypeCode(SqlTypes.JSON)
     @Column(name = "characteristics", columnDefinition = "JSON")
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private List<Map<String, Object>> characteristics;
 
     @JdbcTypeCode(SqlTypes.JSON)
@@ -0,0 +1,46 @@
+package com.vivo.crm.interaction.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * PartyInteractionIdempotency - Idempotency-Key já utilizada, a interação criada por ela, o
+ * SHA-256 do corpo da requisição original e a resposta original (JSON) devolvida nas repetições
+ */
+@Entity
+@Table(name = "PARTY_INTERACTION_IDEMPOTENCY", indexes = {
+    @Index(name = "idx_pi_idempotency_created", columnList = "created_at")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PartyInteractionIdempotency {
+
+    @Id
+    @Column(name = "idempotency_key", length = 100)
+    private String idempotencyKey;
+
+    @Column(name = "interaction_id", nullable = false, length = 50)
+    private String interactionId;
+
+    @Column(name = "request_hash", nullable = false, length = 64)
+    private String requestHash;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Lob
+    @Column(name = "response")
+    private String response;
+}
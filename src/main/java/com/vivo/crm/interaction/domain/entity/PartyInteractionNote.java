@@ -0,0 +1,49 @@
+package com.vivo.crm.interaction.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.type.YesNoConverter;
+
+import java.time.LocalDateTime;
+
+/**
+ * PartyInteractionNote - Nota de uma interação, uma linha por nota (somente inserção)
+ */
+@Entity
+@Table(name = "PARTY_INTERACTION_NOTE", indexes = {
+    @Index(name = "idx_pi_note_interaction_date", columnList = "interaction_id, note_date, id"),
+    @Index(name = "idx_pi_note_date", columnList = "note_date")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PartyInteractionNote {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "interaction_id", nullable = false, length = 50)
+    private String interactionId;
+
+    @Column(name = "note_id", nullable = false, unique = true, length = 50)
+    private String noteId;
+
+    @Lob
+    @Column(name = "text", nullable = false)
+    private String text;
+
+    @Column(name = "author", length = 100)
+    private String author;
+
+    @Column(name = "note_date", nullable = false)
+    private LocalDateTime noteDate;
+
+    @Convert(converter = YesNoConverter.class)
+    @Column(name = "is_system_note", length = 1)
+    private boolean systemNote;
+}
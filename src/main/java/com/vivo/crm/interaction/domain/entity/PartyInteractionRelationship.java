@@ -0,0 +1,40 @@
+package com.vivo.crm.interaction.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * PartyInteractionRelationship - Ligação entre duas interações (follow-up, escalonamento, transferência)
+ */
+@Entity
+@Table(name = "PARTY_INTERACTION_RELATIONSHIP", indexes = {
+    @Index(name = "idx_pi_rel_source", columnList = "source_interaction_id"),
+    @Index(name = "idx_pi_rel_target", columnList = "target_interaction_id")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PartyInteractionRelationship {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "source_interaction_id", nullable = false, length = 50)
+    private String sourceInteractionId;
+
+    @Column(name = "target_interaction_id", nullable = false, length = 50)
+    private String targetInteractionId;
+
+    @Column(name = "relationship_type", length = 100)
+    private String relationshipType;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,53 @@
+package com.vivo.crm.interaction.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * PartyInteractionStatsHourly - Agregados incrementais de PARTY_INTERACTION por hora de criação,
+ * canal, direção e status atual. Duração e satisfação são contabilizadas quando a interação
+ * chega a um status final (completed, cancelled, failed).
+ */
+@Entity
+@Table(name = "PARTY_INTERACTION_STATS_HOURLY", indexes = {
+    @Index(name = "idx_pi_stats_bucket", columnList = "bucket_hour")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PartyInteractionStatsHourly {
+
+    @EmbeddedId
+    private PartyInteractionStatsId id;
+
+    @Column(name = "interaction_count", nullable = false)
+    private long interactionCount;
+
+    @Column(name = "duration_sum", nullable = false)
+    private long durationSum; // segundos
+
+    @Column(name = "duration_count", nullable = false)
+    private long durationCount;
+
+    @Column(name = "satisfied_count", nullable = false)
+    private long satisfiedCount;
+
+    @Column(name = "neutral_count", nullable = false)
+    private long neutralCount;
+
+    @Column(name = "dissatisfied_count", nullable = false)
+    private long dissatisfiedCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,32 @@
+package com.vivo.crm.interaction.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * PartyInteractionStatsId - Chave da agregação horária: hora de criação, canal, direção e status
+ */
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PartyInteractionStatsId implements Serializable {
+
+    @Column(name = "bucket_hour", nullable = false)
+    private LocalDateTime bucketHour;
+
+    @Column(name = "channel", nullable = false, length = 50)
+    private String channel;
+
+    @Column(name = "direction", nullable = false, length = 50)
+    private String direction;
+
+    @Column(name = "status", nullable = false, length = 50)
+    private String status;
+}
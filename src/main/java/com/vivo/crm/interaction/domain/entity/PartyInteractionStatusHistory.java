@@ -0,0 +1,46 @@
+package com.vivo.crm.interaction.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * PartyInteractionStatusHistory - Trilha de auditoria das mudanças de status
+ */
+@Entity
+@Table(name = "PARTY_INTERACTION_STATUS_HISTORY", indexes = {
+    @Index(name = "idx_pi_status_hist_interaction", columnList = "interaction_id"),
+    @Index(name = "idx_pi_status_hist_date", columnList = "changed_at")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PartyInteractionStatusHistory {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "interaction_id", nullable = false, length = 50)
+    private String interactionId;
+
+    @Column(name = "old_status", length = 50)
+    private String oldStatus;
+
+    @Column(name = "new_status", nullable = false, length = 50)
+    private String newStatus;
+
+    @Column(name = "change_reason", length = 500)
+    private String changeReason;
+
+    @Column(name = "changed_by", length = 100)
+    private String changedBy;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+}
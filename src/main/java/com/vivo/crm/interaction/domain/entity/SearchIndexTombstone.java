@@ -0,0 +1,38 @@
+package com.vivo.crm.interaction.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * SearchIndexTombstone - Documento excluído das fontes da busca full-text (exclusão ou
+ * arquivamento), lido pela sincronização do índice de cada instância
+ */
+@Entity
+@Table(name = "SEARCH_INDEX_TOMBSTONE", indexes = {
+    @Index(name = "idx_tombstone_deleted_at", columnList = "deleted_at")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchIndexTombstone {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "tombstone_id")
+    private Long tombstoneId;
+
+    @Column(name = "source", nullable = false, length = 30)
+    private String source; // TimelineSource
+
+    @Column(name = "document_id", nullable = false, length = 50)
+    private String documentId;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+}
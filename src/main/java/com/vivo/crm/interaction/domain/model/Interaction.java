@@ -10,7 +10,10 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "interactions")
+@Table(name = "interactions", indexes = {
+    @Index(name = "idx_interactions_customer_timeline", columnList = "customer_id, created_at, id, channel, type, case_id, sentiment"),
+    @Index(name = "idx_interactions_enrichment", columnList = "enrichment_state, enrichment_lease_until")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -64,6 +67,15 @@ public class Interaction {
     @Column(columnDefinition = "JSON")
     private String metadata;
     
+    @Column(name = "enrichment_state", length = 10)
+    private String enrichmentState; // PENDING, FAILED; nulo quando não há etapa pendente
+    
+    @Column(name = "enrichment_attempts", nullable = false)
+    private int enrichmentAttempts;
+    
+    @Column(name = "enrichment_lease_until")
+    private LocalDateTime enrichmentLeaseUntil;
+    
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
     
@@ -74,6 +86,9 @@ public class Interaction {
     protected void onCreate() {
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
+        if (needsEnrichment()) {
+            enrichmentState = "PENDING";
+        }
     }
     
     @PreUpdate
@@ -98,6 +113,22 @@ public class Interaction {
         this.updatedAt = LocalDateTime.now();
     }
     
+    public void completeEnrichment() {
+        this.enrichmentState = null;
+        this.enrichmentLeaseUntil = null;
+    }
+    
+    /**
+     * Áudio sem transcrição, ou texto sem resumo ou sentimento
+     */
+    public boolean needsEnrichment() {
+        if (hasAudio() && !hasTranscription()) {
+            return true;
+        }
+        String text = hasTranscription() ? transcription : content;
+        return text != null && !text.isBlank() && (summary == null || sentiment == null);
+    }
+    
     public boolean hasAudio() {
         return audioUrl != null && !audioUrl.isEmpty();
     }
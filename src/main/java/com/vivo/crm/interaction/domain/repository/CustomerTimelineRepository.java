@@ -0,0 +1,122 @@
+package com.vivo.crm.interaction.domain.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * CustomerTimelineRepository - Páginas por fonte da timeline do cliente.
+ *
+ * Cada consulta é um range scan sobre o índice de cobertura da fonte (V6:
+ * idx_pi_party_timeline e idx_interactions_customer_timeline), limitado a limit linhas a
+ * partir do cursor; o custo independe da quantidade de interações do cliente.
+ */
+@Repository
+public class CustomerTimelineRepository {
+
+    private static final String PARTY_INTERACTION_SELECT =
+        "SELECT pi.id AS pk, pi.interactionId AS id, pi.creationDate AS occurredAt, pi.channel AS channel, " +
+        "pi.direction AS direction, pi.status AS status, pi.subject AS subject " +
+        "FROM PartyInteraction pi WHERE pi.originatingPartyId = :customerId ";
+    private static final String PARTY_INTERACTION_ORDER = "ORDER BY pi.creationDate DESC, pi.id DESC";
+
+    private static final String INTERACTION_SELECT =
+        "SELECT i.id AS id, i.createdAt AS occurredAt, i.channel AS channel, i.type AS type, " +
+        "i.caseId AS caseId, i.sentiment AS sentiment " +
+        "FROM Interaction i WHERE i.customerId = :customerId ";
+    private static final String INTERACTION_ORDER = "ORDER BY i.createdAt DESC, i.id DESC";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public List<TimelineEntryView> findPartyInteractions(String customerId, TimelineCursor after, int limit) {
+        String jpql = PARTY_INTERACTION_SELECT
+            + afterPredicate(TimelineSource.PARTY_INTERACTION, after, "pi.creationDate", "pi.id")
+            + PARTY_INTERACTION_ORDER;
+        TypedQuery<Tuple> query = entityManager.createQuery(jpql, Tuple.class);
+        bind(query, TimelineSource.PARTY_INTERACTION, customerId, after);
+        return page(query, limit).stream()
+            .map(row -> new TimelineEntryView(
+                TimelineSource.PARTY_INTERACTION,
+                String.valueOf(row.get("pk", Long.class)),
+                row.get("id", String.class),
+                row.get("occurredAt", LocalDateTime.class),
+                row.get("channel", String.class),
+                row.get("direction", String.class),
+                row.get("status", String.class),
+                row.get("subject", String.class),
+                null,
+                null,
+                null))
+            .toList();
+    }
+
+    public List<TimelineEntryView> findInteractions(String customerId, TimelineCursor after, int limit) {
+        String jpql = INTERACTION_SELECT
+            + afterPredicate(TimelineSource.INTERACTION, after, "i.createdAt", "i.id")
+            + INTERACTION_ORDER;
+        TypedQuery<Tuple> query = entityManager.createQuery(jpql, Tuple.class);
+        bind(query, TimelineSource.INTERACTION, customerId, after);
+        return page(query, limit).stream()
+            .map(row -> {
+                Object type = row.get("type");
+                return new TimelineEntryView(
+                    TimelineSource.INTERACTION,
+                    row.get("id", String.class),
+                    row.get("id", String.class),
+                    row.get("occurredAt", LocalDateTime.class),
+                    row.get("channel", String.class),
+                    null,
+                    null,
+                    null,
+                    type != null ? type.toString() : null,
+                    row.get("caseId", String.class),
+                    row.get("sentiment", String.class));
+            })
+            .toList();
+    }
+
+    /**
+     * Itens estritamente depois do cursor na ordem da timeline. Fontes anteriores ao cursor
+     * no desempate só entram com timestamp menor; fontes posteriores entram com o mesmo timestamp.
+     */
+    private static String afterPredicate(TimelineSource source, TimelineCursor after, String timeAttribute, String keyAttribute) {
+        if (after == null) {
+            return "";
+        }
+        int bySource = source.compareTo(after.getSource());
+        if (bySource < 0) {
+            return "AND " + timeAttribute + " < :afterTime ";
+        }
+        if (bySource > 0) {
+            return "AND " + timeAttribute + " <= :afterTime ";
+        }
+        return "AND (" + timeAttribute + " < :afterTime OR (" + timeAttribute + " = :afterTime AND "
+            + keyAttribute + " < :afterKey)) ";
+    }
+
+    private static void bind(TypedQuery<Tuple> query, TimelineSource source, String customerId, TimelineCursor after) {
+        query.setParameter("customerId", customerId);
+        if (after == null) {
+            return;
+        }
+        query.setParameter("afterTime", after.getOccurredAt());
+        if (source == after.getSource()) {
+            query.setParameter("afterKey", source == TimelineSource.PARTY_INTERACTION
+                ? (Object) Long.valueOf(after.getKey())
+                : after.getKey());
+        }
+    }
+
+    private static List<Tuple> page(TypedQuery<Tuple> query, int limit) {
+        return query.setMaxResults(limit)
+            .setHint(HibernateHints.HINT_FETCH_SIZE, limit)
+            .getResultList();
+    }
+}
@@ -0,0 +1,111 @@
+package com.vivo.crm.interaction.domain.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * InteractionEnrichmentClaimRepository - Reserva de interactions para o pipeline de enriquecimento.
+ *
+ * enrichment_state é PENDING enquanto há etapa pendente, FAILED após esgotar as tentativas e nulo
+ * quando concluído; o índice idx_interactions_enrichment só contém as linhas não concluídas. Uma
+ * instância reserva a interação gravando enrichment_lease_until (relógio do banco): as demais a
+ * ignoram até o lease expirar, que é também o intervalo entre tentativas após uma falha.
+ */
+@Repository
+@RequiredArgsConstructor
+public class InteractionEnrichmentClaimRepository {
+
+    public static final String PENDING = "PENDING";
+    public static final String FAILED = "FAILED";
+
+    private static final String LOCK_PENDING_SQL = "SELECT id, enrichment_attempts FROM interactions " +
+        "WHERE enrichment_state = 'PENDING' " +
+        "AND (enrichment_lease_until IS NULL OR enrichment_lease_until <= CURRENT_TIMESTAMP) " +
+        "FOR UPDATE SKIP LOCKED";
+
+    private static final String LEASE_SQL = "UPDATE interactions SET enrichment_attempts = enrichment_attempts + 1, " +
+        "enrichment_lease_until = CURRENT_TIMESTAMP + NUMTODSINTERVAL(?, 'SECOND') WHERE id = ?";
+
+    private static final String CLAIM_SQL = "UPDATE interactions SET enrichment_state = 'PENDING', enrichment_attempts = 1, " +
+        "enrichment_lease_until = CURRENT_TIMESTAMP + NUMTODSINTERVAL(?, 'SECOND') " +
+        "WHERE id = ? AND (enrichment_lease_until IS NULL OR enrichment_lease_until <= CURRENT_TIMESTAMP)";
+
+    private static final String FAIL_SQL = "UPDATE interactions SET enrichment_state = 'FAILED', " +
+        "enrichment_lease_until = NULL WHERE id = ?";
+
+    private static final String RELEASE_SQL = "UPDATE interactions SET enrichment_lease_until = NULL WHERE id = ?";
+
+    private static final String COMPLETE_SQL = "UPDATE interactions SET enrichment_state = NULL, " +
+        "enrichment_lease_until = NULL WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Trava até limit interações pendentes sem lease válido; deve ser chamado dentro de uma transação.
+     * O limite é aplicado na busca do cursor (não com ROWNUM), para o SKIP LOCKED pular as linhas
+     * de outra instância sem reduzir o lote.
+     */
+    public List<Pending> lockPending(int limit) {
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(LOCK_PENDING_SQL);
+            statement.setMaxRows(limit);
+            statement.setFetchSize(limit);
+            return statement;
+        }, rs -> {
+            List<Pending> pending = new ArrayList<>(limit);
+            while (rs.next()) {
+                pending.add(new Pending(rs.getString(1), rs.getInt(2)));
+            }
+            return pending;
+        });
+    }
+
+    /**
+     * Renova o lease das interações travadas por lockPending e conta a tentativa
+     */
+    public void lease(Collection<String> ids, Duration lease) {
+        jdbcTemplate.batchUpdate(LEASE_SQL, ids, ids.size(), (statement, id) -> {
+            statement.setLong(1, lease.toSeconds());
+            statement.setString(2, id);
+        });
+    }
+
+    /**
+     * Reserva uma interação solicitada pela API (reinicia as tentativas, inclusive de FAILED);
+     * false se outra instância detém o lease
+     */
+    public boolean claim(String id, Duration lease) {
+        return jdbcTemplate.update(CLAIM_SQL, lease.toSeconds(), id) == 1;
+    }
+
+    public void markFailed(Collection<String> ids) {
+        update(FAIL_SQL, ids);
+    }
+
+    /**
+     * Libera o lease (fila cheia); a interação volta a ser elegível na próxima varredura
+     */
+    public void release(Collection<String> ids) {
+        update(RELEASE_SQL, ids);
+    }
+
+    public void complete(Collection<String> ids) {
+        update(COMPLETE_SQL, ids);
+    }
+
+    private void update(String sql, Collection<String> ids) {
+        if (!ids.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, ids, ids.size(), (statement, id) -> statement.setString(1, id));
+        }
+    }
+
+    public record Pending(String id, int attempts) {
+    }
+}
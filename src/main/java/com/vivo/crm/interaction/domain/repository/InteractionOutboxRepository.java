@@ -0,0 +1,40 @@
+package com.vivo.crm.interaction.domain.repository;
+
+import com.vivo.crm.interaction.domain.entity.InteractionOutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * InteractionOutboxRepository - Tabela outbox de eventos de Party Interaction
+ */
+@Repository
+public interface InteractionOutboxRepository extends JpaRepository<InteractionOutboxEvent, Long> {
+
+    /**
+     * Próximo lote em ordem de gravação (id). O limite fica na subconsulta e o
+     * FOR UPDATE SKIP LOCKED na consulta externa, em um único comando: linhas já reservadas
+     * por outra instância são puladas, sem espera e sem lock linha a linha.
+     */
+    @Query(value = "SELECT id, aggregate_id, event_type, payload, created_at " +
+        "FROM INTERACTION_OUTBOX WHERE id IN (SELECT id FROM INTERACTION_OUTBOX ORDER BY id FETCH FIRST :limit ROWS ONLY) " +
+        "ORDER BY id FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<InteractionOutboxEvent> lockNextBatch(@Param("limit") int limit);
+
+    /**
+     * Eventos do lote com evento anterior da mesma interação pendente fora do lote (reservado por
+     * outra instância); devem aguardar para não serem publicados fora de ordem. No máximo 1000 IDs.
+     */
+    @Query(value = "SELECT e.id FROM INTERACTION_OUTBOX e WHERE e.id IN (:ids) AND EXISTS (" +
+        "SELECT 1 FROM INTERACTION_OUTBOX o WHERE o.aggregate_id = e.aggregate_id " +
+        "AND o.id < e.id AND o.id NOT IN (:ids))", nativeQuery = true)
+    List<Long> findBlockedIds(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT MIN(e.createdAt) FROM InteractionOutboxEvent e")
+    LocalDateTime findOldestCreatedAt();
+}
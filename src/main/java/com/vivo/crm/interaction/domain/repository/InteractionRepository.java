@@ -0,0 +1,28 @@
+package com.vivo.crm.interaction.domain.repository;
+
+import com.vivo.crm.interaction.domain.model.Interaction;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * InteractionRepository - JPA Repository
+ */
+@Repository
+public interface InteractionRepository extends JpaRepository<Interaction, String> {
+
+    @Modifying
+    @Query("UPDATE Interaction i SET i.attachmentCount = COALESCE(i.attachmentCount, 0) + 1, i.updatedAt = CURRENT_TIMESTAMP WHERE i.id = :id")
+    int incrementAttachmentCount(@Param("id") String id);
+
+    /**
+     * Contagem e soma de duração por (canal, sentimento) das interações do caso, via idx_interactions_case
+     */
+    @Query("SELECT i.channel, i.sentiment, COUNT(i), SUM(i.durationSeconds), COUNT(i.durationSeconds) " +
+        "FROM Interaction i WHERE i.caseId = :caseId GROUP BY i.channel, i.sentiment")
+    List<Object[]> aggregateByCase(@Param("caseId") String caseId);
+}
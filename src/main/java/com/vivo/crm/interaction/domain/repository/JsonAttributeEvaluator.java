@@ -0,0 +1,55 @@
+package com.vivo.crm.interaction.domain.repository;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JsonAttributeEvaluator - Avaliação em memória dos mesmos predicados gerados como JSON_VALUE/JSON_EXISTS,
+ * para bancos sem essas funções (H2 nos testes locais e benchmarks)
+ */
+final class JsonAttributeEvaluator {
+
+    private JsonAttributeEvaluator() {
+    }
+
+    /**
+     * contextPredicates: caminho JSON ($.a.b) → valor esperado
+     */
+    static boolean matches(Map<String, Object> contextData, List<Map<String, Object>> characteristics,
+                           Map<String, String> contextPredicates, Map<String, String> characteristicPredicates) {
+        for (Map.Entry<String, String> predicate : contextPredicates.entrySet()) {
+            if (!predicate.getValue().equals(scalarAt(contextData, predicate.getKey()))) {
+                return false;
+            }
+        }
+        for (Map.Entry<String, String> predicate : characteristicPredicates.entrySet()) {
+            if (!hasCharacteristic(characteristics, predicate.getKey(), predicate.getValue())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String scalarAt(Map<String, Object> document, String path) {
+        Object current = document;
+        for (String step : path.substring(2).split("\\.")) {
+            if (!(current instanceof Map<?, ?> object)) {
+                return null;
+            }
+            current = object.get(step);
+        }
+        return current == null || current instanceof Map || current instanceof List ? null : String.valueOf(current);
+    }
+
+    private static boolean hasCharacteristic(List<Map<String, Object>> characteristics, String name, String value) {
+        if (characteristics == null) {
+            return false;
+        }
+        for (Map<String, Object> characteristic : characteristics) {
+            if (name.equals(characteristic.get("name")) && value.equals(String.valueOf(characteristic.get("value")))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
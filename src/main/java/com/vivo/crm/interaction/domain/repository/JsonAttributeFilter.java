@@ -0,0 +1,21 @@
+package com.vivo.crm.interaction.domain.repository;
+
+import lombok.Data;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * JsonAttributeFilter - Predicados de igualdade sobre atributos JSON, combinados (AND) com PartyInteractionFilter.
+ * contextData: nome configurado do atributo → valor; characteristics: nome da característica → valor.
+ */
+@Data
+public class JsonAttributeFilter {
+
+    private final Map<String, String> contextData = new LinkedHashMap<>();
+    private final Map<String, String> characteristics = new LinkedHashMap<>();
+
+    public int size() {
+        return contextData.size() + characteristics.size();
+    }
+}
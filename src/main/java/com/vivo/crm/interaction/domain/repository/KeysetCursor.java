@@ -0,0 +1,39 @@
+package com.vivo.crm.interaction.domain.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * KeysetCursor - Posição de paginação por (creation_date, id), ordem decrescente.
+ * Codificado em Base64 URL-safe para trafegar como parâmetro opaco.
+ */
+@Data
+@AllArgsConstructor
+public class KeysetCursor {
+
+    private static final char SEPARATOR = '|';
+
+    private LocalDateTime creationDate;
+    private Long id;
+
+    public String encode() {
+        String raw = creationDate.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            return new KeysetCursor(
+                LocalDateTime.parse(raw.substring(0, separator)),
+                Long.parseLong(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Cursor inválido: " + cursor, e);
+        }
+    }
+}
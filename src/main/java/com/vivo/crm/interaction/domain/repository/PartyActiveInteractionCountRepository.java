@@ -0,0 +1,45 @@
+package com.vivo.crm.interaction.domain.repository;
+
+import com.vivo.crm.interaction.domain.entity.PartyActiveInteractionCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * PartyActiveInteractionCountRepository - Tabela resumo de interações ativas por party
+ */
+@Repository
+public interface PartyActiveInteractionCountRepository extends JpaRepository<PartyActiveInteractionCount, String> {
+
+    @Modifying
+    @Query(value = "MERGE INTO PARTY_ACTIVE_INTERACTION_COUNT t " +
+        "USING (SELECT :partyId AS party_id FROM dual) s ON (t.party_id = s.party_id) " +
+        "WHEN MATCHED THEN UPDATE SET t.active_count = t.active_count + :delta, t.updated_at = CURRENT_TIMESTAMP " +
+        "WHEN NOT MATCHED THEN INSERT (party_id, active_count, updated_at) VALUES (:partyId, :delta, CURRENT_TIMESTAMP)",
+        nativeQuery = true)
+    void addDelta(@Param("partyId") String partyId, @Param("delta") long delta);
+
+    /**
+     * Corrige em um único statement as parties cuja contagem diverge de PARTY_INTERACTION.
+     * Parties com interação alterada ou contador gravado desde settledBefore ficam de fora: seus
+     * deltas podem estar pendentes em memória em alguma instância e já estão refletidos na recontagem
+     */
+    @Modifying
+    @Query(value = "MERGE INTO PARTY_ACTIVE_INTERACTION_COUNT t " +
+        "USING (SELECT COALESCE(a.party_id, c.party_id) AS party_id, NVL(a.active_count, 0) AS active_count " +
+        "FROM (SELECT originating_party_id AS party_id, COUNT(*) AS active_count FROM PARTY_INTERACTION " +
+        "WHERE status IN ('initiated', 'active') AND originating_party_id IS NOT NULL GROUP BY originating_party_id) a " +
+        "FULL OUTER JOIN PARTY_ACTIVE_INTERACTION_COUNT c ON c.party_id = a.party_id " +
+        "WHERE NVL(a.active_count, 0) <> NVL(c.active_count, 0) " +
+        "AND NOT EXISTS (SELECT 1 FROM PARTY_INTERACTION r WHERE r.originating_party_id = COALESCE(a.party_id, c.party_id) " +
+        "AND r.updated_at >= :settledBefore)) s ON (t.party_id = s.party_id) " +
+        "WHEN MATCHED THEN UPDATE SET t.active_count = s.active_count, t.updated_at = CURRENT_TIMESTAMP " +
+        "WHERE t.updated_at < :settledBefore " +
+        "WHEN NOT MATCHED THEN INSERT (party_id, active_count, updated_at) VALUES (s.party_id, s.active_count, CURRENT_TIMESTAMP)",
+        nativeQuery = true)
+    int reconcile(@Param("settledBefore") LocalDateTime settledBefore);
+}
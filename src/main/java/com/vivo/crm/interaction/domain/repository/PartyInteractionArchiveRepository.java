@@ -0,0 +1,165 @@
+package com.vivo.crm.interaction.domain.repository;
+
+import com.vivo.crm.interaction.domain.entity.PartyInteraction;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * PartyInteractionArchiveRepository - Movimentação de interações encerradas para as tabelas de arquivo.
+ *
+ * Cada bloco trava as linhas candidatas com SKIP LOCKED (instâncias concorrentes pegam blocos
+ * diferentes), copia interação e filhas com INSERT ... SELECT convencional e remove as originais,
+ * tudo na transação do chamador. As colunas são listadas explicitamente: o arquivo só recebe o
+ * que o código conhece, e uma coluna nova na tabela de origem não desalinha a cópia.
+ *
+ * As tabelas de arquivo vêm da V10 e não são entidades: quando não existem no schema
+ * (ddl-auto create, sem as migrações), a leitura por id não encontra nada e o arquivamento não roda.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class PartyInteractionArchiveRepository {
+
+    private static final String PARTY_INTERACTION_COLUMNS = "id, interaction_id, subject, description, status, " +
+        "status_change_date, status_change_reason, channel, direction, creation_date, initiation_date, " +
+        "completion_date, duration, priority, satisfaction, originating_party_id, originating_party_role, " +
+        "related_parties, related_entities, notes, attachments, characteristics, context_data, " +
+        "created_at, created_by, updated_at, updated_by";
+    private static final String STATUS_HISTORY_COLUMNS =
+        "id, interaction_id, old_status, new_status, change_reason, changed_by, changed_at";
+    private static final String NOTE_COLUMNS = "id, interaction_id, note_id, text, author, note_date, is_system_note";
+    private static final String RELATIONSHIP_COLUMNS =
+        "id, source_interaction_id, target_interaction_id, relationship_type, created_at";
+
+    private static final String LOCK_CANDIDATES_SQL = "SELECT interaction_id FROM PARTY_INTERACTION " +
+        "WHERE status IN (%s) AND creation_date < ? FOR UPDATE SKIP LOCKED";
+
+    private static final String[] COPY_SQL = {
+        copy("PARTY_INTERACTION_STATUS_HISTORY", STATUS_HISTORY_COLUMNS, "interaction_id IN (:ids)"),
+        copy("PARTY_INTERACTION_NOTE", NOTE_COLUMNS, "interaction_id IN (:ids)"),
+        copy("PARTY_INTERACTION_RELATIONSHIP", RELATIONSHIP_COLUMNS,
+            "source_interaction_id IN (:ids) OR target_interaction_id IN (:ids)"),
+        copy("PARTY_INTERACTION", PARTY_INTERACTION_COLUMNS, "interaction_id IN (:ids)")
+    };
+
+    private static final String[] DELETE_SQL = {
+        "DELETE FROM PARTY_INTERACTION_STATUS_HISTORY WHERE interaction_id IN (:ids)",
+        "DELETE FROM PARTY_INTERACTION_NOTE WHERE interaction_id IN (:ids)",
+        "DELETE FROM PARTY_INTERACTION_RELATIONSHIP WHERE source_interaction_id IN (:ids) OR target_interaction_id IN (:ids)",
+        "DELETE FROM PARTY_INTERACTION WHERE interaction_id IN (:ids)"
+    };
+
+    private static final String ARCHIVE_TABLE = "PARTY_INTERACTION_ARCHIVE";
+
+    private static final String FIND_ARCHIVED_SQL = "SELECT " + PARTY_INTERACTION_COLUMNS +
+        " FROM " + ARCHIVE_TABLE + " WHERE interaction_id = :interactionId";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    private volatile Boolean archiveAvailable;
+
+    /**
+     * Verifica uma vez se PARTY_INTERACTION_ARCHIVE existe no schema da conexão
+     */
+    public boolean isArchiveAvailable() {
+        Boolean available = archiveAvailable;
+        if (available == null) {
+            available = jdbcTemplate.getJdbcTemplate().execute((ConnectionCallback<Boolean>) connection -> {
+                DatabaseMetaData metaData = connection.getMetaData();
+                try (ResultSet tables = metaData.getTables(connection.getCatalog(), connection.getSchema(),
+                        ARCHIVE_TABLE, new String[] {"TABLE"})) {
+                    return tables.next();
+                }
+            });
+            if (!Boolean.TRUE.equals(available)) {
+                log.warn("Tabela {} inexistente (V10 não aplicada): arquivamento e leitura do arquivo desativados", ARCHIVE_TABLE);
+            }
+            archiveAvailable = available;
+        }
+        return Boolean.TRUE.equals(available);
+    }
+
+    /**
+     * Trava até limit interações elegíveis; deve ser chamado dentro de uma transação. O limite é
+     * aplicado na busca do cursor (não com ROWNUM), para o SKIP LOCKED pular as linhas de outra
+     * instância sem reduzir o bloco.
+     */
+    public List<String> lockCandidates(Collection<String> statuses, LocalDateTime before, int limit) {
+        String sql = String.format(LOCK_CANDIDATES_SQL, String.join(", ", Collections.nCopies(statuses.size(), "?")));
+        return jdbcTemplate.getJdbcTemplate().query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql);
+            int parameter = 1;
+            for (String status : statuses) {
+                statement.setString(parameter++, status);
+            }
+            statement.setTimestamp(parameter, Timestamp.valueOf(before));
+            statement.setMaxRows(limit);
+            statement.setFetchSize(limit);
+            return statement;
+        }, rs -> {
+            List<String> ids = new ArrayList<>(limit);
+            while (rs.next()) {
+                ids.add(rs.getString(1));
+            }
+            return ids;
+        });
+    }
+
+    /**
+     * Copia as interações (e linhas filhas) para o arquivo e as remove das tabelas principais
+     */
+    public int moveToArchive(Collection<String> interactionIds) {
+        MapSqlParameterSource params = new MapSqlParameterSource("ids", interactionIds);
+        int archived = 0;
+        for (String sql : COPY_SQL) {
+            archived = jdbcTemplate.update(sql, params);
+        }
+        for (String sql : DELETE_SQL) {
+            jdbcTemplate.update(sql, params);
+        }
+        return archived;
+    }
+
+    /**
+     * Interação arquivada, mapeada para a mesma entidade (as colunas do arquivo espelham PARTY_INTERACTION)
+     */
+    public Optional<PartyInteraction> findArchived(String interactionId) {
+        if (!isArchiveAvailable()) {
+            return Optional.empty();
+        }
+        List<?> rows = entityManager.createNativeQuery(FIND_ARCHIVED_SQL, PartyInteraction.class)
+            .setParameter("interactionId", interactionId)
+            .getResultList();
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+        PartyInteraction archived = (PartyInteraction) rows.get(0);
+        entityManager.detach(archived);
+        return Optional.of(archived);
+    }
+
+    private static String copy(String table, String columns, String where) {
+        return "INSERT INTO " + table + "_ARCHIVE (" + columns + ", archived_at) SELECT " + columns +
+            ", CURRENT_TIMESTAMP FROM " + table + " WHERE " + where;
+    }
+}
@@ -0,0 +1,215 @@
+package com.vivo.crm.interaction.domain.repository;
+
+import com.vivo.crm.interaction.infrastructure.config.JsonSearchProperties;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * PartyInteractionAttributeSearchRepository - Busca por atributos de context_data e characteristics.
+ *
+ * No Oracle cada predicado vira JSON_VALUE (context_data, caminho da lista configurada, com a mesma
+ * expressão dos índices da V12) ou JSON_EXISTS sobre o array de características, combinados com os
+ * filtros de coluna e paginados por keyset (creation_date, id). Em outros bancos (H2) os filtros de
+ * coluna rodam no SQL e os predicados JSON são avaliados em memória, bloco a bloco, até
+ * maxScannedRows linhas por página; se o limite interrompe a varredura, o resultado traz a
+ * posição da última linha examinada para a próxima página continuar dali.
+ * Retorna apenas os interaction_id da página, na ordem da paginação.
+ */
+@Slf4j
+@Repository
+public class PartyInteractionAttributeSearchRepository {
+
+    private static final Pattern JSON_PATH = Pattern.compile("\\$(\\.[A-Za-z_][A-Za-z0-9_]*)+");
+
+    // Mesmo tipo de retorno das expressões indexadas na V12; divergir impede o uso do índice
+    private static final String CONTEXT_VALUE_SQL = "JSON_VALUE(pi.context_data, '%s' RETURNING VARCHAR2(100) NULL ON ERROR)";
+    private static final String CHARACTERISTIC_SQL = "JSON_EXISTS(pi.characteristics, " +
+        "'$[*]?(@.name.string() == $n && @.value.string() == $v)' PASSING :%1$sName AS \"n\", :%1$sValue AS \"v\")";
+
+    private static final Map<String, String> SQL_COLUMNS = Map.of(
+        "originatingPartyId", "pi.originating_party_id",
+        "status", "pi.status",
+        "channel", "pi.channel",
+        "direction", "pi.direction",
+        "priority", "pi.priority",
+        "creationDate", "pi.creation_date",
+        "id", "pi.id");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final JsonSearchProperties properties;
+    private final boolean evaluateInMemory;
+
+    public PartyInteractionAttributeSearchRepository(NamedParameterJdbcTemplate jdbcTemplate,
+                                                     JsonSearchProperties properties,
+                                                     DataSource dataSource) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        properties.getContextPaths().forEach((name, path) -> {
+            if (!JSON_PATH.matcher(path).matches()) {
+                throw new IllegalStateException("Caminho JSON inválido para " + name + ": " + path);
+            }
+        });
+        this.evaluateInMemory = properties.getEvaluateInMemory() != null
+            ? properties.getEvaluateInMemory()
+            : !isOracle(dataSource);
+        log.info("Busca por atributos JSON {}", evaluateInMemory ? "avaliada em memória" : "via JSON_VALUE/JSON_EXISTS");
+    }
+
+    public Result searchIds(PartyInteractionFilter filter, JsonAttributeFilter attributes,
+                            KeysetCursor after, int limit) {
+        if (attributes.size() == 0) {
+            throw new IllegalArgumentException("Informe ao menos um atributo contextData.* ou characteristic.*");
+        }
+        if (attributes.size() > properties.getMaxPredicates()) {
+            throw new IllegalArgumentException("Máximo de " + properties.getMaxPredicates() + " atributos por busca");
+        }
+        Map<String, String> contextPredicates = new LinkedHashMap<>();
+        attributes.getContextData().forEach((name, value) -> {
+            String path = properties.getContextPaths().get(name);
+            if (path == null) {
+                throw new IllegalArgumentException("Atributo não pesquisável: contextData." + name);
+            }
+            contextPredicates.put(path, value);
+        });
+        return evaluateInMemory
+            ? searchInMemory(filter, contextPredicates, attributes.getCharacteristics(), after, limit)
+            : new Result(searchSql(filter, contextPredicates, attributes.getCharacteristics(), after, limit), null);
+    }
+
+    private List<String> searchSql(PartyInteractionFilter filter, Map<String, String> contextPredicates,
+                                   Map<String, String> characteristicPredicates, KeysetCursor after, int limit) {
+        Map<String, Object> params = new HashMap<>();
+        List<String> conditions = conditions(filter, after, params, SQL_COLUMNS::get);
+        int index = 0;
+        for (Map.Entry<String, String> predicate : contextPredicates.entrySet()) {
+            String param = "ctx" + index++;
+            conditions.add(CONTEXT_VALUE_SQL.formatted(predicate.getKey()) + " = :" + param);
+            params.put(param, predicate.getValue());
+        }
+        for (Map.Entry<String, String> predicate : characteristicPredicates.entrySet()) {
+            String param = "chr" + index++;
+            conditions.add(CHARACTERISTIC_SQL.formatted(param));
+            params.put(param + "Name", predicate.getKey());
+            params.put(param + "Value", predicate.getValue());
+        }
+        params.put("limit", limit);
+        String sql = "SELECT pi.interaction_id FROM PARTY_INTERACTION pi WHERE " + String.join(" AND ", conditions) +
+            " ORDER BY pi.creation_date DESC, pi.id DESC FETCH FIRST :limit ROWS ONLY";
+        return jdbcTemplate.queryForList(sql, params, String.class);
+    }
+
+    private Result searchInMemory(PartyInteractionFilter filter, Map<String, String> contextPredicates,
+                                  Map<String, String> characteristicPredicates, KeysetCursor after, int limit) {
+        List<String> matches = new ArrayList<>(limit);
+        KeysetCursor position = after;
+        int scanned = 0;
+        while (matches.size() < limit) {
+            if (scanned >= properties.getMaxScannedRows()) {
+                return new Result(matches, position);
+            }
+            Map<String, Object> params = new HashMap<>();
+            List<String> conditions = conditions(filter, position, params, attribute -> "pi." + attribute);
+            String jpql = "SELECT pi.interactionId, pi.creationDate, pi.id, pi.contextData, pi.characteristics " +
+                "FROM PartyInteraction pi" + (conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions)) +
+                " ORDER BY pi.creationDate DESC, pi.id DESC";
+            TypedQuery<Object[]> query = entityManager.createQuery(jpql, Object[].class)
+                .setMaxResults(properties.getScanChunkSize());
+            params.forEach((name, value) -> query.setParameter(name,
+                value instanceof Timestamp timestamp ? timestamp.toLocalDateTime() : value));
+            List<Object[]> rows = query.getResultList();
+            for (Object[] row : rows) {
+                @SuppressWarnings("unchecked")
+                boolean match = JsonAttributeEvaluator.matches(
+                    row[3] != null ? (Map<String, Object>) row[3] : Map.of(),
+                    (List<Map<String, Object>>) row[4],
+                    contextPredicates, characteristicPredicates);
+                if (match && matches.size() < limit) {
+                    matches.add((String) row[0]);
+                }
+            }
+            scanned += rows.size();
+            if (rows.size() < properties.getScanChunkSize()) {
+                break;
+            }
+            Object[] last = rows.get(rows.size() - 1);
+            position = new KeysetCursor((LocalDateTime) last[1], (Long) last[2]);
+        }
+        return new Result(matches, null);
+    }
+
+    /**
+     * Filtros de coluna e posição do keyset; column converte o atributo para coluna SQL ou caminho JPQL
+     */
+    private static List<String> conditions(PartyInteractionFilter filter, KeysetCursor after,
+                                           Map<String, Object> params, Function<String, String> column) {
+        List<String> conditions = new ArrayList<>();
+        addEquals(conditions, params, column, "originatingPartyId", filter.getPartyId());
+        addEquals(conditions, params, column, "status", filter.getStatus());
+        addEquals(conditions, params, column, "channel", filter.getChannel());
+        addEquals(conditions, params, column, "direction", filter.getDirection());
+        addEquals(conditions, params, column, "priority", filter.getPriority());
+        if (filter.isActiveOnly()) {
+            conditions.add(column.apply("status") + " IN ('initiated', 'active')");
+        }
+        if (filter.getCreationDateFrom() != null) {
+            conditions.add(column.apply("creationDate") + " >= :creationDateFrom");
+            params.put("creationDateFrom", Timestamp.valueOf(filter.getCreationDateFrom()));
+        }
+        if (filter.getCreationDateTo() != null) {
+            conditions.add(column.apply("creationDate") + " < :creationDateTo");
+            params.put("creationDateTo", Timestamp.valueOf(filter.getCreationDateTo()));
+        }
+        if (after != null) {
+            conditions.add("(" + column.apply("creationDate") + " < :afterDate OR (" + column.apply("creationDate") +
+                " = :afterDate AND " + column.apply("id") + " < :afterId))");
+            params.put("afterDate", Timestamp.valueOf(after.getCreationDate()));
+            params.put("afterId", after.getId());
+        }
+        return conditions;
+    }
+
+    private static void addEquals(List<String> conditions, Map<String, Object> params,
+                                  Function<String, String> column, String attribute, String value) {
+        if (value != null) {
+            conditions.add(column.apply(attribute) + " = :" + attribute);
+            params.put(attribute, value);
+        }
+    }
+
+    private static boolean isOracle(DataSource dataSource) {
+        try {
+            String product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            return product != null && product.toLowerCase(Locale.ROOT).contains("oracle");
+        } catch (MetaDataAccessException e) {
+            return true;
+        }
+    }
+
+    /**
+     * IDs encontrados e, se a varredura em memória parou em maxScannedRows, a posição da última linha examinada
+     */
+    public record Result(List<String> interactionIds, KeysetCursor scanPosition) {
+    }
+}
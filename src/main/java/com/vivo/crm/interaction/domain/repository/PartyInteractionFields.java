@@ -0,0 +1,70 @@
+package com.vivo.crm.interaction.domain.repository;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * PartyInteractionFields - Mapeamento dos atributos TMF (parâmetro fields=) para os atributos da entidade
+ */
+public final class PartyInteractionFields {
+
+    public static final String ID = "id";
+
+    /**
+     * Atributo TMF lido de PARTY_INTERACTION_NOTE, não de uma coluna da entidade
+     */
+    public static final String NOTE = "note";
+
+    private static final Map<String, String> ATTRIBUTES = new LinkedHashMap<>();
+
+    static {
+        ATTRIBUTES.put(ID, "interactionId");
+        ATTRIBUTES.put("subject", "subject");
+        ATTRIBUTES.put("description", "description");
+        ATTRIBUTES.put("status", "status");
+        ATTRIBUTES.put("statusChangeDate", "statusChangeDate");
+        ATTRIBUTES.put("statusChangeReason", "statusChangeReason");
+        ATTRIBUTES.put("channel", "channel");
+        ATTRIBUTES.put("direction", "direction");
+        ATTRIBUTES.put("creationDate", "creationDate");
+        ATTRIBUTES.put("initiationDate", "initiationDate");
+        ATTRIBUTES.put("completionDate", "completionDate");
+        ATTRIBUTES.put("duration", "duration");
+        ATTRIBUTES.put("priority", "priority");
+        ATTRIBUTES.put("satisfaction", "satisfaction");
+        ATTRIBUTES.put("contextData", "contextData");
+        ATTRIBUTES.put("relatedParty", "relatedParties");
+        ATTRIBUTES.put("relatedEntity", "relatedEntities");
+        ATTRIBUTES.put("attachment", "attachments");
+        ATTRIBUTES.put("characteristic", "characteristics");
+        ATTRIBUTES.put("createdAt", "createdAt");
+        ATTRIBUTES.put("createdBy", "createdBy");
+        ATTRIBUTES.put("updatedAt", "updatedAt");
+        ATTRIBUTES.put("updatedBy", "updatedBy");
+    }
+
+    private PartyInteractionFields() {
+    }
+
+    /**
+     * Retorna o atributo da entidade correspondente ao campo TMF
+     */
+    public static String attributeOf(String field) {
+        String attribute = ATTRIBUTES.get(field);
+        if (attribute == null) {
+            throw new IllegalArgumentException("Campo desconhecido: " + field);
+        }
+        return attribute;
+    }
+
+    public static boolean isColumn(String field) {
+        return !NOTE.equals(field);
+    }
+
+    public static void validate(Collection<String> fields) {
+        fields.stream()
+            .filter(PartyInteractionFields::isColumn)
+            .forEach(PartyInteractionFields::attributeOf);
+    }
+}
@@ -0,0 +1,33 @@
+package com.vivo.crm.interaction.domain.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+/**
+ * PartyInteractionFilter - Critérios de filtro para listagem de Party Interactions.
+ * Todos os critérios informados são combinados (AND) em uma única consulta.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PartyInteractionFilter {
+
+    private String partyId;
+    private String status;
+    private String channel;
+    private String direction;
+    private String priority;
+    private boolean activeOnly; // status IN ('initiated', 'active')
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime creationDateFrom; // inclusivo
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime creationDateTo;   // exclusivo
+}
@@ -0,0 +1,35 @@
+package com.vivo.crm.interaction.domain.repository;
+
+import com.vivo.crm.interaction.domain.entity.PartyInteractionIdempotency;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * PartyInteractionIdempotencyRepository - Chaves de idempotência das criações de Party Interaction
+ */
+@Repository
+public interface PartyInteractionIdempotencyRepository extends JpaRepository<PartyInteractionIdempotency, String> {
+
+    /**
+     * Insert explícito (não merge): uma chave repetida viola a chave primária em vez de sobrescrever
+     */
+    @Modifying
+    @Query(value = "INSERT INTO PARTY_INTERACTION_IDEMPOTENCY (idempotency_key, interaction_id, request_hash, created_at, response) " +
+        "VALUES (:idempotencyKey, :interactionId, :requestHash, :createdAt, :response)", nativeQuery = true)
+    void insert(@Param("idempotencyKey") String idempotencyKey, @Param("interactionId") String interactionId,
+                @Param("requestHash") String requestHash, @Param("createdAt") LocalDateTime createdAt,
+                @Param("response") String response);
+
+    @Modifying
+    @Query("DELETE FROM PartyInteractionIdempotency i WHERE i.idempotencyKey = :idempotencyKey")
+    int deleteKey(@Param("idempotencyKey") String idempotencyKey);
+
+    @Modifying
+    @Query("DELETE FROM PartyInteractionIdempotency i WHERE i.createdAt < :before")
+    int deleteCreatedBefore(@Param("before") LocalDateTime before);
+}
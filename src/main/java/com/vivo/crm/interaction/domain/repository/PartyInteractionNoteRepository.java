@@ -0,0 +1,46 @@
+package com.vivo.crm.interaction.domain.repository;
+
+import com.vivo.crm.interaction.domain.entity.PartyInteractionNote;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * PartyInteractionNoteRepository - Leitura paginada das notas pelo índice (interaction_id, note_date, id)
+ */
+@Repository
+public interface PartyInteractionNoteRepository extends JpaRepository<PartyInteractionNote, Long> {
+
+    @Query("SELECT n FROM PartyInteractionNote n WHERE n.interactionId = :interactionId ORDER BY n.noteDate DESC, n.id DESC")
+    List<PartyInteractionNote> findLatest(@Param("interactionId") String interactionId, Limit limit);
+
+    @Query("SELECT n FROM PartyInteractionNote n WHERE n.interactionId = :interactionId " +
+        "AND (n.noteDate < :noteDate OR (n.noteDate = :noteDate AND n.id < :id)) ORDER BY n.noteDate DESC, n.id DESC")
+    List<PartyInteractionNote> findBefore(@Param("interactionId") String interactionId,
+                                          @Param("noteDate") LocalDateTime noteDate,
+                                          @Param("id") Long id,
+                                          Limit limit);
+
+    /**
+     * Até limit notas mais recentes de cada interação, ordenadas por interação e data decrescente;
+     * a lista deve ter no máximo 1000 IDs
+     */
+    @Query(value = "SELECT id, interaction_id, note_id, text, author, note_date, is_system_note FROM (" +
+        "SELECT n.id, n.interaction_id, n.note_id, n.text, n.author, n.note_date, n.is_system_note, " +
+        "ROW_NUMBER() OVER (PARTITION BY n.interaction_id ORDER BY n.note_date DESC, n.id DESC) AS rn " +
+        "FROM PARTY_INTERACTION_NOTE n WHERE n.interaction_id IN (:interactionIds)) " +
+        "WHERE rn <= :limit ORDER BY interaction_id, note_date DESC, id DESC", nativeQuery = true)
+    List<PartyInteractionNote> findLatestByInteractionIds(@Param("interactionIds") Collection<String> interactionIds,
+                                                          @Param("limit") int limit);
+
+    @Modifying
+    @Query("DELETE FROM PartyInteractionNote n WHERE n.interactionId = :interactionId")
+    int deleteByInteractionId(@Param("interactionId") String interactionId);
+}
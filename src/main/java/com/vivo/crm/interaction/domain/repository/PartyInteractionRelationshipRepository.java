@@ -0,0 +1,31 @@
+package com.vivo.crm.interaction.domain.repository;
+
+import com.vivo.crm.interaction.domain.entity.PartyInteractionRelationship;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * PartyInteractionRelationshipRepository - Arestas do grafo de interações relacionadas
+ */
+@Repository
+public interface PartyInteractionRelationshipRepository extends JpaRepository<PartyInteractionRelationship, Long> {
+
+    /**
+     * Arestas que saem ou chegam em qualquer um dos IDs (um nível inteiro do grafo por consulta);
+     * a lista deve ter no máximo 1000 IDs
+     */
+    @Query("SELECT r FROM PartyInteractionRelationship r " +
+        "WHERE r.sourceInteractionId IN :interactionIds OR r.targetInteractionId IN :interactionIds")
+    List<PartyInteractionRelationship> findTouching(@Param("interactionIds") Collection<String> interactionIds);
+
+    @Modifying
+    @Query("DELETE FROM PartyInteractionRelationship r " +
+        "WHERE r.sourceInteractionId = :interactionId OR r.targetInteractionId = :interactionId")
+    int deleteTouching(@Param("interactionId") String interactionId);
+}
@@ -1,12 +1,16 @@
 package com.vivo.crm.interaction.domain.repository;
 
 import com.vivo.crm.interaction.domain.entity.PartyInteraction;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,9 +18,17 @@ import java.util.Optional;
  * PartyInteractionRepository - JPA Repository
  */
 @Repository
-public interface PartyInteractionRepository extends JpaRepository<PartyInteraction, Long> {
+public interface PartyInteractionRepository extends JpaRepository<PartyInteraction, Long>, PartyInteractionRepositoryCustom {
 
     Optional<PartyInteraction> findByInteractionId(String interactionId);
+
+    /**
+     * Carrega com SELECT ... FOR UPDATE, serializando a exclusão com as demais alterações da interação
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT pi FROM PartyInteraction pi WHERE pi.interactionId = :interactionId")
+    Optional<PartyInteraction> lockByInteractionId(@Param("interactionId") String interactionId);
+
     List<PartyInteraction> findByOriginatingPartyId(String originatingPartyId);
     List<PartyInteraction> findByStatus(String status);
     List<PartyInteraction> findByChannel(String channel);
@@ -27,14 +39,51 @@ public interface PartyInteractionRepository extends JpaRepository<PartyInteracti
     @Query("SELECT pi FROM PartyInteraction pi WHERE pi.originatingPartyId = :partyId AND pi.status IN ('initiated', 'active') ORDER BY pi.creationDate DESC")
     List<PartyInteraction> findActiveByParty(@Param("partyId") String partyId);
 
+    @Query(PartyInteractionView.SELECT + "WHERE pi.originatingPartyId = :partyId AND pi.status IN ('initiated', 'active') ORDER BY pi.creationDate DESC")
+    List<PartyInteractionView> findActiveViewsByParty(@Param("partyId") String partyId);
+
     @Query("SELECT pi FROM PartyInteraction pi WHERE pi.originatingPartyId = :partyId AND pi.status = 'completed' ORDER BY pi.completionDate DESC")
     List<PartyInteraction> findCompletedByParty(@Param("partyId") String partyId);
 
+    /**
+     * Predicado direto sobre creation_date (chave de particionamento): lê apenas as partições a partir de fromDate
+     */
     @Query("SELECT pi FROM PartyInteraction pi WHERE pi.creationDate >= :fromDate ORDER BY pi.creationDate DESC")
     List<PartyInteraction> findCreatedAfter(@Param("fromDate") LocalDateTime fromDate);
 
     long countByStatus(String status);
 
+    @Query("SELECT pi.status FROM PartyInteraction pi WHERE pi.interactionId = :interactionId")
+    Optional<String> findStatusByInteractionId(@Param("interactionId") String interactionId);
+
+    @Query(PartyInteractionView.SELECT + "WHERE pi.interactionId = :interactionId")
+    Optional<PartyInteractionView> findViewByInteractionId(@Param("interactionId") String interactionId);
+
+    /**
+     * Carga em lote das projeções; a lista deve ter no máximo 1000 IDs
+     */
+    @Query(PartyInteractionView.SELECT + "WHERE pi.interactionId IN :interactionIds")
+    List<PartyInteractionView> findViewsByInteractionIds(@Param("interactionIds") Collection<String> interactionIds);
+
+    /**
+     * Troca de status em um único UPDATE condicionado ao status e ao updatedAt lidos na projeção
+     * (concorrência otimista). Retorna 0 quando a interação não existe ou foi alterada por outra
+     * transação; com 1, a linha é exatamente a projeção lida com a troca aplicada.
+     */
+    @Modifying
+    @Query("UPDATE PartyInteraction pi SET pi.status = :newStatus, pi.statusChangeDate = :now, " +
+        "pi.statusChangeReason = :reason, pi.completionDate = COALESCE(:completionDate, pi.completionDate), " +
+        "pi.updatedAt = :now " +
+        "WHERE pi.interactionId = :interactionId AND pi.status = :expectedStatus " +
+        "AND (pi.updatedAt = :expectedUpdatedAt OR (pi.updatedAt IS NULL AND :expectedUpdatedAt IS NULL))")
+    int updateStatusIfUnchanged(@Param("interactionId") String interactionId,
+                                @Param("expectedStatus") String expectedStatus,
+                                @Param("expectedUpdatedAt") LocalDateTime expectedUpdatedAt,
+                                @Param("newStatus") String newStatus,
+                                @Param("reason") String reason,
+                                @Param("completionDate") LocalDateTime completionDate,
+                                @Param("now") LocalDateTime now);
+
     @Query("SELECT COUNT(pi) FROM PartyInteraction pi WHERE pi.originatingPartyId = :partyId AND pi.status IN ('initiated', 'active')")
     long countActiveByParty(@Param("partyId") String partyId);
 }
@@ -0,0 +1,40 @@
+package com.vivo.crm.interaction.domain.repository;
+
+import jakarta.persistence.Tuple;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * PartyInteractionRepositoryCustom - Consultas paginadas construídas dinamicamente
+ */
+public interface PartyInteractionRepositoryCustom {
+
+    /**
+     * Alias das colunas de posição (creation_date, id) incluídas em toda projeção
+     */
+    String CURSOR_CREATION_DATE = "cursorCreationDate";
+    String CURSOR_ID = "cursorId";
+
+    /**
+     * Busca uma página ordenada por creation_date DESC, id DESC, projetando apenas as colunas do DTO.
+     * Com cursor a página começa após a posição informada (keyset); sem cursor usa offset.
+     */
+    List<PartyInteractionView> search(PartyInteractionFilter filter, KeysetCursor after, int offset, int limit);
+
+    /**
+     * Mesma busca de {@link #search}, selecionando apenas os campos TMF informados.
+     * Cada tupla traz os campos com alias igual ao nome TMF, além das colunas de posição.
+     */
+    List<Tuple> searchFields(PartyInteractionFilter filter, KeysetCursor after, int offset, int limit, List<String> fields);
+
+    long count(PartyInteractionFilter filter);
+
+    /**
+     * Atualiza apenas os atributos informados em um único UPDATE condicionado ao status e ao
+     * updatedAt lidos antes (concorrência otimista). Retorna o número de linhas alteradas (0 ou 1).
+     */
+    int updateIfUnchanged(String interactionId, String expectedStatus, LocalDateTime expectedUpdatedAt,
+                          Map<String, Object> changes);
+}
@@ -0,0 +1,143 @@
+package com.vivo.crm.interaction.domain.repository;
+
+import com.vivo.crm.interaction.domain.entity.PartyInteraction;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.hibernate.jpa.HibernateHints;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * PartyInteractionRepositoryImpl - Implementação das consultas paginadas via Criteria API.
+ * Os filtros são combinados em um único WHERE, atendido pelos índices compostos
+ * (coluna de filtro, ..., creation_date, id) definidos na migração V2.
+ */
+public class PartyInteractionRepositoryImpl implements PartyInteractionRepositoryCustom {
+
+    private static final List<String> ACTIVE_STATUSES = List.of("initiated", "active");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<PartyInteractionView> search(PartyInteractionFilter filter, KeysetCursor after, int offset, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<PartyInteractionView> query = cb.createQuery(PartyInteractionView.class);
+        Root<PartyInteraction> root = query.from(PartyInteraction.class);
+
+        query.select(cb.construct(PartyInteractionView.class, PartyInteractionView.ATTRIBUTES.stream()
+            .map(root::get)
+            .toArray(Selection[]::new)));
+        applyPage(cb, query, root, filter, after);
+        return entityManager.createQuery(query)
+            .setFirstResult(after != null ? 0 : offset)
+            .setMaxResults(limit)
+            .setHint(HibernateHints.HINT_FETCH_SIZE, limit)
+            .getResultList();
+    }
+
+    @Override
+    public List<Tuple> searchFields(PartyInteractionFilter filter, KeysetCursor after, int offset, int limit, List<String> fields) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<PartyInteraction> root = query.from(PartyInteraction.class);
+
+        List<Selection<?>> selections = new ArrayList<>();
+        selections.add(root.get("creationDate").alias(CURSOR_CREATION_DATE));
+        selections.add(root.get("id").alias(CURSOR_ID));
+        if (!fields.contains(PartyInteractionFields.ID)) {
+            selections.add(root.get(PartyInteractionFields.attributeOf(PartyInteractionFields.ID)).alias(PartyInteractionFields.ID));
+        }
+        for (String field : fields) {
+            if (PartyInteractionFields.isColumn(field)) {
+                selections.add(root.get(PartyInteractionFields.attributeOf(field)).alias(field));
+            }
+        }
+
+        query.multiselect(selections);
+        applyPage(cb, query, root, filter, after);
+        return entityManager.createQuery(query)
+            .setFirstResult(after != null ? 0 : offset)
+            .setMaxResults(limit)
+            .setHint(HibernateHints.HINT_FETCH_SIZE, limit)
+            .getResultList();
+    }
+
+    @Override
+    public long count(PartyInteractionFilter filter) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<PartyInteraction> root = query.from(PartyInteraction.class);
+        query.select(cb.count(root)).where(predicates(cb, root, filter).toArray(Predicate[]::new));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    @Override
+    public int updateIfUnchanged(String interactionId, String expectedStatus, LocalDateTime expectedUpdatedAt,
+                                 Map<String, Object> changes) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<PartyInteraction> update = cb.createCriteriaUpdate(PartyInteraction.class);
+        Root<PartyInteraction> root = update.from(PartyInteraction.class);
+        changes.forEach((attribute, value) -> update.set(root.<Object>get(attribute), value));
+        update.where(
+            cb.equal(root.get("interactionId"), interactionId),
+            cb.equal(root.get("status"), expectedStatus),
+            expectedUpdatedAt != null
+                ? cb.equal(root.get("updatedAt"), expectedUpdatedAt)
+                : cb.isNull(root.get("updatedAt")));
+        return entityManager.createQuery(update).executeUpdate();
+    }
+
+    private void applyPage(CriteriaBuilder cb, CriteriaQuery<?> query, Root<PartyInteraction> root,
+                           PartyInteractionFilter filter, KeysetCursor after) {
+        List<Predicate> predicates = predicates(cb, root, filter);
+        if (after != null) {
+            predicates.add(cb.or(
+                cb.lessThan(root.<LocalDateTime>get("creationDate"), after.getCreationDate()),
+                cb.and(
+                    cb.equal(root.get("creationDate"), after.getCreationDate()),
+                    cb.lessThan(root.<Long>get("id"), after.getId()))));
+        }
+        query.where(predicates.toArray(Predicate[]::new))
+            .orderBy(cb.desc(root.get("creationDate")), cb.desc(root.get("id")));
+    }
+
+    private List<Predicate> predicates(CriteriaBuilder cb, Root<PartyInteraction> root, PartyInteractionFilter filter) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (filter.getPartyId() != null) {
+            predicates.add(cb.equal(root.get("originatingPartyId"), filter.getPartyId()));
+        }
+        if (filter.getStatus() != null) {
+            predicates.add(cb.equal(root.get("status"), filter.getStatus()));
+        }
+        if (filter.isActiveOnly()) {
+            predicates.add(root.get("status").in(ACTIVE_STATUSES));
+        }
+        if (filter.getChannel() != null) {
+            predicates.add(cb.equal(root.get("channel"), filter.getChannel()));
+        }
+        if (filter.getDirection() != null) {
+            predicates.add(cb.equal(root.get("direction"), filter.getDirection()));
+        }
+        if (filter.getPriority() != null) {
+            predicates.add(cb.equal(root.get("priority"), filter.getPriority()));
+        }
+        if (filter.getCreationDateFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(root.<LocalDateTime>get("creationDate"), filter.getCreationDateFrom()));
+        }
+        if (filter.getCreationDateTo() != null) {
+            predicates.add(cb.lessThan(root.<LocalDateTime>get("creationDate"), filter.getCreationDateTo()));
+        }
+        return predicates;
+    }
+}
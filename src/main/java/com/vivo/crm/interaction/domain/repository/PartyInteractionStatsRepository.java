@@ -0,0 +1,170 @@
+package com.vivo.crm.interaction.domain.repository;
+
+import com.vivo.crm.interaction.domain.entity.PartyInteractionStatsHourly;
+import com.vivo.crm.interaction.domain.entity.PartyInteractionStatsId;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * PartyInteractionStatsRepository - Leitura e manutenção de PARTY_INTERACTION_STATS_HOURLY.
+ * Deltas são aplicados com MERGE em batch JDBC; a reconciliação recalcula uma janela de horas
+ * a partir de PARTY_INTERACTION (partições da janela) e corrige apenas os agregados divergentes.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PartyInteractionStatsRepository {
+
+    public static final String INTERACTION_COUNT = "interactionCount";
+    public static final String DURATION_SUM = "durationSum";
+    public static final String DURATION_COUNT = "durationCount";
+    public static final String SATISFIED_COUNT = "satisfiedCount";
+    public static final String NEUTRAL_COUNT = "neutralCount";
+    public static final String DISSATISFIED_COUNT = "dissatisfiedCount";
+
+    private static final String MERGE_DELTA_SQL = "MERGE INTO PARTY_INTERACTION_STATS_HOURLY t " +
+        "USING (SELECT ? AS bucket_hour, ? AS channel, ? AS direction, ? AS status FROM dual) s " +
+        "ON (t.bucket_hour = s.bucket_hour AND t.channel = s.channel AND t.direction = s.direction AND t.status = s.status) " +
+        "WHEN MATCHED THEN UPDATE SET t.interaction_count = t.interaction_count + ?, t.duration_sum = t.duration_sum + ?, " +
+        "t.duration_count = t.duration_count + ?, t.satisfied_count = t.satisfied_count + ?, " +
+        "t.neutral_count = t.neutral_count + ?, t.dissatisfied_count = t.dissatisfied_count + ?, t.updated_at = CURRENT_TIMESTAMP " +
+        "WHEN NOT MATCHED THEN INSERT (bucket_hour, channel, direction, status, interaction_count, duration_sum, " +
+        "duration_count, satisfied_count, neutral_count, dissatisfied_count, updated_at) " +
+        "VALUES (s.bucket_hour, s.channel, s.direction, s.status, ?, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP)";
+
+    // Mesma regra do caminho incremental: duração/satisfação apenas em status finais,
+    // duração explícita ou, na falta dela, entre initiation_date e completion_date.
+    // Horas com linhas alteradas a partir de :settledBefore ficam de fora (deltas possivelmente pendentes);
+    // agregados sem interações na recontagem são zerados e removidos.
+    private static final String RECONCILE_WINDOW_SQL = "MERGE INTO PARTY_INTERACTION_STATS_HOURLY t USING (" +
+        "SELECT COALESCE(r.bucket_hour, s.bucket_hour) AS bucket_hour, COALESCE(r.channel, s.channel) AS channel, " +
+        "COALESCE(r.direction, s.direction) AS direction, COALESCE(r.status, s.status) AS status, " +
+        "NVL(r.interaction_count, 0) AS interaction_count, NVL(r.duration_sum, 0) AS duration_sum, " +
+        "NVL(r.duration_count, 0) AS duration_count, NVL(r.satisfied_count, 0) AS satisfied_count, " +
+        "NVL(r.neutral_count, 0) AS neutral_count, NVL(r.dissatisfied_count, 0) AS dissatisfied_count " +
+        "FROM (SELECT bucket_hour, channel, direction, status, COUNT(*) AS interaction_count, " +
+        "NVL(SUM(duration_seconds), 0) AS duration_sum, COUNT(duration_seconds) AS duration_count, " +
+        "SUM(CASE WHEN is_final = 1 AND satisfaction = 'satisfied' THEN 1 ELSE 0 END) AS satisfied_count, " +
+        "SUM(CASE WHEN is_final = 1 AND satisfaction = 'neutral' THEN 1 ELSE 0 END) AS neutral_count, " +
+        "SUM(CASE WHEN is_final = 1 AND satisfaction = 'dissatisfied' THEN 1 ELSE 0 END) AS dissatisfied_count " +
+        "FROM (SELECT TRUNC(creation_date, 'HH24') AS bucket_hour, channel, direction, status, satisfaction, " +
+        "CASE WHEN status IN ('completed', 'cancelled', 'failed') THEN 1 ELSE 0 END AS is_final, " +
+        "CASE WHEN status IN ('completed', 'cancelled', 'failed') THEN COALESCE(duration, " +
+        "ROUND((CAST(completion_date AS DATE) - CAST(initiation_date AS DATE)) * 86400)) END AS duration_seconds " +
+        "FROM PARTY_INTERACTION WHERE creation_date >= :from) " +
+        "GROUP BY bucket_hour, channel, direction, status) r " +
+        "FULL OUTER JOIN (SELECT bucket_hour, channel, direction, status FROM PARTY_INTERACTION_STATS_HOURLY " +
+        "WHERE bucket_hour >= :from) s " +
+        "ON (r.bucket_hour = s.bucket_hour AND r.channel = s.channel AND r.direction = s.direction AND r.status = s.status) " +
+        "WHERE COALESCE(r.bucket_hour, s.bucket_hour) NOT IN (SELECT TRUNC(creation_date, 'HH24') FROM PARTY_INTERACTION " +
+        "WHERE creation_date >= :from AND updated_at >= :settledBefore)) u " +
+        "ON (t.bucket_hour = u.bucket_hour AND t.channel = u.channel AND t.direction = u.direction AND t.status = u.status) " +
+        "WHEN MATCHED THEN UPDATE SET t.interaction_count = u.interaction_count, t.duration_sum = u.duration_sum, " +
+        "t.duration_count = u.duration_count, t.satisfied_count = u.satisfied_count, t.neutral_count = u.neutral_count, " +
+        "t.dissatisfied_count = u.dissatisfied_count, t.updated_at = CURRENT_TIMESTAMP " +
+        "WHERE t.interaction_count <> u.interaction_count OR t.duration_sum <> u.duration_sum " +
+        "OR t.duration_count <> u.duration_count OR t.satisfied_count <> u.satisfied_count " +
+        "OR t.neutral_count <> u.neutral_count OR t.dissatisfied_count <> u.dissatisfied_count " +
+        "DELETE WHERE t.interaction_count = 0 " +
+        "WHEN NOT MATCHED THEN INSERT (bucket_hour, channel, direction, status, interaction_count, duration_sum, " +
+        "duration_count, satisfied_count, neutral_count, dissatisfied_count, updated_at) " +
+        "VALUES (u.bucket_hour, u.channel, u.direction, u.status, u.interaction_count, u.duration_sum, " +
+        "u.duration_count, u.satisfied_count, u.neutral_count, u.dissatisfied_count, CURRENT_TIMESTAMP) " +
+        "WHERE u.interaction_count > 0";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    /**
+     * Soma os deltas em uma rodada de MERGE em batch JDBC
+     */
+    public void addDeltas(Map<PartyInteractionStatsId, long[]> deltas) {
+        List<Map.Entry<PartyInteractionStatsId, long[]>> entries = new ArrayList<>(deltas.entrySet());
+        jdbcTemplate.batchUpdate(MERGE_DELTA_SQL, entries, entries.size(), (statement, entry) -> {
+            PartyInteractionStatsId id = entry.getKey();
+            long[] values = entry.getValue();
+            statement.setTimestamp(1, Timestamp.valueOf(id.getBucketHour()));
+            statement.setString(2, id.getChannel());
+            statement.setString(3, id.getDirection());
+            statement.setString(4, id.getStatus());
+            for (int i = 0; i < values.length; i++) {
+                statement.setLong(5 + i, values[i]);
+                statement.setLong(5 + values.length + i, values[i]);
+            }
+        });
+    }
+
+    /**
+     * Recalcula as horas a partir de from (inclusive) e corrige os agregados divergentes,
+     * exceto das horas com interações alteradas a partir de settledBefore; retorna as linhas corrigidas
+     */
+    public int reconcileFrom(LocalDateTime from, LocalDateTime settledBefore) {
+        return namedJdbcTemplate.update(RECONCILE_WINDOW_SQL, new MapSqlParameterSource()
+            .addValue("from", Timestamp.valueOf(from))
+            .addValue("settledBefore", Timestamp.valueOf(settledBefore)));
+    }
+
+    /**
+     * Soma dos agregados no intervalo [from, to), agrupados pelas dimensões informadas
+     */
+    public List<Tuple> aggregate(LocalDateTime from, LocalDateTime to, Collection<StatisticsDimension> groupBy,
+                                 String channel, String direction, String status) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<PartyInteractionStatsHourly> root = query.from(PartyInteractionStatsHourly.class);
+        Path<PartyInteractionStatsId> id = root.get("id");
+
+        List<Selection<?>> selections = new ArrayList<>();
+        List<Expression<?>> grouping = new ArrayList<>();
+        for (StatisticsDimension dimension : groupBy) {
+            Path<Object> path = id.get(dimension.getAttribute());
+            selections.add(path.alias(dimension.alias()));
+            grouping.add(path);
+        }
+        for (String measure : List.of(INTERACTION_COUNT, DURATION_SUM, DURATION_COUNT,
+                                      SATISFIED_COUNT, NEUTRAL_COUNT, DISSATISFIED_COUNT)) {
+            selections.add(cb.sum(root.<Long>get(measure)).alias(measure));
+        }
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.greaterThanOrEqualTo(id.get("bucketHour"), from));
+        predicates.add(cb.lessThan(id.get("bucketHour"), to));
+        if (channel != null) {
+            predicates.add(cb.equal(id.get("channel"), channel));
+        }
+        if (direction != null) {
+            predicates.add(cb.equal(id.get("direction"), direction));
+        }
+        if (status != null) {
+            predicates.add(cb.equal(id.get("status"), status));
+        }
+
+        query.multiselect(selections)
+            .where(predicates.toArray(Predicate[]::new))
+            .groupBy(grouping)
+            .orderBy(grouping.stream().map(cb::asc).toList());
+        return entityManager.createQuery(query).getResultList();
+    }
+}
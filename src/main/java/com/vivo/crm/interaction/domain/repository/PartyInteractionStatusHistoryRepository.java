@@ -0,0 +1,24 @@
+package com.vivo.crm.interaction.domain.repository;
+
+import com.vivo.crm.interaction.domain.entity.PartyInteractionStatusHistory;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * PartyInteractionStatusHistoryRepository - JPA Repository
+ */
+@Repository
+public interface PartyInteractionStatusHistoryRepository extends JpaRepository<PartyInteractionStatusHistory, Long> {
+
+    List<PartyInteractionStatusHistory> findByInteractionIdOrderByChangedAtDescIdDesc(String interactionId, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM PartyInteractionStatusHistory h WHERE h.interactionId = :interactionId")
+    int deleteByInteractionId(@Param("interactionId") String interactionId);
+}
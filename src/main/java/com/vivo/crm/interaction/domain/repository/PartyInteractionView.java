@@ -0,0 +1,65 @@
+package com.vivo.crm.interaction.domain.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * PartyInteractionView - Projeção leve de PartyInteraction com as colunas expostas no DTO.
+ * Não carrega as colunas JSON de relacionamentos, notas, anexos e características.
+ */
+@Value
+@AllArgsConstructor
+public class PartyInteractionView {
+
+    /**
+     * Atributos da entidade na ordem do construtor; fonte única do SELECT e da projeção via Criteria API
+     */
+    private static final String PROJECTION = "pi.id, pi.interactionId, pi.subject, pi.description, pi.status, " +
+        "pi.statusChangeDate, pi.statusChangeReason, pi.channel, pi.direction, pi.creationDate, pi.initiationDate, " +
+        "pi.completionDate, pi.duration, pi.priority, pi.satisfaction, pi.originatingPartyId, pi.contextData, " +
+        "pi.createdAt, pi.createdBy, pi.updatedAt, pi.updatedBy";
+
+    public static final String SELECT = "SELECT new com.vivo.crm.interaction.domain.repository.PartyInteractionView(" +
+        PROJECTION + ") FROM PartyInteraction pi ";
+
+    public static final List<String> ATTRIBUTES = Arrays.stream(PROJECTION.split(","))
+        .map(attribute -> attribute.strip().substring("pi.".length()))
+        .toList();
+
+    Long id;
+    String interactionId;
+    String subject;
+    String description;
+    String status;
+    LocalDateTime statusChangeDate;
+    String statusChangeReason;
+    String channel;
+    String direction;
+    LocalDateTime creationDate;
+    LocalDateTime initiationDate;
+    LocalDateTime completionDate;
+    Long duration;
+    String priority;
+    String satisfaction;
+    String originatingPartyId;
+    Map<String, Object> contextData;
+    LocalDateTime createdAt;
+    String createdBy;
+    LocalDateTime updatedAt;
+    String updatedBy;
+
+    /**
+     * Estado após a troca de status aplicada por PartyInteractionRepository.updateStatusIfUnchanged
+     */
+    public PartyInteractionView withStatusChange(String newStatus, String reason, LocalDateTime completion,
+                                                 LocalDateTime now) {
+        return new PartyInteractionView(id, interactionId, subject, description, newStatus, now, reason,
+            channel, direction, creationDate, initiationDate, completion != null ? completion : completionDate,
+            duration, priority, satisfaction, originatingPartyId, contextData, createdAt, createdBy, now, updatedBy);
+    }
+}
@@ -0,0 +1,64 @@
+package com.vivo.crm.interaction.domain.repository;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * SearchDocument - Conteúdo indexado para busca full-text de uma PartyInteraction ou Interaction
+ */
+@Value
+@Builder
+public class SearchDocument {
+
+    private static final int MAX_TITLE_LENGTH = 200;
+
+    TimelineSource source;
+    String id;
+    String partyId;
+    String channel;
+    String status;
+    String title;   // exibido no resultado
+    String subject; // peso maior no ranking
+    String body;
+    LocalDateTime occurredAt;
+
+    public static SearchDocument ofPartyInteraction(String interactionId, String partyId, String channel, String status,
+                                                    String subject, String description, LocalDateTime creationDate) {
+        return SearchDocument.builder()
+            .source(TimelineSource.PARTY_INTERACTION)
+            .id(interactionId)
+            .partyId(partyId)
+            .channel(channel)
+            .status(status)
+            .title(abbreviate(subject))
+            .subject(subject)
+            .body(description)
+            .occurredAt(creationDate)
+            .build();
+    }
+
+    public static SearchDocument ofInteraction(String id, String customerId, String channel, String content,
+                                               String transcription, String summary, LocalDateTime createdAt) {
+        String body = Stream.of(content, transcription, summary)
+            .filter(Objects::nonNull)
+            .collect(Collectors.joining("\n"));
+        return SearchDocument.builder()
+            .source(TimelineSource.INTERACTION)
+            .id(id)
+            .partyId(customerId)
+            .channel(channel)
+            .title(abbreviate(summary != null ? summary : content))
+            .body(body)
+            .occurredAt(createdAt)
+            .build();
+    }
+
+    private static String abbreviate(String text) {
+        return text == null || text.length() <= MAX_TITLE_LENGTH ? text : text.substring(0, MAX_TITLE_LENGTH);
+    }
+}
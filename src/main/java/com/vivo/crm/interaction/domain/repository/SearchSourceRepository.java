@@ -0,0 +1,128 @@
+package com.vivo.crm.interaction.domain.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * SearchSourceRepository - Leitura em streaming das colunas indexadas na busca full-text.
+ *
+ * A reconstrução lê PARTY_INTERACTION por faixas de id (PK) e interactions por janelas de
+ * created_at (idx_interactions_created), blocos independentes que podem ser lidos em paralelo;
+ * a sincronização lê as linhas alteradas desde o watermark pelos índices de updated_at (V13).
+ */
+@Repository
+@RequiredArgsConstructor
+public class SearchSourceRepository {
+
+    private static final String PARTY_INTERACTION_COLUMNS = "SELECT interaction_id, originating_party_id, channel, " +
+        "status, subject, description, creation_date FROM PARTY_INTERACTION ";
+
+    private static final String INTERACTION_COLUMNS = "SELECT id, customer_id, channel, content, transcription, " +
+        "summary, created_at FROM interactions ";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Optional<Range<Long>> partyInteractionIdRange() {
+        return jdbcTemplate.query("SELECT MIN(id), MAX(id) FROM PARTY_INTERACTION", rs -> {
+            rs.next();
+            long max = rs.getLong(2);
+            return rs.wasNull() ? Optional.empty() : Optional.of(new Range<>(rs.getLong(1), max));
+        });
+    }
+
+    public Optional<Range<LocalDateTime>> interactionCreatedRange() {
+        return jdbcTemplate.query("SELECT MIN(created_at), MAX(created_at) FROM interactions", rs -> {
+            rs.next();
+            LocalDateTime max = rs.getObject(2, LocalDateTime.class);
+            return max == null ? Optional.empty() : Optional.of(new Range<>(rs.getObject(1, LocalDateTime.class), max));
+        });
+    }
+
+    /**
+     * PartyInteractions com fromId <= id < toId
+     */
+    public void readPartyInteractions(long fromId, long toId, int fetchSize, Consumer<SearchDocument> consumer) {
+        stream(PARTY_INTERACTION_COLUMNS + "WHERE id >= ? AND id < ?", fetchSize,
+            statement -> {
+                statement.setLong(1, fromId);
+                statement.setLong(2, toId);
+            },
+            rs -> consumer.accept(toPartyInteraction(rs)));
+    }
+
+    /**
+     * Interactions com from <= created_at < to
+     */
+    public void readInteractions(LocalDateTime from, LocalDateTime to, int fetchSize, Consumer<SearchDocument> consumer) {
+        stream(INTERACTION_COLUMNS + "WHERE created_at >= ? AND created_at < ?", fetchSize,
+            statement -> {
+                statement.setTimestamp(1, Timestamp.valueOf(from));
+                statement.setTimestamp(2, Timestamp.valueOf(to));
+            },
+            rs -> consumer.accept(toInteraction(rs)));
+    }
+
+    public void readPartyInteractionsUpdatedSince(LocalDateTime since, int fetchSize, Consumer<SearchDocument> consumer) {
+        stream(PARTY_INTERACTION_COLUMNS + "WHERE updated_at >= ?", fetchSize,
+            statement -> statement.setTimestamp(1, Timestamp.valueOf(since)),
+            rs -> consumer.accept(toPartyInteraction(rs)));
+    }
+
+    public void readInteractionsUpdatedSince(LocalDateTime since, int fetchSize, Consumer<SearchDocument> consumer) {
+        stream(INTERACTION_COLUMNS + "WHERE updated_at >= ?", fetchSize,
+            statement -> statement.setTimestamp(1, Timestamp.valueOf(since)),
+            rs -> consumer.accept(toInteraction(rs)));
+    }
+
+    private void stream(String sql, int fetchSize, ParameterSetter parameters, RowCallbackHandler handler) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql);
+            statement.setFetchSize(fetchSize);
+            parameters.set(statement);
+            return statement;
+        }, handler);
+    }
+
+    private static SearchDocument toPartyInteraction(ResultSet rs) throws SQLException {
+        return SearchDocument.ofPartyInteraction(
+            rs.getString("interaction_id"),
+            rs.getString("originating_party_id"),
+            rs.getString("channel"),
+            rs.getString("status"),
+            rs.getString("subject"),
+            rs.getString("description"),
+            rs.getObject("creation_date", LocalDateTime.class));
+    }
+
+    private static SearchDocument toInteraction(ResultSet rs) throws SQLException {
+        return SearchDocument.ofInteraction(
+            rs.getString("id"),
+            rs.getString("customer_id"),
+            rs.getString("channel"),
+            rs.getString("content"),
+            rs.getString("transcription"),
+            rs.getString("summary"),
+            rs.getObject("created_at", LocalDateTime.class));
+    }
+
+    @FunctionalInterface
+    private interface ParameterSetter {
+        void set(PreparedStatement statement) throws SQLException;
+    }
+
+    /**
+     * Intervalo fechado [min, max]
+     */
+    public record Range<T>(T min, T max) {
+    }
+}
@@ -0,0 +1,49 @@
+package com.vivo.crm.interaction.domain.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.function.BiConsumer;
+
+/**
+ * SearchTombstoneRepository - Exclusões das fontes da busca full-text (SearchIndexTombstone),
+ * lidas pela sincronização do índice de cada instância
+ */
+@Repository
+@RequiredArgsConstructor
+public class SearchTombstoneRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO SEARCH_INDEX_TOMBSTONE (source, document_id, deleted_at) " +
+        "VALUES (?, ?, ?)";
+    private static final String SELECT_SQL = "SELECT source, document_id FROM SEARCH_INDEX_TOMBSTONE WHERE deleted_at >= ?";
+    private static final String PURGE_SQL = "DELETE FROM SEARCH_INDEX_TOMBSTONE WHERE deleted_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Registra as exclusões em um batch; chamar na transação que exclui as linhas
+     */
+    public void record(TimelineSource source, Collection<String> ids, LocalDateTime deletedAt) {
+        Timestamp timestamp = Timestamp.valueOf(deletedAt);
+        jdbcTemplate.batchUpdate(INSERT_SQL, ids, ids.size(), (statement, id) -> {
+            statement.setString(1, source.name());
+            statement.setString(2, id);
+            statement.setTimestamp(3, timestamp);
+        });
+    }
+
+    public void readDeletedSince(LocalDateTime since, BiConsumer<TimelineSource, String> consumer) {
+        RowCallbackHandler handler = rs -> consumer.accept(TimelineSource.valueOf(rs.getString("source")),
+            rs.getString("document_id"));
+        jdbcTemplate.query(SELECT_SQL, handler, Timestamp.valueOf(since));
+    }
+
+    public int deleteBefore(LocalDateTime before) {
+        return jdbcTemplate.update(PURGE_SQL, Timestamp.valueOf(before));
+    }
+}
@@ -0,0 +1,35 @@
+package com.vivo.crm.interaction.domain.repository;
+
+import java.util.Locale;
+
+/**
+ * StatisticsDimension - Dimensões de agrupamento das estatísticas de interações
+ */
+public enum StatisticsDimension {
+    HOUR("bucketHour"),
+    CHANNEL("channel"),
+    DIRECTION("direction"),
+    STATUS("status");
+
+    private final String attribute;
+
+    StatisticsDimension(String attribute) {
+        this.attribute = attribute;
+    }
+
+    public String getAttribute() {
+        return attribute;
+    }
+
+    public String alias() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    public static StatisticsDimension of(String name) {
+        try {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Dimensão de agrupamento inválida: " + name, e);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.vivo.crm.interaction.domain.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * TimelineCursor - Posição na timeline do cliente por (occurredAt, source, key).
+ * Ordem da timeline: occurredAt decrescente, depois source (PARTY_INTERACTION antes de INTERACTION)
+ * e key decrescente dentro da mesma fonte. Codificado em Base64 URL-safe.
+ */
+@Data
+@AllArgsConstructor
+public class TimelineCursor implements Comparable<TimelineCursor> {
+
+    private static final char SEPARATOR = '|';
+
+    private LocalDateTime occurredAt;
+    private TimelineSource source;
+    private String key; // PARTY_INTERACTION.id (numérico) ou interactions.id
+
+    /**
+     * Negativo quando este item vem antes do outro na timeline
+     */
+    @Override
+    public int compareTo(TimelineCursor other) {
+        int byTime = other.occurredAt.compareTo(occurredAt);
+        if (byTime != 0) {
+            return byTime;
+        }
+        int bySource = source.compareTo(other.source);
+        if (bySource != 0) {
+            return bySource;
+        }
+        return source == TimelineSource.PARTY_INTERACTION
+            ? Long.compare(Long.parseLong(other.key), Long.parseLong(key))
+            : other.key.compareTo(key);
+    }
+
+    public String encode() {
+        String raw = occurredAt.toString() + SEPARATOR + source.name() + SEPARATOR + key;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TimelineCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 3);
+            TimelineSource source = TimelineSource.valueOf(parts[1]);
+            if (source == TimelineSource.PARTY_INTERACTION) {
+                Long.parseLong(parts[2]);
+            }
+            return new TimelineCursor(LocalDateTime.parse(parts[0]), source, parts[2]);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Cursor inválido: " + cursor, e);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.vivo.crm.interaction.domain.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * TimelineEntryView - Item da timeline do cliente, com apenas as colunas dos índices de cobertura
+ */
+@Value
+@AllArgsConstructor
+public class TimelineEntryView {
+
+    TimelineSource source;
+    String key;           // chave de ordenação/cursor dentro da fonte
+    String id;            // identificador público (interaction_id ou interactions.id)
+    LocalDateTime occurredAt;
+    String channel;
+    String direction;     // apenas PARTY_INTERACTION
+    String status;        // apenas PARTY_INTERACTION
+    String subject;       // apenas PARTY_INTERACTION
+    String type;          // tipo da interação, apenas INTERACTION
+    String caseId;        // apenas INTERACTION
+    String sentiment;     // apenas INTERACTION
+
+    public TimelineCursor toCursor() {
+        return new TimelineCursor(occurredAt, source, key);
+    }
+}
@@ -0,0 +1,9 @@
+package com.vivo.crm.interaction.domain.repository;
+
+/**
+ * TimelineSource - Origem de um item da timeline, na ordem de desempate entre fontes
+ */
+public enum TimelineSource {
+    PARTY_INTERACTION,
+    INTERACTION
+}
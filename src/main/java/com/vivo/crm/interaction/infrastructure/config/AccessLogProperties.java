@@ -0,0 +1,31 @@
+package com.vivo.crm.interaction.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * AccessLogProperties - Log de acesso estruturado (uma linha por requisição)
+ */
+@Data
+@ConfigurationProperties(prefix = "interaction.access-log")
+public class AccessLogProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Fração das requisições bem-sucedidas registradas (0.0 a 1.0)
+     */
+    private double sampleRate = 1.0;
+
+    /**
+     * Requisições com erro (status >= 400) ou mais lentas que este limite são sempre registradas
+     */
+    private Duration slowThreshold = Duration.ofSeconds(1);
+
+    /**
+     * Cabeçalho de correlação lido da requisição (ou gerado) e devolvido na resposta
+     */
+    private String correlationHeader = "X-Correlation-Id";
+}
@@ -0,0 +1,51 @@
+package com.vivo.crm.interaction.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ArchiveProperties - Arquivamento de interações encerradas em PARTY_INTERACTION_ARCHIVE.
+ * Desligado por padrão: as tabelas de arquivo só existem com a migração V10 aplicada
+ */
+@Data
+@ConfigurationProperties(prefix = "interaction.archive")
+public class ArchiveProperties {
+
+    private boolean enabled = false;
+
+    private String cron = "0 0 3 * * *";
+
+    /**
+     * Interações com estes status e criadas há mais de minAge são arquivadas
+     */
+    private List<String> statuses = new ArrayList<>(List.of("completed", "cancelled"));
+    private Duration minAge = Duration.ofDays(180);
+
+    /**
+     * Interações movidas por transação (máximo 1000, limite da lista IN do Oracle)
+     */
+    private int chunkSize = 500;
+
+    /**
+     * Pausa entre blocos, para não competir com o tráfego online
+     */
+    private Duration pause = Duration.ofMillis(500);
+
+    /**
+     * Duração máxima de uma execução; o restante fica para a próxima
+     */
+    private Duration maxRunDuration = Duration.ofHours(2);
+
+    /**
+     * GET por id consulta o arquivo quando a interação não está na tabela principal
+     */
+    private boolean readFallback = false;
+
+    public int resolveChunkSize() {
+        return Math.max(1, Math.min(chunkSize, 1000));
+    }
+}
@@ -0,0 +1,38 @@
+package com.vivo.crm.interaction.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * AttachmentProperties - Armazenamento e transferência de anexos
+ */
+@Data
+@ConfigurationProperties(prefix = "interaction.attachments")
+public class AttachmentProperties {
+
+    /**
+     * Diretório raiz do armazenamento local endereçado por conteúdo
+     */
+    private String storagePath = "./data/attachments";
+
+    /**
+     * Tamanho máximo aceito por arquivo
+     */
+    private DataSize maxFileSize = DataSize.ofGigabytes(2);
+
+    /**
+     * Tamanho dos buffers de leitura quando o download não usa zero-copy
+     */
+    private DataSize bufferSize = DataSize.ofKilobytes(64);
+
+    /**
+     * Uploads simultâneos; excedentes recebem 503
+     */
+    private int maxConcurrentUploads = 16;
+
+    /**
+     * Downloads simultâneos; excedentes recebem 503
+     */
+    private int maxConcurrentDownloads = 64;
+}
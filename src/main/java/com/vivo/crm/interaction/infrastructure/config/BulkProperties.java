@@ -0,0 +1,22 @@
+package com.vivo.crm.interaction.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * BulkProperties - Configuração da carga em lote de Party Interactions
+ */
+@Data
+@ConfigurationProperties(prefix = "interaction.bulk")
+public class BulkProperties {
+
+    /**
+     * Itens por transação; cada transação é gravada em batches JDBC de hibernate.jdbc.batch_size
+     */
+    private int chunkSize = 500;
+
+    /**
+     * Máximo de itens aceitos por requisição
+     */
+    private int maxItems = 10000;
+}
@@ -0,0 +1,18 @@
+package com.vivo.crm.interaction.infrastructure.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * CacheConfig - Cache Caffeine de PartyInteractionDTO por interaction_id.
+ * O interceptor de cache roda por fora da transação: invalidações acontecem após o commit
+ * e leituras atendidas pelo cache não abrem transação.
+ * Estatísticas (hit/miss/eviction) são exportadas via actuator/prometheus.
+ */
+@Configuration
+@EnableCaching(order = Ordered.LOWEST_PRECEDENCE - 1)
+public class CacheConfig {
+
+    public static final String PARTY_INTERACTION_CACHE = "partyInteraction";
+}
@@ -0,0 +1,76 @@
+package com.vivo.crm.interaction.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * EnrichmentProperties - Pipeline de enriquecimento (transcrição → resumo → sentimento)
+ */
+@Data
+@ConfigurationProperties(prefix = "interaction.enrichment")
+public class EnrichmentProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Provedor de IA; "stub" gera resultados determinísticos localmente
+     */
+    private String provider = "stub";
+
+    /**
+     * Configuração padrão dos estágios
+     */
+    private Stage defaults = new Stage();
+
+    /**
+     * Configuração específica por estágio (transcribe, summarize, sentiment)
+     */
+    private Map<String, Stage> stages = new HashMap<>();
+
+    private Retry retry = new Retry();
+
+    private Backfill backfill = new Backfill();
+
+    public Stage stage(String name) {
+        return stages.getOrDefault(name, defaults);
+    }
+
+    @Data
+    public static class Stage {
+        private int queueCapacity = 1000;
+        private int parallelism = 2;
+        private int batchSize = 16;          // itens por chamada ao provedor
+        private Duration maxDelay = Duration.ofMillis(500);
+    }
+
+    @Data
+    public static class Retry {
+        private int maxAttempts = 4;
+        private Duration initialBackoff = Duration.ofMillis(200);
+        private Duration maxBackoff = Duration.ofSeconds(5);
+    }
+
+    /**
+     * Varredura periódica de interações pendentes (reprocessa falhas e itens perdidos em restart)
+     */
+    @Data
+    public static class Backfill {
+        private long interval = 60000; // ms
+        private int batchSize = 500;
+
+        /**
+         * Reserva de uma interação por uma instância; deve cobrir o pipeline completo e é o
+         * intervalo até a próxima tentativa após uma falha
+         */
+        private Duration lease = Duration.ofMinutes(10);
+
+        /**
+         * Tentativas do pipeline por interação antes de marcá-la como FAILED
+         */
+        private int maxAttempts = 5;
+    }
+}
@@ -0,0 +1,45 @@
+package com.vivo.crm.interaction.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * ExecutionProperties - Configuração da camada de execução das chamadas bloqueantes (JPA)
+ */
+@Data
+@ConfigurationProperties(prefix = "interaction.execution")
+public class ExecutionProperties {
+
+    /**
+     * BLOCKING executa no event loop (comportamento original, para comparação);
+     * REACTIVE executa em virtual threads fora do event loop.
+     */
+    private ExecutionMode mode = ExecutionMode.REACTIVE;
+
+    /**
+     * Limite global de chamadas simultâneas ao repositório
+     */
+    private int maxConcurrency = 256;
+
+    /**
+     * Limite padrão de chamadas simultâneas por endpoint
+     */
+    private int endpointConcurrency = 64;
+
+    /**
+     * Limites específicos por endpoint (sobrescrevem endpointConcurrency)
+     */
+    private Map<String, Integer> endpoints = new HashMap<>();
+
+    public int concurrencyFor(String endpoint) {
+        return endpoints.getOrDefault(endpoint, endpointConcurrency);
+    }
+
+    public enum ExecutionMode {
+        BLOCKING,
+        REACTIVE
+    }
+}
@@ -0,0 +1,37 @@
+package com.vivo.crm.interaction.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * IdempotencyProperties - Deduplicação de criações repetidas (Idempotency-Key ou ID do cliente)
+ */
+@Data
+@ConfigurationProperties(prefix = "interaction.idempotency")
+public class IdempotencyProperties {
+
+    /**
+     * Máximo de chaves mantidas em memória (somando todas as faixas); cada entrada guarda a resposta original
+     */
+    private int windowSize = 10_000;
+
+    /**
+     * Número de faixas independentes da janela em memória (arredondado para potência de 2);
+     * 0 usa 4x o número de processadores
+     */
+    private int stripes = 0;
+
+    /**
+     * Tempo em que uma chave é considerada repetição; também define a retenção na tabela
+     */
+    private Duration ttl = Duration.ofHours(24);
+
+    private String cleanupCron = "0 30 * * * *";
+
+    public int resolveStripes() {
+        int requested = stripes > 0 ? stripes : Runtime.getRuntime().availableProcessors() * 4;
+        return requested <= 1 ? 1 : Integer.highestOneBit(requested - 1) << 1;
+    }
+}
@@ -0,0 +1,41 @@
+package com.vivo.crm.interaction.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * JsonSearchProperties - Busca por atributos de context_data e characteristics
+ */
+@Data
+@ConfigurationProperties(prefix = "interaction.json-search")
+public class JsonSearchProperties {
+
+    /**
+     * Atributos de context_data pesquisáveis (nome do parâmetro → caminho JSON). Apenas estes
+     * caminhos entram no SQL; os caminhos com índice na migração V12 são atendidos pelo índice,
+     * os demais são avaliados sobre as linhas já filtradas pelas demais condições.
+     */
+    private Map<String, String> contextPaths = new LinkedHashMap<>(Map.of(
+        "campaignId", "$.campaignId",
+        "ivrMenu", "$.ivrMenu"));
+
+    /**
+     * Máximo de predicados JSON por consulta
+     */
+    private int maxPredicates = 5;
+
+    /**
+     * null detecta pelo banco: JSON_VALUE/JSON_EXISTS no Oracle, avaliação em memória nos demais (H2)
+     */
+    private Boolean evaluateInMemory;
+
+    /**
+     * Avaliação em memória: linhas lidas por bloco e máximo de linhas examinadas por página; ao
+     * atingir o máximo a página é devolvida com o cursor da última linha examinada
+     */
+    private int scanChunkSize = 500;
+    private int maxScannedRows = 50000;
+}
@@ -0,0 +1,48 @@
+package com.vivo.crm.interaction.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * LiveFeedProperties - Feed SSE de alterações de PartyInteraction
+ */
+@Data
+@ConfigurationProperties(prefix = "interaction.live-feed")
+public class LiveFeedProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Conexões simultâneas por instância; acima disso a assinatura é recusada com 503
+     */
+    private int maxSubscribers = 50000;
+
+    /**
+     * Eventos aguardando distribuição; com a fila cheia o evento é descartado e contabilizado
+     */
+    private int intakeCapacity = 10000;
+
+    /**
+     * Eventos pendentes por assinante (cliente lento); aplicado na política BUFFER
+     */
+    private int subscriberBufferSize = 256;
+
+    /**
+     * BUFFER descarta os mais antigos quando o buffer do assinante enche;
+     * LATEST mantém apenas o evento mais recente. Descartes contabilizados em
+     * interaction.live-feed.dropped{stage=subscriber}
+     */
+    private Overflow overflow = Overflow.BUFFER;
+
+    /**
+     * Comentário SSE enviado periodicamente para manter a conexão aberta em proxies
+     */
+    private Duration heartbeatInterval = Duration.ofSeconds(15);
+
+    public enum Overflow {
+        BUFFER,
+        LATEST
+    }
+}
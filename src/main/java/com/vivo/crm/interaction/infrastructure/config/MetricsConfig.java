@@ -0,0 +1,28 @@
+package com.vivo.crm.interaction.infrastructure.config;
+
+import com.vivo.crm.interaction.infrastructure.metrics.StatementCountingInspector;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * MetricsConfig - Métricas da camada de persistência.
+ * Endpoints (http.server.requests), repositórios Spring Data (spring.data.repository.invocations)
+ * e o pool Hikari (hikaricp.connections.*) são instrumentados pelo actuator; aqui é registrada
+ * apenas a contagem de statements JDBC.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public StatementCountingInspector statementCountingInspector(MeterRegistry meterRegistry) {
+        return new StatementCountingInspector(meterRegistry);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer statementInspectorCustomizer(StatementCountingInspector inspector) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, inspector);
+    }
+}
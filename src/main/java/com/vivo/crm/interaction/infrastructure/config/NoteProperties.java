@@ -0,0 +1,29 @@
+package com.vivo.crm.interaction.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * NoteProperties - Gravação agrupada das notas de interação
+ */
+@Data
+@ConfigurationProperties(prefix = "interaction.notes")
+public class NoteProperties {
+
+    /**
+     * Notas aguardando gravação; com a fila cheia a nota é gravada diretamente pela requisição
+     */
+    private int queueCapacity = 10000;
+
+    /**
+     * Máximo de notas por batch JDBC
+     */
+    private int batchSize = 200;
+
+    private int maxTextLength = 32000;
+
+    /**
+     * Notas mais recentes incluídas por interação no atributo note de fields=; as demais via GET /note
+     */
+    private int embeddedLimit = 20;
+}
@@ -0,0 +1,26 @@
+package com.vivo.crm.interaction.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * OutboxProperties - Configuração do relay outbox → Kafka
+ */
+@Data
+@ConfigurationProperties(prefix = "interaction.outbox")
+public class OutboxProperties {
+
+    private String topic = "interaction-events";
+
+    private Relay relay = new Relay();
+
+    @Data
+    public static class Relay {
+        private boolean enabled = true;
+        private int batchSize = 500; // no máximo 1000 (lista IN da verificação de ordem)
+        private long pollInterval = 500; // ms
+        private Duration sendTimeout = Duration.ofSeconds(30);
+    }
+}
@@ -0,0 +1,27 @@
+package com.vivo.crm.interaction.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * PaginationProperties - Limites de paginação e streaming das listagens
+ */
+@Data
+@ConfigurationProperties(prefix = "interaction.pagination")
+public class PaginationProperties {
+
+    private int defaultLimit = 100;
+    private int maxLimit = 1000;
+
+    /**
+     * Tamanho de cada bloco lido do banco durante o streaming (também usado como fetch size)
+     */
+    private int streamChunkSize = 500;
+
+    public int resolveLimit(Integer requested) {
+        if (requested == null || requested <= 0) {
+            return defaultLimit;
+        }
+        return Math.min(requested, maxLimit);
+    }
+}
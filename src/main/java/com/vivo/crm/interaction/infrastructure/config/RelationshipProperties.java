@@ -0,0 +1,27 @@
+package com.vivo.crm.interaction.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * RelationshipProperties - Limites da navegação no grafo de interações relacionadas
+ */
+@Data
+@ConfigurationProperties(prefix = "interaction.relationships")
+public class RelationshipProperties {
+
+    private int defaultDepth = 1;
+    private int maxDepth = 5;
+
+    /**
+     * Máximo de interações retornadas (incluindo a raiz); além disso o resultado é truncado
+     */
+    private int maxNodes = 500;
+
+    public int resolveDepth(Integer requested) {
+        if (requested == null || requested <= 0) {
+            return defaultDepth;
+        }
+        return Math.min(requested, maxDepth);
+    }
+}
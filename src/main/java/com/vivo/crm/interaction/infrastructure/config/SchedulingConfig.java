@@ -0,0 +1,12 @@
+package com.vivo.crm.interaction.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * SchedulingConfig - Habilita as tarefas periódicas (flush de contadores, reconciliação, etc.)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,80 @@
+package com.vivo.crm.interaction.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * SearchIndexProperties - Índice full-text embarcado (Lucene) de PartyInteraction e Interaction
+ */
+@Data
+@ConfigurationProperties(prefix = "interaction.search-index")
+public class SearchIndexProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Diretório local do índice; cada instância mantém o seu
+     */
+    private String path = "./data/search-index";
+
+    private int ramBufferMb = 64;
+
+    /**
+     * Intervalo de reabertura do searcher (visibilidade das alterações indexadas)
+     */
+    private Duration refreshInterval = Duration.ofSeconds(1);
+
+    /**
+     * Intervalo de sincronização: relê as linhas alteradas (updated_at) e as exclusões desde o
+     * último commit, cobrindo escritas de outras instâncias, e grava o commit do índice
+     */
+    private Duration syncInterval = Duration.ofSeconds(30);
+
+    /**
+     * Margem aplicada ao watermark da sincronização (transações longas, relógios entre instâncias)
+     */
+    private Duration syncOverlap = Duration.ofMinutes(2);
+
+    /**
+     * Retenção das exclusões (SEARCH_INDEX_TOMBSTONE) lidas pela sincronização; uma instância
+     * parada por mais tempo reconstrói o índice
+     */
+    private Duration tombstoneRetention = Duration.ofDays(7);
+
+    /**
+     * Reconstrói a partir do banco quando o índice está vazio ou sem commit
+     */
+    private boolean rebuildOnStartup = true;
+
+    private Rebuild rebuild = new Rebuild();
+
+    /**
+     * Peso do assunto em relação à descrição/conteúdo no ranking
+     */
+    private float subjectBoost = 2.0f;
+
+    private int maxQueryLength = 500;
+
+    @Data
+    public static class Rebuild {
+
+        /**
+         * Blocos lidos em paralelo
+         */
+        private int parallelism = 4;
+
+        /**
+         * Faixa de ids de PARTY_INTERACTION por bloco
+         */
+        private int partyInteractionChunk = 50000;
+
+        /**
+         * Janela de created_at de interactions por bloco
+         */
+        private Duration interactionWindow = Duration.ofDays(1);
+
+        private int fetchSize = 1000;
+    }
+}
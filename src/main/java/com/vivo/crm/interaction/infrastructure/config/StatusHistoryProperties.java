@@ -0,0 +1,32 @@
+package com.vivo.crm.interaction.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * StatusHistoryProperties - Configuração da gravação assíncrona do histórico de status
+ */
+@Data
+@ConfigurationProperties(prefix = "interaction.status-history")
+public class StatusHistoryProperties {
+
+    /**
+     * DURABLE: com a fila cheia o registro é gravado de forma síncrona (nunca descarta);
+     * BEST_EFFORT: com a fila cheia o registro é descartado e contabilizado.
+     * Em ambos os modos a fila é drenada por completo no shutdown gracioso. A fila fica em
+     * memória: DURABLE não cobre a queda do processo (kill -9, OOM), quando os registros
+     * ainda não gravados se perdem.
+     */
+    private Durability durability = Durability.DURABLE;
+
+    private int queueCapacity = 10000;
+    private int batchSize = 200;
+    private Duration maxDelay = Duration.ofMillis(200);
+
+    public enum Durability {
+        DURABLE,
+        BEST_EFFORT
+    }
+}
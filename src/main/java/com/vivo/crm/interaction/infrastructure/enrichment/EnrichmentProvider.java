@@ -0,0 +1,17 @@
+package com.vivo.crm.interaction.infrastructure.enrichment;
+
+import java.util.List;
+
+/**
+ * EnrichmentProvider - Provedor de IA do pipeline de enriquecimento.
+ * Todas as operações recebem um lote e devolvem os resultados na mesma ordem da entrada;
+ * exceções são tratadas como falha do lote inteiro e retentadas pelo pipeline.
+ */
+public interface EnrichmentProvider {
+
+    List<String> transcribe(List<String> audioUrls);
+
+    List<String> summarize(List<String> texts);
+
+    List<SentimentResult> analyzeSentiment(List<String> texts);
+}
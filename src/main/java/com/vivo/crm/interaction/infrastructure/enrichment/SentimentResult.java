@@ -0,0 +1,13 @@
+package com.vivo.crm.interaction.infrastructure.enrichment;
+
+import lombok.Value;
+
+/**
+ * SentimentResult - Sentimento (POSITIVE, NEUTRAL, NEGATIVE) e score entre 0 e 1
+ */
+@Value
+public class SentimentResult {
+
+    String sentiment;
+    Double score;
+}
@@ -0,0 +1,59 @@
+package com.vivo.crm.interaction.infrastructure.enrichment;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * StubEnrichmentProvider - Provedor local e determinístico, para desenvolvimento e testes offline
+ */
+@Component
+@ConditionalOnProperty(prefix = "interaction.enrichment", name = "provider", havingValue = "stub", matchIfMissing = true)
+public class StubEnrichmentProvider implements EnrichmentProvider {
+
+    private static final int SUMMARY_LENGTH = 280;
+    private static final Set<String> POSITIVE = Set.of("obrigado", "obrigada", "ótimo", "excelente", "resolvido", "satisfeito");
+    private static final Set<String> NEGATIVE = Set.of("cancelar", "indevida", "reclamação", "problema", "insatisfeito", "péssimo");
+
+    @Override
+    public List<String> transcribe(List<String> audioUrls) {
+        return audioUrls.stream()
+            .map(url -> "Transcrição simulada do áudio " + url)
+            .toList();
+    }
+
+    @Override
+    public List<String> summarize(List<String> texts) {
+        return texts.stream()
+            .map(text -> text.length() <= SUMMARY_LENGTH ? text : text.substring(0, SUMMARY_LENGTH) + "...")
+            .toList();
+    }
+
+    @Override
+    public List<SentimentResult> analyzeSentiment(List<String> texts) {
+        return texts.stream()
+            .map(this::sentimentOf)
+            .toList();
+    }
+
+    private SentimentResult sentimentOf(String text) {
+        int balance = 0;
+        for (String word : text.toLowerCase(Locale.ROOT).split("[^\\p{L}]+")) {
+            if (POSITIVE.contains(word)) {
+                balance++;
+            } else if (NEGATIVE.contains(word)) {
+                balance--;
+            }
+        }
+        if (balance > 0) {
+            return new SentimentResult("POSITIVE", Math.min(1.0, 0.7 + 0.1 * balance));
+        }
+        if (balance < 0) {
+            return new SentimentResult("NEGATIVE", Math.max(0.0, 0.3 + 0.1 * balance));
+        }
+        return new SentimentResult("NEUTRAL", 0.5);
+    }
+}
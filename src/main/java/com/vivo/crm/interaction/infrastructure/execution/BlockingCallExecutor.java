@@ -0,0 +1,211 @@
+package com.vivo.crm.interaction.infrastructure.execution;
+
+import com.vivo.crm.interaction.infrastructure.config.ExecutionProperties;
+import com.vivo.crm.interaction.infrastructure.config.ExecutionProperties.ExecutionMode;
+import com.vivo.crm.interaction.infrastructure.metrics.StatementCountingInspector;
+import com.vivo.crm.interaction.infrastructure.web.AccessLogFilter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.context.ContextView;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * BlockingCallExecutor - Executa chamadas bloqueantes (JPA/JDBC) fora do event loop do Netty.
+ *
+ * No modo REACTIVE cada chamada roda em uma virtual thread, limitada por um bulkhead global
+ * e por um bulkhead por endpoint; quando o limite é atingido a requisição é rejeitada com 503
+ * (backpressure) em vez de acumular trabalho. No modo BLOCKING a chamada roda na própria
+ * thread do chamador, reproduzindo o comportamento original para comparação.
+ *
+ * Cada chamada é medida por endpoint (tag de baixa cardinalidade): duração por resultado
+ * (interaction.calls) e quantidade de statements JDBC executados (interaction.calls.statements).
+ * O ID de correlação da requisição (contexto do Reactor) é colocado no MDC durante a chamada.
+ */
+@Slf4j
+@Component
+public class BlockingCallExecutor implements DisposableBean {
+
+    private final ExecutionProperties properties;
+    private final Scheduler scheduler;
+    private final Bulkhead globalBulkhead;
+    private final Map<String, Bulkhead> endpointBulkheads = new ConcurrentHashMap<>();
+    private final Map<String, EndpointMetrics> endpointMetrics = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public BlockingCallExecutor(ExecutionProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.scheduler = Schedulers.fromExecutorService(
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("pi-db-", 0).factory()), "pi-db");
+        this.globalBulkhead = register(new Bulkhead("global", properties.getMaxConcurrency()));
+        log.info("Camada de execução em modo {}", properties.getMode());
+    }
+
+    /**
+     * Executa a chamada e publica o resultado; null resulta em Mono vazio
+     */
+    public <T> Mono<T> mono(String endpoint, Callable<T> call) {
+        EndpointMetrics metrics = endpointMetrics.computeIfAbsent(endpoint, EndpointMetrics::new);
+        Mono<T> mono = Mono.deferContextual(context -> Mono.fromCallable(() -> metrics.record(context, call)));
+        if (properties.getMode() == ExecutionMode.BLOCKING) {
+            return mono;
+        }
+        Bulkhead endpointBulkhead = endpointBulkheads.computeIfAbsent(endpoint,
+            name -> register(new Bulkhead(name, properties.concurrencyFor(name))));
+        return Mono.defer(() -> {
+            if (!globalBulkhead.tryAcquire()) {
+                return Mono.error(rejected(globalBulkhead));
+            }
+            if (!endpointBulkhead.tryAcquire()) {
+                globalBulkhead.release();
+                return Mono.error(rejected(endpointBulkhead));
+            }
+            return mono.subscribeOn(scheduler)
+                .doFinally(signal -> {
+                    endpointBulkhead.release();
+                    globalBulkhead.release();
+                });
+        });
+    }
+
+    /**
+     * Executa as chamadas de um stream sob uma única permissão dos bulkheads, adquirida na assinatura:
+     * a rejeição (503) só pode ocorrer antes do primeiro elemento, nunca no meio de uma resposta já iniciada
+     */
+    public <T> Flux<T> stream(String endpoint, Function<Calls, ? extends Publisher<T>> body) {
+        Calls calls = new Calls(endpointMetrics.computeIfAbsent(endpoint, EndpointMetrics::new));
+        if (properties.getMode() == ExecutionMode.BLOCKING) {
+            return Flux.defer(() -> body.apply(calls));
+        }
+        Bulkhead endpointBulkhead = endpointBulkheads.computeIfAbsent(endpoint,
+            name -> register(new Bulkhead(name, properties.concurrencyFor(name))));
+        return Flux.defer(() -> {
+            if (!globalBulkhead.tryAcquire()) {
+                return Flux.error(rejected(globalBulkhead));
+            }
+            if (!endpointBulkhead.tryAcquire()) {
+                globalBulkhead.release();
+                return Flux.error(rejected(endpointBulkhead));
+            }
+            return Flux.from(body.apply(calls))
+                .doFinally(signal -> {
+                    endpointBulkhead.release();
+                    globalBulkhead.release();
+                });
+        });
+    }
+
+    /**
+     * Executa a chamada e publica os elementos da coleção retornada
+     */
+    public <T> Flux<T> flux(String endpoint, Callable<? extends Iterable<T>> call) {
+        return mono(endpoint, call).flatMapIterable(items -> items);
+    }
+
+    public Map<String, Bulkhead> getEndpointBulkheads() {
+        return Map.copyOf(endpointBulkheads);
+    }
+
+    private Bulkhead register(Bulkhead bulkhead) {
+        Gauge.builder("interaction.execution.inflight", bulkhead, Bulkhead::getInFlight)
+            .description("Chamadas em execução no bulkhead")
+            .tag("bulkhead", bulkhead.getName())
+            .register(meterRegistry);
+        return bulkhead;
+    }
+
+    private ResponseStatusException rejected(Bulkhead bulkhead) {
+        meterRegistry.counter("interaction.execution.rejected", "bulkhead", bulkhead.getName()).increment();
+        log.warn("Limite de concorrência atingido para {} ({})", bulkhead.getName(), bulkhead.getLimit());
+        return new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+            "Limite de concorrência atingido para " + bulkhead.getName());
+    }
+
+    /**
+     * Chamadas de um stream: medidas e executadas fora do event loop, sem nova passagem pelos bulkheads
+     */
+    public final class Calls {
+
+        private final EndpointMetrics metrics;
+
+        private Calls(EndpointMetrics metrics) {
+            this.metrics = metrics;
+        }
+
+        public <T> Mono<T> mono(Callable<T> call) {
+            Mono<T> mono = Mono.deferContextual(context -> Mono.fromCallable(() -> metrics.record(context, call)));
+            return properties.getMode() == ExecutionMode.BLOCKING ? mono : mono.subscribeOn(scheduler);
+        }
+    }
+
+    /**
+     * Medidores de um endpoint, criados uma única vez
+     */
+    private final class EndpointMetrics {
+
+        private final Timer success;
+        private final Timer error;
+        private final DistributionSummary statements;
+
+        EndpointMetrics(String endpoint) {
+            this.success = timer(endpoint, "success");
+            this.error = timer(endpoint, "error");
+            this.statements = DistributionSummary.builder("interaction.calls.statements")
+                .description("Statements JDBC por chamada")
+                .tag("endpoint", endpoint)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        }
+
+        private Timer timer(String endpoint, String outcome) {
+            return Timer.builder("interaction.calls")
+                .description("Duração das chamadas bloqueantes por endpoint")
+                .tags("endpoint", endpoint, "outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        }
+
+        <T> T record(ContextView context, Callable<T> call) throws Exception {
+            long start = System.nanoTime();
+            Timer outcome = error;
+            String correlationId = context.getOrDefault(AccessLogFilter.CORRELATION_ID_KEY, null);
+            if (correlationId != null) {
+                MDC.put(AccessLogFilter.CORRELATION_ID_KEY, correlationId);
+            }
+            StatementCountingInspector.beginCall();
+            try {
+                T result = call.call();
+                outcome = success;
+                return result;
+            } finally {
+                statements.record(StatementCountingInspector.endCall());
+                outcome.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                MDC.remove(AccessLogFilter.CORRELATION_ID_KEY);
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.dispose();
+    }
+}
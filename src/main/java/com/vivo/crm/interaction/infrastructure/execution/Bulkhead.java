@@ -0,0 +1,40 @@
+package com.vivo.crm.interaction.infrastructure.execution;
+
+import java.util.concurrent.Semaphore;
+
+/**
+ * Bulkhead - Limite não bloqueante de execuções simultâneas.
+ * Quando não há permissão disponível a chamada é rejeitada em vez de enfileirada.
+ */
+public class Bulkhead {
+
+    private final String name;
+    private final int limit;
+    private final Semaphore permits;
+
+    public Bulkhead(String name, int limit) {
+        this.name = name;
+        this.limit = limit;
+        this.permits = new Semaphore(limit);
+    }
+
+    public boolean tryAcquire() {
+        return permits.tryAcquire();
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return limit - permits.availablePermits();
+    }
+}
@@ -0,0 +1,69 @@
+package com.vivo.crm.interaction.infrastructure.lock;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * ClusterLock - Lease em CLUSTER_LOCK (ClusterLockLease) para tarefas periódicas que devem rodar
+ * em uma única instância por vez. O lease usa o relógio do banco, lido antes de cada tentativa,
+ * e expira sozinho se o dono morrer; lease deve ser maior que a duração esperada da tarefa.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClusterLock {
+
+    private static final String NOW_SQL = "SELECT LOCALTIMESTAMP FROM DUAL";
+
+    private static final String ACQUIRE_SQL = "UPDATE CLUSTER_LOCK SET locked_until = ?, locked_at = ?, locked_by = ? " +
+        "WHERE lock_name = ? AND locked_until <= ?";
+
+    private static final String INSERT_SQL = "INSERT INTO CLUSTER_LOCK (lock_name, locked_until, locked_at, locked_by) " +
+        "VALUES (?, ?, ?, ?)";
+
+    private static final String RELEASE_SQL = "UPDATE CLUSTER_LOCK SET locked_until = locked_at " +
+        "WHERE lock_name = ? AND locked_by = ?";
+
+    private final String owner = ManagementFactory.getRuntimeMXBean().getName() + '/' + UUID.randomUUID();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Executa a tarefa se o lease estiver livre; false se outra instância o detém
+     */
+    public boolean runExclusively(String name, Duration lease, Runnable task) {
+        if (!tryAcquire(name, lease)) {
+            log.debug("Lease {} em uso por outra instância", name);
+            return false;
+        }
+        try {
+            task.run();
+        } finally {
+            jdbcTemplate.update(RELEASE_SQL, name, owner);
+        }
+        return true;
+    }
+
+    private boolean tryAcquire(String name, Duration lease) {
+        LocalDateTime now = jdbcTemplate.queryForObject(NOW_SQL, LocalDateTime.class);
+        Timestamp lockedAt = Timestamp.valueOf(now);
+        Timestamp lockedUntil = Timestamp.valueOf(now.plus(lease));
+        if (jdbcTemplate.update(ACQUIRE_SQL, lockedUntil, lockedAt, owner, name, lockedAt) == 1) {
+            return true;
+        }
+        try {
+            return jdbcTemplate.update(INSERT_SQL, name, lockedUntil, lockedAt, owner) == 1;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.vivo.crm.interaction.infrastructure.messaging;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vivo.crm.interaction.application.event.PartyInteractionChangedEvent;
+import com.vivo.crm.interaction.domain.entity.InteractionOutboxEvent;
+import com.vivo.crm.interaction.domain.repository.InteractionOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * OutboxEventWriter - Grava cada PartyInteractionChangedEvent na tabela outbox.
+ * Listener síncrono: roda na transação de quem publicou, então o evento só existe se a alteração for confirmada.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxEventWriter {
+
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {
+    };
+
+    private final InteractionOutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+
+    @EventListener
+    public void onInteractionChanged(PartyInteractionChangedEvent event) {
+        String eventType = "INTERACTION_" + event.getType().name();
+
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("eventId", UUID.randomUUID().toString());
+        payload.put("eventType", eventType);
+        payload.put("eventTime", event.getOccurredAt().toString());
+        payload.put("interactionId", event.getInteractionId());
+        payload.put("partyId", event.getPartyId());
+        payload.put("channel", event.getChannel());
+        payload.put("previousStatus", event.getPreviousStatus());
+        payload.put("status", event.getStatus());
+        if (event.getInteraction() != null) {
+            payload.put("partyInteraction", objectMapper.convertValue(event.getInteraction(), MAP_TYPE));
+        }
+
+        outboxRepository.save(InteractionOutboxEvent.builder()
+            .aggregateId(event.getInteractionId())
+            .eventType(eventType)
+            .payload(payload)
+            .createdAt(event.getOccurredAt())
+            .build());
+    }
+}
@@ -0,0 +1,130 @@
+package com.vivo.crm.interaction.infrastructure.messaging;
+
+import com.vivo.crm.interaction.domain.entity.InteractionOutboxEvent;
+import com.vivo.crm.interaction.domain.repository.InteractionOutboxRepository;
+import com.vivo.crm.interaction.infrastructure.config.OutboxProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * OutboxRelay - Drena a tabela outbox em lotes para o tópico Kafka.
+ *
+ * Cada lote é enviado de forma assíncrona (o produtor agrupa por linger/batch-size), aguardado
+ * por completo e só então removido da tabela, na mesma transação que mantém o lock das linhas:
+ * entrega at-least-once. A chave da mensagem é o interaction_id, então eventos da mesma
+ * interação vão para a mesma partição, em ordem (produtor idempotente).
+ *
+ * A ordem é a do id, crescente por interação (não entre interações). Instâncias
+ * concorrentes reservam lotes com SKIP LOCKED; um evento cuja interação tem evento anterior
+ * reservado por outra instância fica para o próximo ciclo. Como o lote é sempre tirado dos
+ * eventos mais antigos, na prática uma instância publica enquanto as demais encontram o lote
+ * reservado: o relay escala com o tamanho do lote, não com o número de instâncias.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "interaction.outbox.relay", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+
+    private final InteractionOutboxRepository outboxRepository;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxProperties properties;
+
+    private final Counter publishedCounter;
+    private final Counter failureCounter;
+    private final Timer batchTimer;
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    public OutboxRelay(InteractionOutboxRepository outboxRepository,
+                       KafkaTemplate<String, Object> kafkaTemplate,
+                       TransactionTemplate transactionTemplate,
+                       OutboxProperties properties,
+                       MeterRegistry meterRegistry) {
+        this.outboxRepository = outboxRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.publishedCounter = Counter.builder("interaction.outbox.published")
+            .description("Eventos publicados no Kafka a partir do outbox")
+            .register(meterRegistry);
+        this.failureCounter = Counter.builder("interaction.outbox.failures")
+            .description("Lotes do outbox que falharam ao publicar")
+            .register(meterRegistry);
+        this.batchTimer = Timer.builder("interaction.outbox.batch")
+            .description("Tempo para publicar e remover um lote do outbox")
+            .register(meterRegistry);
+        Gauge.builder("interaction.outbox.lag", lagMillis, value -> value.get() / 1000.0)
+            .description("Idade do evento mais antigo pendente no outbox")
+            .baseUnit("seconds")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${interaction.outbox.relay.poll-interval:500}")
+    public void relay() {
+        try {
+            int published;
+            do {
+                published = batchTimer.record(() -> transactionTemplate.execute(status -> publishNextBatch()));
+            } while (published == properties.getRelay().getBatchSize());
+        } catch (RuntimeException e) {
+            failureCounter.increment();
+            log.warn("Falha ao publicar lote do outbox, nova tentativa no próximo ciclo: {}", e.getMessage());
+        } finally {
+            updateLag();
+        }
+    }
+
+    private int publishNextBatch() {
+        List<InteractionOutboxEvent> claimed = outboxRepository.lockNextBatch(properties.getRelay().getBatchSize());
+        if (claimed.isEmpty()) {
+            return 0;
+        }
+        Set<Long> blocked = new HashSet<>(outboxRepository.findBlockedIds(
+            claimed.stream().map(InteractionOutboxEvent::getId).toList()));
+        List<InteractionOutboxEvent> batch = blocked.isEmpty() ? claimed : claimed.stream()
+            .filter(event -> !blocked.contains(event.getId()))
+            .toList();
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        CompletableFuture<?>[] sends = batch.stream()
+            .map(event -> kafkaTemplate.send(properties.getTopic(), event.getAggregateId(), event.getPayload()))
+            .toArray(CompletableFuture[]::new);
+        try {
+            CompletableFuture.allOf(sends).get(properties.getRelay().getSendTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            throw new IllegalStateException("Falha ao enviar lote de " + batch.size() + " eventos", e);
+        }
+
+        outboxRepository.deleteAllInBatch(batch);
+        publishedCounter.increment(batch.size());
+        return batch.size();
+    }
+
+    private void updateLag() {
+        try {
+            LocalDateTime oldest = outboxRepository.findOldestCreatedAt();
+            lagMillis.set(oldest == null ? 0 : Math.max(0, Duration.between(oldest, LocalDateTime.now()).toMillis()));
+        } catch (RuntimeException e) {
+            log.debug("Não foi possível calcular o lag do outbox: {}", e.getMessage());
+        }
+    }
+}
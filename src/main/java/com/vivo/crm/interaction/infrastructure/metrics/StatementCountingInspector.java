@@ -0,0 +1,81 @@
+package com.vivo.crm.interaction.infrastructure.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.Locale;
+
+/**
+ * StatementCountingInspector - Conta os statements JDBC preparados pelo Hibernate.
+ *
+ * Mantém um contador global por tipo (select/insert/update/delete/other) e um contador da
+ * chamada corrente (thread-local), aberto e fechado pelo BlockingCallExecutor em volta de cada
+ * chamada de endpoint. Muitos selects por chamada indicam N+1; um insert/update por linha em
+ * gravações em lote indica que o batching JDBC não está ativo.
+ */
+public class StatementCountingInspector implements StatementInspector {
+
+    private static final ThreadLocal<int[]> CURRENT_CALL = new ThreadLocal<>();
+
+    private final Counter selects;
+    private final Counter inserts;
+    private final Counter updates;
+    private final Counter deletes;
+    private final Counter others;
+
+    public StatementCountingInspector(MeterRegistry meterRegistry) {
+        this.selects = counter(meterRegistry, "select");
+        this.inserts = counter(meterRegistry, "insert");
+        this.updates = counter(meterRegistry, "update");
+        this.deletes = counter(meterRegistry, "delete");
+        this.others = counter(meterRegistry, "other");
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String kind) {
+        return Counter.builder("interaction.jdbc.statements")
+            .description("Statements JDBC preparados pelo Hibernate")
+            .tag("kind", kind)
+            .register(meterRegistry);
+    }
+
+    @Override
+    public String inspect(String sql) {
+        counterFor(sql).increment();
+        int[] current = CURRENT_CALL.get();
+        if (current != null) {
+            current[0]++;
+        }
+        return sql;
+    }
+
+    private Counter counterFor(String sql) {
+        String trimmed = sql.stripLeading();
+        if (trimmed.length() < 6) {
+            return others;
+        }
+        return switch (trimmed.substring(0, 6).toLowerCase(Locale.ROOT)) {
+            case "select" -> selects;
+            case "insert" -> inserts;
+            case "update" -> updates;
+            case "delete" -> deletes;
+            default -> others;
+        };
+    }
+
+    /**
+     * Inicia a contagem da chamada na thread corrente
+     */
+    public static void beginCall() {
+        CURRENT_CALL.set(new int[1]);
+    }
+
+    /**
+     * Encerra a contagem da chamada na thread corrente e retorna o total
+     */
+    public static int endCall() {
+        int[] current = CURRENT_CALL.get();
+        CURRENT_CALL.remove();
+        return current != null ? current[0] : 0;
+    }
+}
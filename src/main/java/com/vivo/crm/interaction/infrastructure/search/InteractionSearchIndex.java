@@ -0,0 +1,379 @@
+package com.vivo.crm.interaction.infrastructure.search;
+
+import com.vivo.crm.interaction.application.dto.InteractionPage;
+import com.vivo.crm.interaction.application.dto.SearchHitDTO;
+import com.vivo.crm.interaction.domain.repository.SearchDocument;
+import com.vivo.crm.interaction.domain.repository.TimelineSource;
+import com.vivo.crm.interaction.infrastructure.config.SearchIndexProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.br.BrazilianAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field.Store;
+import org.apache.lucene.document.SortedDocValuesField;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.simple.SimpleQueryParser;
+import org.apache.lucene.search.BooleanClause.Occur;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchNoDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopFieldDocs;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.BytesRef;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * InteractionSearchIndex - Índice invertido Lucene em disco local, com busca near-real-time.
+ *
+ * Um documento por PartyInteraction (assunto + descrição) e por Interaction (conteúdo,
+ * transcrição e resumo), identificado por "source:id". O ranking é BM25 com peso maior no
+ * assunto; o resultado é montado só com campos armazenados no índice, sem consulta ao banco.
+ * Alterações ficam visíveis na próxima reabertura do searcher (refresh) e duráveis no commit,
+ * que grava junto o watermark da sincronização para retomar a partir dele após um restart.
+ *
+ * Durante a reconstrução o searcher não é reaberto: as buscas continuam no snapshot anterior
+ * até o commit da nova versão; uma reconstrução abortada volta ao último commit.
+ */
+@Slf4j
+@Component
+public class InteractionSearchIndex implements SmartLifecycle {
+
+    private static final String KEY = "key";
+    private static final String SOURCE = "source";
+    private static final String ID = "id";
+    private static final String PARTY = "party";
+    private static final String CHANNEL = "channel";
+    private static final String CHANNEL_FILTER = "channelFilter";
+    private static final String STATUS = "status";
+    private static final String TITLE = "title";
+    private static final String OCCURRED_AT = "occurredAt";
+    private static final String SUBJECT = "subject";
+    private static final String BODY = "body";
+    private static final String WATERMARK = "watermark";
+
+    private static final char SEPARATOR = '|';
+
+    /**
+     * Score decrescente com desempate pela chave: ordem total, estável entre páginas
+     */
+    private static final Sort RANKING = new Sort(SortField.FIELD_SCORE, new SortField(KEY, SortField.Type.STRING));
+
+    private final SearchIndexProperties properties;
+    private final Analyzer analyzer = new BrazilianAnalyzer();
+
+    private volatile Directory directory;
+    private volatile IndexWriter writer;
+    private volatile SearcherManager searcherManager;
+    private volatile LocalDateTime committedWatermark;
+    private volatile boolean rebuilding;
+    private volatile boolean running;
+
+    public InteractionSearchIndex(SearchIndexProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        Gauge.builder("interaction.search.index.documents", this, InteractionSearchIndex::numDocs)
+            .description("Documentos no índice full-text")
+            .register(meterRegistry);
+    }
+
+    public void update(SearchDocument document) {
+        String key = key(document.getSource(), document.getId());
+        try {
+            writer.updateDocument(new Term(KEY, key), toDocument(key, document));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void delete(TimelineSource source, String id) {
+        try {
+            writer.deleteDocuments(new Term(KEY, key(source, id)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Busca ranqueada; text segue a sintaxe simples do Lucene (termos em AND, "frase", prefixo*, -exclusão)
+     */
+    public InteractionPage<SearchHitDTO> search(String text, TimelineSource source, String partyId, String channel,
+                                                String cursor, int limit) {
+        SimpleQueryParser parser = new SimpleQueryParser(analyzer,
+            Map.of(SUBJECT, properties.getSubjectBoost(), BODY, 1.0f));
+        parser.setDefaultOperator(Occur.MUST);
+        Query textQuery = parser.parse(text);
+        if (textQuery instanceof MatchNoDocsQuery) {
+            return new InteractionPage<>(List.of(), null, null);
+        }
+        BooleanQuery.Builder query = new BooleanQuery.Builder().add(textQuery, Occur.MUST);
+        if (source != null) {
+            query.add(new TermQuery(new Term(SOURCE, source.name())), Occur.FILTER);
+        }
+        if (partyId != null) {
+            query.add(new TermQuery(new Term(PARTY, partyId)), Occur.FILTER);
+        }
+        if (channel != null) {
+            query.add(new TermQuery(new Term(CHANNEL_FILTER, channel.toLowerCase(Locale.ROOT))), Occur.FILTER);
+        }
+
+        SearcherManager manager = searcherManager;
+        try {
+            IndexSearcher searcher = manager.acquire();
+            try {
+                FieldDoc after = cursor != null ? decodeCursor(cursor) : null;
+                TopFieldDocs top = after == null
+                    ? searcher.search(query.build(), limit + 1, RANKING, true)
+                    : searcher.searchAfter(after, query.build(), limit + 1, RANKING, true);
+                ScoreDoc[] docs = top.scoreDocs;
+                int size = Math.min(docs.length, limit);
+                StoredFields storedFields = searcher.storedFields();
+                List<SearchHitDTO> hits = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    hits.add(toHit(storedFields.document(docs[i].doc), docs[i].score));
+                }
+                String nextCursor = docs.length > limit ? encodeCursor((FieldDoc) docs[limit - 1]) : null;
+                return new InteractionPage<>(hits, nextCursor, null);
+            } finally {
+                manager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Torna visíveis as alterações indexadas desde a última reabertura
+     */
+    public void refresh() {
+        if (!running || rebuilding) {
+            return;
+        }
+        try {
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Grava as alterações em disco junto com o watermark (alterações anteriores a ele estão no índice);
+     * recusado durante a reconstrução, que grava o próprio commit ao terminar
+     */
+    public void commit(LocalDateTime watermark) {
+        if (rebuilding) {
+            throw new IllegalStateException("Commit do índice de busca recusado durante a reconstrução");
+        }
+        writeCommit(watermark);
+    }
+
+    private void writeCommit(LocalDateTime watermark) {
+        try {
+            writer.setLiveCommitData(Map.of(WATERMARK, watermark.toString()).entrySet());
+            writer.commit();
+            committedWatermark = watermark;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Watermark do último commit; null em um índice nunca sincronizado
+     */
+    public LocalDateTime getCommittedWatermark() {
+        return committedWatermark;
+    }
+
+    public void beginRebuild() {
+        rebuilding = true;
+        try {
+            writer.deleteAll();
+        } catch (IOException e) {
+            rebuilding = false;
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void finishRebuild(LocalDateTime watermark) {
+        writeCommit(watermark);
+        rebuilding = false;
+        refresh();
+    }
+
+    /**
+     * Descarta a reconstrução em andamento, voltando ao último commit
+     */
+    public void abortRebuild() {
+        if (!running) {
+            return;
+        }
+        try {
+            SearcherManager previous = searcherManager;
+            writer.rollback();
+            open();
+            previous.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            rebuilding = false;
+        }
+    }
+
+    public int numDocs() {
+        IndexWriter current = writer;
+        return running && current != null ? current.getDocStats().numDocs : 0;
+    }
+
+    private void open() throws IOException {
+        IndexWriterConfig config = new IndexWriterConfig(analyzer)
+            .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND)
+            .setRAMBufferSizeMB(properties.getRamBufferMb())
+            .setCommitOnClose(false);
+        writer = new IndexWriter(directory, config);
+        searcherManager = new SearcherManager(writer, null);
+        committedWatermark = null;
+        Iterable<Map.Entry<String, String>> commitData = writer.getLiveCommitData();
+        if (commitData != null) {
+            for (Map.Entry<String, String> entry : commitData) {
+                if (WATERMARK.equals(entry.getKey())) {
+                    committedWatermark = LocalDateTime.parse(entry.getValue());
+                }
+            }
+        }
+    }
+
+    private static Document toDocument(String key, SearchDocument source) {
+        Document document = new Document();
+        document.add(new StringField(KEY, key, Store.NO));
+        document.add(new SortedDocValuesField(KEY, new BytesRef(key)));
+        document.add(new StringField(SOURCE, source.getSource().name(), Store.YES));
+        document.add(new StoredField(ID, source.getId()));
+        if (source.getPartyId() != null) {
+            document.add(new StringField(PARTY, source.getPartyId(), Store.YES));
+        }
+        if (source.getChannel() != null) {
+            document.add(new StoredField(CHANNEL, source.getChannel()));
+            document.add(new StringField(CHANNEL_FILTER, source.getChannel().toLowerCase(Locale.ROOT), Store.NO));
+        }
+        if (source.getStatus() != null) {
+            document.add(new StoredField(STATUS, source.getStatus()));
+        }
+        if (source.getTitle() != null) {
+            document.add(new StoredField(TITLE, source.getTitle()));
+        }
+        if (source.getOccurredAt() != null) {
+            document.add(new StoredField(OCCURRED_AT, source.getOccurredAt().toString()));
+        }
+        if (source.getSubject() != null) {
+            document.add(new TextField(SUBJECT, source.getSubject(), Store.NO));
+        }
+        if (source.getBody() != null) {
+            document.add(new TextField(BODY, source.getBody(), Store.NO));
+        }
+        return document;
+    }
+
+    private static SearchHitDTO toHit(Document document, float score) {
+        String occurredAt = document.get(OCCURRED_AT);
+        return SearchHitDTO.builder()
+            .source(document.get(SOURCE))
+            .id(document.get(ID))
+            .score(score)
+            .title(document.get(TITLE))
+            .partyId(document.get(PARTY))
+            .channel(document.get(CHANNEL))
+            .status(document.get(STATUS))
+            .occurredAt(occurredAt != null ? LocalDateTime.parse(occurredAt) : null)
+            .build();
+    }
+
+    private static String key(TimelineSource source, String id) {
+        return source.name() + ':' + id;
+    }
+
+    /**
+     * Cursor opaco com (score, chave) do último resultado da página
+     */
+    private static String encodeCursor(FieldDoc last) {
+        float score = (Float) last.fields[0];
+        String key = ((BytesRef) last.fields[1]).utf8ToString();
+        String raw = Integer.toHexString(Float.floatToIntBits(score)) + SEPARATOR + key;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static FieldDoc decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            float score = Float.intBitsToFloat(Integer.parseUnsignedInt(raw.substring(0, separator), 16));
+            // doc máximo: em empate exato (mesma chave) o documento já retornado é descartado
+            return new FieldDoc(Integer.MAX_VALUE, score, new Object[]{score, new BytesRef(raw.substring(separator + 1))});
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Cursor inválido: " + cursor, e);
+        }
+    }
+
+    @Override
+    public void start() {
+        try {
+            directory = FSDirectory.open(Path.of(properties.getPath()));
+            open();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao abrir o índice de busca em " + properties.getPath(), e);
+        }
+        running = true;
+        log.info("Índice de busca aberto em {} com {} documentos", properties.getPath(), numDocs());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        try {
+            // reconstrução incompleta não é gravada: o próximo start volta ao último commit
+            if (!rebuilding && committedWatermark != null) {
+                commit(committedWatermark);
+            }
+            searcherManager.close();
+            writer.close();
+            directory.close();
+        } catch (IOException | RuntimeException e) {
+            log.warn("Falha ao fechar o índice de busca: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public boolean isAutoStartup() {
+        return properties.isEnabled();
+    }
+}
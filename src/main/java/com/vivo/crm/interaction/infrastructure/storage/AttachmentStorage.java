@@ -0,0 +1,38 @@
+package com.vivo.crm.interaction.infrastructure.storage;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * AttachmentStorage - Armazenamento do conteúdo binário dos anexos, em streaming.
+ * Implementações não devem acumular o conteúdo em memória.
+ */
+public interface AttachmentStorage {
+
+    /**
+     * Grava o conteúdo; os buffers recebidos são liberados pela implementação
+     */
+    Mono<StoredContent> store(Flux<DataBuffer> content, long maxSize);
+
+    /**
+     * Indica se a URI foi gerada por este armazenamento
+     */
+    boolean supports(String uri);
+
+    /**
+     * Lê count bytes a partir de position
+     */
+    Flux<DataBuffer> read(String uri, long position, long count, DataBufferFactory bufferFactory);
+
+    /**
+     * Arquivo local do conteúdo, quando disponível, para transferência zero-copy
+     */
+    default Optional<Path> localFile(String uri) {
+        return Optional.empty();
+    }
+}
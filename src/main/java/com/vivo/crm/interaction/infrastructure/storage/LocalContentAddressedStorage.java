@@ -0,0 +1,135 @@
+package com.vivo.crm.interaction.infrastructure.storage;
+
+import com.vivo.crm.interaction.infrastructure.config.AttachmentProperties;
+import com.vivo.crm.interaction.infrastructure.execution.BlockingCallExecutor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * LocalContentAddressedStorage - Armazenamento em disco local endereçado por SHA-256.
+ *
+ * O upload é escrito em um arquivo temporário via AsynchronousFileChannel enquanto o hash é
+ * calculado sobre os mesmos buffers; ao final o arquivo é movido para sha256/ab/cd/&lt;hash&gt;.
+ * Conteúdo já existente não é regravado (deduplicação), e arquivos finais nunca são alterados.
+ */
+@Slf4j
+@Component
+public class LocalContentAddressedStorage implements AttachmentStorage {
+
+    private static final String URI_PREFIX = "sha256:";
+
+    private final Path root;
+    private final Path tempDir;
+    private final int bufferSize;
+    private final BlockingCallExecutor executor;
+
+    public LocalContentAddressedStorage(AttachmentProperties properties, BlockingCallExecutor executor) throws IOException {
+        this.root = Path.of(properties.getStoragePath()).toAbsolutePath().normalize();
+        this.tempDir = Files.createDirectories(root.resolve("tmp"));
+        this.bufferSize = (int) properties.getBufferSize().toBytes();
+        this.executor = executor;
+        log.info("Armazenamento de anexos em {}", root);
+    }
+
+    @Override
+    public Mono<StoredContent> store(Flux<DataBuffer> content, long maxSize) {
+        return executor.mono("attachmentStorage", () -> Files.createTempFile(tempDir, "upload-", ".part"))
+            .flatMap(temp -> {
+                MessageDigest digest = sha256();
+                AtomicLong size = new AtomicLong();
+                Flux<DataBuffer> hashed = content.handle((buffer, sink) -> {
+                    if (size.addAndGet(buffer.readableByteCount()) > maxSize) {
+                        DataBufferUtils.release(buffer);
+                        sink.error(new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE,
+                            "Arquivo excede o limite de " + maxSize + " bytes"));
+                        return;
+                    }
+                    try (DataBuffer.ByteBufferIterator iterator = buffer.readableByteBuffers()) {
+                        iterator.forEachRemaining(digest::update);
+                    }
+                    sink.next(buffer);
+                });
+                return DataBufferUtils.write(hashed, temp, StandardOpenOption.WRITE)
+                    .then(executor.mono("attachmentStorage",
+                        () -> commit(temp, HexFormat.of().formatHex(digest.digest()), size.get())))
+                    .onErrorResume(e -> executor.mono("attachmentStorage", () -> Files.deleteIfExists(temp))
+                        .then(Mono.error(e)));
+            });
+    }
+
+    private StoredContent commit(Path temp, String sha256, long size) throws IOException {
+        Path target = pathOf(sha256);
+        if (Files.exists(target)) {
+            Files.delete(temp);
+            return new StoredContent(URI_PREFIX + sha256, sha256, size, true);
+        }
+        Files.createDirectories(target.getParent());
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            // upload concorrente do mesmo conteúdo terminou primeiro
+            Files.delete(temp);
+            return new StoredContent(URI_PREFIX + sha256, sha256, size, true);
+        }
+        return new StoredContent(URI_PREFIX + sha256, sha256, size, false);
+    }
+
+    @Override
+    public boolean supports(String uri) {
+        return uri != null && uri.startsWith(URI_PREFIX);
+    }
+
+    @Override
+    public Flux<DataBuffer> read(String uri, long position, long count, DataBufferFactory bufferFactory) {
+        Path file = pathOf(hashOf(uri));
+        Flux<DataBuffer> content = DataBufferUtils.readAsynchronousFileChannel(
+            () -> AsynchronousFileChannel.open(file, StandardOpenOption.READ), position, bufferFactory, bufferSize);
+        return DataBufferUtils.takeUntilByteCount(content, count);
+    }
+
+    @Override
+    public Optional<Path> localFile(String uri) {
+        Path file = pathOf(hashOf(uri));
+        return Files.isRegularFile(file) ? Optional.of(file) : Optional.empty();
+    }
+
+    private Path pathOf(String sha256) {
+        return root.resolve("sha256").resolve(sha256.substring(0, 2)).resolve(sha256.substring(2, 4)).resolve(sha256);
+    }
+
+    private static String hashOf(String uri) {
+        String hash = uri.substring(URI_PREFIX.length());
+        if (hash.length() != 64 || !hash.chars().allMatch(c -> Character.digit(c, 16) >= 0)) {
+            throw new IllegalArgumentException("URI de conteúdo inválida: " + uri);
+        }
+        return hash;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.vivo.crm.interaction.infrastructure.storage;
+
+import lombok.Value;
+
+/**
+ * StoredContent - Resultado da gravação de um conteúdo no armazenamento
+ */
+@Value
+public class StoredContent {
+
+    String uri;           // referência persistida em Attachment.fileUrl
+    String sha256;
+    long size;
+    boolean deduplicated; // o conteúdo já existia e não foi regravado
+}
@@ -0,0 +1,110 @@
+package com.vivo.crm.interaction.infrastructure.web;
+
+import com.vivo.crm.interaction.infrastructure.config.AccessLogProperties;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.ErrorResponse;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * AccessLogFilter - Registra uma linha por requisição no logger ACCESS_LOG:
+ * método, caminho, status, duração e ID de correlação, em formato chave=valor.
+ *
+ * A decisão de amostragem é tomada ao final da requisição; requisições com erro ou lentas
+ * são sempre registradas. Exceções propagadas pela cadeia só viram resposta nos
+ * WebExceptionHandlers, depois deste filtro: o status é derivado da própria exceção, como
+ * esses handlers fazem, e uma conexão encerrada pelo cliente é registrada como 499.
+ * A linha é montada em um único StringBuilder apenas quando será escrita, e o appender
+ * assíncrono (logback-spring.xml) não bloqueia a thread do event loop.
+ *
+ * O ID de correlação segue no contexto do Reactor (CORRELATION_ID_KEY); o BlockingCallExecutor
+ * o copia para o MDC das chamadas bloqueantes, de modo que os logs da aplicação o incluam.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class AccessLogFilter implements WebFilter {
+
+    public static final String CORRELATION_ID_KEY = "correlationId";
+
+    private static final Logger ACCESS_LOG = LoggerFactory.getLogger("ACCESS_LOG");
+    private static final int CLIENT_CLOSED_REQUEST = 499;
+
+    private final AccessLogProperties properties;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (!properties.isEnabled()) {
+            return chain.filter(exchange);
+        }
+        String correlationId = exchange.getRequest().getHeaders().getFirst(properties.getCorrelationHeader());
+        if (correlationId == null || correlationId.isBlank()) {
+            correlationId = UUID.randomUUID().toString();
+        }
+        exchange.getResponse().getHeaders().set(properties.getCorrelationHeader(), correlationId);
+
+        long start = System.nanoTime();
+        String id = correlationId;
+        return chain.filter(exchange)
+            .doOnSuccess(done -> log(exchange, id, statusOf(exchange), System.nanoTime() - start))
+            .doOnError(error -> log(exchange, id, statusOf(error), System.nanoTime() - start))
+            .doOnCancel(() -> log(exchange, id, CLIENT_CLOSED_REQUEST, System.nanoTime() - start))
+            .contextWrite(Context.of(CORRELATION_ID_KEY, id));
+    }
+
+    private static int statusOf(ServerWebExchange exchange) {
+        HttpStatusCode status = exchange.getResponse().getStatusCode();
+        return status != null ? status.value() : HttpStatus.OK.value();
+    }
+
+    /**
+     * Status que os WebExceptionHandlers darão à exceção: ResponseStatusException e demais
+     * ErrorResponse, @ResponseStatus na classe, ou 500
+     */
+    private static int statusOf(Throwable error) {
+        if (error instanceof ErrorResponse response) {
+            return response.getStatusCode().value();
+        }
+        ResponseStatus annotation = AnnotatedElementUtils.findMergedAnnotation(error.getClass(), ResponseStatus.class);
+        return annotation != null ? annotation.code().value() : HttpStatus.INTERNAL_SERVER_ERROR.value();
+    }
+
+    private void log(ServerWebExchange exchange, String correlationId, int code, long elapsedNanos) {
+        if (!ACCESS_LOG.isInfoEnabled()) {
+            return;
+        }
+        boolean always = code >= 400 || elapsedNanos >= properties.getSlowThreshold().toNanos();
+        if (!always && !sampled()) {
+            return;
+        }
+        ServerHttpRequest request = exchange.getRequest();
+        StringBuilder line = new StringBuilder(160)
+            .append("method=").append(request.getMethod().name())
+            .append(" path=").append(request.getPath().value())
+            .append(" status=").append(code)
+            .append(" durationMs=").append(elapsedNanos / 1_000_000)
+            .append(" correlationId=").append(correlationId);
+        ACCESS_LOG.info(line.toString());
+    }
+
+    private boolean sampled() {
+        double rate = properties.getSampleRate();
+        return rate >= 1.0 || (rate > 0.0 && ThreadLocalRandom.current().nextDouble() < rate);
+    }
+}
@@ -0,0 +1,20 @@
+package com.vivo.crm.interaction.interfaces.controller;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * ApiExceptionHandler - Tratamento de erros comum aos controllers
+ */
+@Slf4j
+@RestControllerAdvice
+public class ApiExceptionHandler {
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Void> handleInvalidArgument(IllegalArgumentException e) {
+        log.warn("Requisição inválida: {}", e.getMessage());
+        return ResponseEntity.badRequest().build();
+    }
+}
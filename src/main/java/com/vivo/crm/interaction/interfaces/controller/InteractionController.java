@@ -0,0 +1,108 @@
+package com.vivo.crm.interaction.interfaces.controller;
+
+import com.vivo.crm.interaction.application.dto.AttachmentDTO;
+import com.vivo.crm.interaction.application.dto.CaseInteractionStatsDTO;
+import com.vivo.crm.interaction.application.dto.InteractionPage;
+import com.vivo.crm.interaction.application.dto.TimelineEntryDTO;
+import com.vivo.crm.interaction.application.service.AttachmentService;
+import com.vivo.crm.interaction.application.service.CustomerTimelineService;
+import com.vivo.crm.interaction.application.service.InteractionEnrichmentPipeline;
+import com.vivo.crm.interaction.application.service.InteractionStatisticsService;
+import com.vivo.crm.interaction.infrastructure.config.PaginationProperties;
+import com.vivo.crm.interaction.infrastructure.execution.BlockingCallExecutor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.multipart.PartEvent;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * InteractionController - API de interações do cliente (timeline unificada, anexos e enriquecimento)
+ */
+@RestController
+@RequestMapping("/api/interactions")
+@RequiredArgsConstructor
+public class InteractionController {
+
+    private static final String HEADER_NEXT_CURSOR = "X-Next-Cursor";
+
+    private final CustomerTimelineService timelineService;
+    private final AttachmentService attachmentService;
+    private final InteractionEnrichmentPipeline enrichmentPipeline;
+    private final InteractionStatisticsService statisticsService;
+    private final BlockingCallExecutor executor;
+    private final PaginationProperties paginationProperties;
+
+    /**
+     * Timeline do cliente em ordem decrescente, paginada por cursor (X-Next-Cursor)
+     */
+    @GetMapping("/customer/{id}/timeline")
+    public Mono<ResponseEntity<List<TimelineEntryDTO>>> getCustomerTimeline(
+        @PathVariable String id,
+        @RequestParam(required = false) Integer limit,
+        @RequestParam(required = false) String cursor) {
+        int pageLimit = paginationProperties.resolveLimit(limit);
+        return executor.mono("getCustomerTimeline", () -> timelineService.getTimeline(id, cursor, pageLimit))
+            .map(this::toResponse);
+    }
+
+    /**
+     * Upload multipart em streaming (parte "file"); o conteúdo não é bufferizado em memória
+     */
+    @PostMapping(value = "/{id}/attachments", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public Mono<ResponseEntity<AttachmentDTO>> uploadAttachment(@PathVariable String id, @RequestBody Flux<PartEvent> parts) {
+        return attachmentService.upload(id, parts)
+            .map(result -> ResponseEntity.status(HttpStatus.CREATED).body(result))
+            .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/{id}/attachments")
+    public Mono<ResponseEntity<List<AttachmentDTO>>> listAttachments(@PathVariable String id) {
+        return attachmentService.listAttachments(id)
+            .map(ResponseEntity::ok);
+    }
+
+    /**
+     * Download com suporte a Range (um intervalo) e zero-copy a partir do armazenamento local
+     */
+    @GetMapping("/{id}/attachments/{attachmentId}/content")
+    public Mono<Void> downloadAttachment(@PathVariable String id, @PathVariable String attachmentId,
+                                         ServerHttpRequest request, ServerHttpResponse response) {
+        return attachmentService.download(id, attachmentId, request, response);
+    }
+
+    /**
+     * Solicita o enriquecimento (transcrição, resumo, sentimento); responde sem aguardar o processamento
+     */
+    @PostMapping("/{id}/enrichment")
+    public Mono<ResponseEntity<Void>> requestEnrichment(@PathVariable String id) {
+        return executor.mono("requestEnrichment", () -> enrichmentPipeline.submit(id))
+            .map(submission -> switch (submission) {
+                case ACCEPTED, ALREADY_QUEUED -> ResponseEntity.accepted().<Void>build();
+                case NOTHING_TO_DO -> ResponseEntity.noContent().<Void>build();
+                case REJECTED -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).<Void>build();
+            })
+            .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/case/{id}/stats")
+    public Mono<ResponseEntity<CaseInteractionStatsDTO>> getCaseStats(@PathVariable String id) {
+        return executor.mono("getCaseStats", () -> statisticsService.getCaseStats(id))
+            .map(ResponseEntity::ok);
+    }
+
+    private ResponseEntity<List<TimelineEntryDTO>> toResponse(InteractionPage<TimelineEntryDTO> page) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(HEADER_NEXT_CURSOR, page.getNextCursor());
+        }
+        return response.body(page.getItems());
+    }
+}
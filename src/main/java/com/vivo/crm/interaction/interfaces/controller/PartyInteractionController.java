@@ -1,102 +1,333 @@
 package com.vivo.crm.interaction.interfaces.controller;
 
+import com.vivo.crm.interaction.application.dto.BulkCreateResult;
+import com.vivo.crm.interaction.application.dto.InteractionPage;
+import com.vivo.crm.interaction.application.dto.InteractionStatisticsDTO;
+import com.vivo.crm.interaction.application.dto.LiveFeedFilter;
+import com.vivo.crm.interaction.application.dto.NoteDTO;
+import com.vivo.crm.interaction.application.dto.RelatedInteractionsDTO;
+import com.vivo.crm.interaction.application.dto.StatusHistoryDTO;
+import com.vivo.crm.interaction.application.service.BulkInteractionService;
+import com.vivo.crm.interaction.application.service.IdempotentCreateService;
+import com.vivo.crm.interaction.application.service.InteractionLiveFeed;
+import com.vivo.crm.interaction.application.service.InteractionRelationshipService;
+import com.vivo.crm.interaction.application.service.InteractionSearchService;
+import com.vivo.crm.interaction.application.service.InteractionStatisticsService;
+import com.vivo.crm.interaction.application.service.PartyInteractionNoteService;
 import com.vivo.crm.interaction.application.service.PartyInteractionService;
+import com.vivo.crm.interaction.domain.repository.JsonAttributeFilter;
+import com.vivo.crm.interaction.domain.repository.PartyInteractionFilter;
+import com.vivo.crm.interaction.domain.repository.TimelineSource;
+import com.vivo.crm.interaction.infrastructure.config.PaginationProperties;
+import com.vivo.crm.interaction.infrastructure.execution.BlockingCallExecutor;
 import com.vivo.crm.shared.dto.tmf683.PartyInteractionDTO;
 import com.vivo.crm.shared.dto.tmf683.PartyInteractionCreateDTO;
 import com.vivo.crm.shared.dto.tmf683.PartyInteractionUpdateDTO;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.util.MultiValueMap;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Locale;
 
 /**
  * PartyInteractionController - REST API TMF683
  */
-@Slf4j
 @RestController
 @RequestMapping("/tmf-api/partyInteractionManagement/v4")
 @RequiredArgsConstructor
 public class PartyInteractionController {
 
+    private static final String HEADER_TOTAL_COUNT = "X-Total-Count";
+    private static final String HEADER_RESULT_COUNT = "X-Result-Count";
+    private static final String HEADER_NEXT_CURSOR = "X-Next-Cursor";
+    private static final String CONTEXT_DATA_PREFIX = "contextData.";
+    private static final String CHARACTERISTIC_PREFIX = "characteristic.";
+    private static final String HEADER_IDEMPOTENCY_KEY = "Idempotency-Key";
+    private static final String HEADER_INTERACTION_ID = "X-Interaction-Id";
+    private static final String HEADER_IDEMPOTENT_REPLAYED = "Idempotent-Replayed";
+
     private final PartyInteractionService interactionService;
+    private final BulkInteractionService bulkInteractionService;
+    private final IdempotentCreateService idempotentCreateService;
+    private final PartyInteractionNoteService noteService;
+    private final InteractionRelationshipService relationshipService;
+    private final InteractionStatisticsService statisticsService;
+    private final InteractionSearchService searchService;
+    private final InteractionLiveFeed liveFeed;
+    private final BlockingCallExecutor executor;
+    private final PaginationProperties paginationProperties;
 
+    /**
+     * Criação idempotente: com Idempotency-Key ou X-Interaction-Id (ID definido pelo cliente) uma
+     * repetição devolve a interação criada originalmente, marcada com Idempotent-Replayed: true;
+     * a mesma chave com outro corpo resulta em 422
+     */
     @PostMapping("/partyInteraction")
-    public ResponseEntity<PartyInteractionDTO> createPartyInteraction(@RequestBody PartyInteractionCreateDTO createDTO) {
-        log.info("POST /partyInteraction - Criando nova Party Interaction");
-        PartyInteractionDTO result = interactionService.createInteraction(createDTO);
-        return ResponseEntity.status(HttpStatus.CREATED).body(result);
+    public Mono<ResponseEntity<PartyInteractionDTO>> createPartyInteraction(
+        @RequestBody PartyInteractionCreateDTO createDTO,
+        @RequestHeader(value = HEADER_IDEMPOTENCY_KEY, required = false) String idempotencyKey,
+        @RequestHeader(value = HEADER_INTERACTION_ID, required = false) String interactionId) {
+        return executor.mono("createPartyInteraction",
+                () -> idempotentCreateService.create(createDTO, idempotencyKey, interactionId))
+            .map(result -> {
+                ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.CREATED);
+                if (result.isReplayed()) {
+                    response.header(HEADER_IDEMPOTENT_REPLAYED, "true");
+                }
+                return response.body(result.getInteraction());
+            });
+    }
+
+    /**
+     * Criação em lote; retorna 201 se todos os itens foram gravados, 207 se houve falhas
+     */
+    @PostMapping("/partyInteraction/bulk")
+    public Mono<ResponseEntity<BulkCreateResult>> bulkCreatePartyInteractions(@RequestBody List<PartyInteractionCreateDTO> createDTOs) {
+        return executor.mono("bulkCreatePartyInteractions", () -> bulkInteractionService.createInteractions(createDTOs))
+            .map(result -> ResponseEntity
+                .status(result.getFailed() == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS)
+                .body(result));
     }
 
     @GetMapping("/partyInteraction/{id}")
-    public ResponseEntity<PartyInteractionDTO> getPartyInteraction(@PathVariable String id) {
-        log.info("GET /partyInteraction/{} - Recuperando Party Interaction", id);
-        PartyInteractionDTO result = interactionService.getInteractionById(id);
-        return result != null ? ResponseEntity.ok(result) : ResponseEntity.notFound().build();
+    public Mono<ResponseEntity<PartyInteractionDTO>> getPartyInteraction(@PathVariable String id) {
+        return executor.mono("getPartyInteraction", () -> interactionService.getInteractionById(id))
+            .map(ResponseEntity::ok)
+            .defaultIfEmpty(ResponseEntity.notFound().build());
     }
 
+    /**
+     * Listagem com filtros combinados (partyId, status, channel, direction, priority,
+     * creationDateFrom/To, activeOnly) e projeção TMF opcional via fields=.
+     * Sem nenhum filtro pagina a tabela inteira (antes da paginação retornava lista vazia)
+     */
     @GetMapping("/partyInteraction")
-    public ResponseEntity<List<PartyInteractionDTO>> listPartyInteractions(
+    public Mono<ResponseEntity<List<?>>> listPartyInteractions(
+        @ModelAttribute PartyInteractionFilter filter,
+        @RequestParam(required = false) List<String> fields,
+        @RequestParam(required = false) Integer limit,
+        @RequestParam(required = false, defaultValue = "0") int offset,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false, defaultValue = "false") boolean totalCount) {
+        int pageLimit = paginationProperties.resolveLimit(limit);
+        int pageOffset = Math.max(offset, 0);
+        Mono<? extends InteractionPage<?>> page = fields == null || fields.isEmpty()
+            ? executor.mono("listPartyInteractions",
+                () -> interactionService.findInteractions(filter, cursor, pageOffset, pageLimit, totalCount))
+            : executor.mono("listPartyInteractions",
+                () -> interactionService.findInteractionFields(filter, cursor, pageOffset, pageLimit, totalCount, fields));
+        return page.map(this::toListResponse);
+    }
+
+    /**
+     * Busca por atributos JSON: contextData.<atributo configurado>=valor e characteristic.<nome>=valor,
+     * combinados com os filtros da listagem; paginação por cursor (X-Next-Cursor)
+     */
+    @GetMapping(value = "/partyInteraction/search", params = "!q")
+    public Mono<ResponseEntity<List<?>>> searchPartyInteractions(
+        @ModelAttribute PartyInteractionFilter filter,
+        @RequestParam MultiValueMap<String, String> params,
+        @RequestParam(required = false) Integer limit,
+        @RequestParam(required = false) String cursor) {
+        JsonAttributeFilter attributes = new JsonAttributeFilter();
+        params.forEach((name, values) -> {
+            if (name.startsWith(CONTEXT_DATA_PREFIX)) {
+                attributes.getContextData().put(name.substring(CONTEXT_DATA_PREFIX.length()), values.get(0));
+            } else if (name.startsWith(CHARACTERISTIC_PREFIX)) {
+                attributes.getCharacteristics().put(name.substring(CHARACTERISTIC_PREFIX.length()), values.get(0));
+            }
+        });
+        int pageLimit = paginationProperties.resolveLimit(limit);
+        return executor.mono("searchPartyInteractions",
+                () -> interactionService.searchByAttributes(filter, attributes, cursor, pageLimit))
+            .map(this::toListResponse);
+    }
+
+    /**
+     * Busca full-text (q) em assunto/descrição de PartyInteraction e conteúdo/transcrição/resumo de
+     * Interaction, ranqueada por relevância; filtros opcionais source, partyId e channel;
+     * paginação por cursor (X-Next-Cursor)
+     */
+    @GetMapping(value = "/partyInteraction/search", params = "q")
+    public Mono<ResponseEntity<List<?>>> searchText(
+        @RequestParam String q,
+        @RequestParam(required = false) String source,
         @RequestParam(required = false) String partyId,
-        @RequestParam(required = false) String status,
         @RequestParam(required = false) String channel,
-        @RequestParam(required = false, defaultValue = "false") boolean activeOnly) {
-        log.info("GET /partyInteraction - Listando Party Interactions");
-
-        List<PartyInteractionDTO> results;
-        if (partyId != null && activeOnly) {
-            results = interactionService.getActiveInteractionsByParty(partyId);
-        } else if (partyId != null) {
-            results = interactionService.getInteractionsByParty(partyId);
-        } else if (status != null) {
-            results = interactionService.getInteractionsByStatus(status);
-        } else if (channel != null) {
-            results = interactionService.getInteractionsByChannel(channel);
-        } else {
-            results = List.of();
+        @RequestParam(required = false) Integer limit,
+        @RequestParam(required = false) String cursor) {
+        TimelineSource sourceFilter = source != null ? TimelineSource.valueOf(source.toUpperCase(Locale.ROOT)) : null;
+        int pageLimit = paginationProperties.resolveLimit(limit);
+        return executor.mono("searchText",
+                () -> searchService.search(q, sourceFilter, partyId, channel, cursor, pageLimit))
+            .map(this::toListResponse);
+    }
+
+    /**
+     * Reconstrói o índice full-text a partir do banco em background; 409 se já há uma reconstrução em andamento
+     */
+    @PostMapping("/partyInteraction/search/rebuild")
+    public Mono<ResponseEntity<Void>> rebuildSearchIndex() {
+        return Mono.fromSupplier(() -> searchService.startRebuild()
+            ? ResponseEntity.accepted().<Void>build()
+            : ResponseEntity.status(HttpStatus.CONFLICT).<Void>build());
+    }
+
+    /**
+     * Streaming NDJSON de todo o resultado, lido em blocos por keyset para manter a memória constante.
+     * Sem filtros percorre a tabela inteira. O stream ocupa uma única permissão do bulkhead do início
+     * ao fim, então a rejeição (503) acontece antes do primeiro elemento ou não acontece
+     */
+    @GetMapping(value = "/partyInteraction/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<PartyInteractionDTO> streamPartyInteractions(@ModelAttribute PartyInteractionFilter filter) {
+        int chunkSize = paginationProperties.getStreamChunkSize();
+        return executor.stream("streamPartyInteractions", calls -> fetchChunk(calls, filter, null, chunkSize)
+            .expand(page -> page.getNextCursor() != null
+                ? fetchChunk(calls, filter, page.getNextCursor(), chunkSize)
+                : Mono.empty())
+            .concatMapIterable(InteractionPage::getItems, 1));
+    }
+
+    private Mono<InteractionPage<PartyInteractionDTO>> fetchChunk(BlockingCallExecutor.Calls calls,
+                                                                  PartyInteractionFilter filter, String cursor, int chunkSize) {
+        return calls.mono(() -> interactionService.findInteractions(filter, cursor, 0, chunkSize, false));
+    }
+
+    private ResponseEntity<List<?>> toListResponse(InteractionPage<?> page) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .header(HEADER_RESULT_COUNT, String.valueOf(page.getItems().size()));
+        if (page.getTotalCount() != null) {
+            response.header(HEADER_TOTAL_COUNT, String.valueOf(page.getTotalCount()));
+        }
+        if (page.getNextCursor() != null) {
+            response.header(HEADER_NEXT_CURSOR, page.getNextCursor());
         }
-        return ResponseEntity.ok(results);
+        return response.body(page.getItems());
+    }
+
+    /**
+     * Estatísticas agregadas por hora de criação, canal, direção e status (groupBy=hour,channel,...),
+     * servidas pela tabela de agregados incrementais; intervalo padrão: últimas 24 horas
+     */
+    @GetMapping("/partyInteraction/statistics")
+    public Mono<ResponseEntity<List<InteractionStatisticsDTO>>> getStatistics(
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+        @RequestParam(required = false) List<String> groupBy,
+        @RequestParam(required = false) String channel,
+        @RequestParam(required = false) String direction,
+        @RequestParam(required = false) String status) {
+        LocalDateTime end = to != null ? to : LocalDateTime.now().plusHours(1);
+        LocalDateTime start = from != null ? from : end.minusHours(25);
+        return executor.mono("getStatistics",
+                () -> statisticsService.getStatistics(start, end, groupBy, channel, direction, status))
+            .map(ResponseEntity::ok);
     }
 
     @PatchMapping("/partyInteraction/{id}")
-    public ResponseEntity<PartyInteractionDTO> updatePartyInteraction(
+    public Mono<ResponseEntity<PartyInteractionDTO>> updatePartyInteraction(
         @PathVariable String id,
-        @RequestBody PartyInteractionUpdateDTO updateDTO) {
-        log.info("PATCH /partyInteraction/{} - Atualizando Party Interaction", id);
-        PartyInteractionDTO result = interactionService.updateInteraction(id, updateDTO);
-        return result != null ? ResponseEntity.ok(result) : ResponseEntity.notFound().build();
+        @RequestBody PartyInteractionUpdateDTO updateDTO,
+        @RequestParam(required = false) String expectedStatus) {
+        return executor.mono("updatePartyInteraction", () -> interactionService.updateInteraction(id, updateDTO, expectedStatus))
+            .map(ResponseEntity::ok)
+            .defaultIfEmpty(ResponseEntity.notFound().build());
     }
 
     @DeleteMapping("/partyInteraction/{id}")
-    public ResponseEntity<Void> deletePartyInteraction(@PathVariable String id) {
-        log.info("DELETE /partyInteraction/{} - Deletando Party Interaction", id);
-        interactionService.deleteInteraction(id);
-        return ResponseEntity.noContent().build();
+    public Mono<ResponseEntity<Void>> deletePartyInteraction(@PathVariable String id) {
+        return executor.mono("deletePartyInteraction", () -> {
+                interactionService.deleteInteraction(id);
+                return Boolean.TRUE;
+            })
+            .thenReturn(ResponseEntity.noContent().build());
     }
 
     @PatchMapping("/partyInteraction/{id}/status")
-    public ResponseEntity<PartyInteractionDTO> changeInteractionStatus(
+    public Mono<ResponseEntity<PartyInteractionDTO>> changeInteractionStatus(
         @PathVariable String id,
         @RequestParam String status,
-        @RequestParam(required = false) String reason) {
-        log.info("PATCH /partyInteraction/{}/status - Mudando status para: {}", id, status);
-        PartyInteractionDTO result = interactionService.changeStatus(id, status, reason);
-        return result != null ? ResponseEntity.ok(result) : ResponseEntity.notFound().build();
+        @RequestParam(required = false) String reason,
+        @RequestParam(required = false) String expectedStatus) {
+        return executor.mono("changeInteractionStatus", () -> interactionService.changeStatus(id, status, reason, expectedStatus))
+            .map(ResponseEntity::ok)
+            .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/partyInteraction/{id}/statusHistory")
+    public Mono<ResponseEntity<List<StatusHistoryDTO>>> getStatusHistory(
+        @PathVariable String id,
+        @RequestParam(required = false) Integer limit,
+        @RequestParam(required = false, defaultValue = "0") int offset) {
+        int pageLimit = paginationProperties.resolveLimit(limit);
+        return executor.mono("getStatusHistory", () -> interactionService.getStatusHistory(id, Math.max(offset, 0), pageLimit))
+            .map(ResponseEntity::ok)
+            .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Inclui uma nota (agente ou sistema) sem regravar as notas existentes
+     */
+    @PostMapping("/partyInteraction/{id}/note")
+    public Mono<ResponseEntity<NoteDTO>> addNote(@PathVariable String id, @RequestBody NoteDTO note) {
+        return executor.mono("addNote", () -> noteService.addNote(id, note))
+            .map(result -> ResponseEntity.status(HttpStatus.CREATED).body(result))
+            .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Notas da mais recente para a mais antiga, paginadas por cursor (X-Next-Cursor)
+     */
+    @GetMapping("/partyInteraction/{id}/note")
+    public Mono<ResponseEntity<List<?>>> getNotes(
+        @PathVariable String id,
+        @RequestParam(required = false) Integer limit,
+        @RequestParam(required = false) String cursor) {
+        int pageLimit = paginationProperties.resolveLimit(limit);
+        return executor.mono("getNotes", () -> noteService.getNotes(id, cursor, pageLimit))
+            .map(this::toListResponse)
+            .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Interações ligadas a esta (follow-ups, escalonamentos, transferências) até depth saltos
+     */
+    @GetMapping("/partyInteraction/{id}/related")
+    public Mono<ResponseEntity<RelatedInteractionsDTO>> getRelatedInteractions(
+        @PathVariable String id,
+        @RequestParam(required = false) Integer depth) {
+        return executor.mono("getRelatedInteractions", () -> relationshipService.getRelated(id, depth))
+            .map(ResponseEntity::ok)
+            .defaultIfEmpty(ResponseEntity.notFound().build());
     }
 
     @GetMapping("/partyInteraction/party/{partyId}/active")
-    public ResponseEntity<List<PartyInteractionDTO>> getActiveInteractionsByParty(@PathVariable String partyId) {
-        log.info("GET /partyInteraction/party/{}/active - Listando interações ativas", partyId);
-        List<PartyInteractionDTO> results = interactionService.getActiveInteractionsByParty(partyId);
-        return ResponseEntity.ok(results);
+    public Mono<ResponseEntity<List<PartyInteractionDTO>>> getActiveInteractionsByParty(@PathVariable String partyId) {
+        return executor.mono("getActiveInteractionsByParty", () -> interactionService.getActiveInteractionsByParty(partyId))
+            .map(ResponseEntity::ok);
     }
 
     @GetMapping("/partyInteraction/party/{partyId}/count")
-    public ResponseEntity<Long> countActiveInteractions(@PathVariable String partyId) {
-        log.info("GET /partyInteraction/party/{}/count - Contando interações ativas", partyId);
-        long count = interactionService.countActiveInteractions(partyId);
-        return ResponseEntity.ok(count);
+    public Mono<ResponseEntity<Long>> countActiveInteractions(@PathVariable String partyId) {
+        return executor.mono("countActiveInteractions", () -> interactionService.countActiveInteractions(partyId))
+            .map(ResponseEntity::ok);
+    }
+
+    /**
+     * Feed SSE de criações, mudanças de status e exclusões, filtrado por partyId, channel e status
+     * (listas separadas por vírgula); substitui o polling de /party/{partyId}/active e /count
+     */
+    @GetMapping(value = "/partyInteraction/live", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<String>> streamLiveChanges(@ModelAttribute LiveFeedFilter filter) {
+        return liveFeed.subscribe(filter);
     }
 }
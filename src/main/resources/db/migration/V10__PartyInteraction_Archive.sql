@@ -0,0 +1,41 @@
+-- TMF683 Party Interaction Management - Archive of closed interactions
+-- Completed/cancelled interactions older than interaction.archive.min-age are moved here in
+-- chunked transactions (conventional INSERT ... SELECT with explicit columns, then DELETE), so
+-- archivers on several instances run concurrently; a direct-path (APPEND) insert would lock
+-- the archive table exclusively until commit. Archive tables mirror the source columns plus
+-- archived_at and carry no constraints besides the lookup keys. Basic compression only applies
+-- to direct-path loads: compress closed months offline with
+--   ALTER TABLE PARTY_INTERACTION_ARCHIVE MOVE PARTITION FOR (TIMESTAMP '2024-01-15 00:00:00') ONLINE UPDATE INDEXES;
+-- Columns added to the source tables later must be added to the archive tables and to the
+-- column lists in PartyInteractionArchiveRepository.
+
+-- ============================================================================
+-- PARTY_INTERACTION_ARCHIVE Table
+-- ============================================================================
+CREATE TABLE PARTY_INTERACTION_ARCHIVE
+    COMPRESS
+    PARTITION BY RANGE (creation_date) INTERVAL (NUMTOYMINTERVAL(1, 'MONTH'))
+    (PARTITION p_initial VALUES LESS THAN (TIMESTAMP '2024-01-01 00:00:00'))
+AS SELECT p.*, CAST(NULL AS TIMESTAMP) AS archived_at FROM PARTY_INTERACTION p WHERE 1 = 0;
+
+ALTER TABLE PARTY_INTERACTION_ARCHIVE MODIFY (archived_at NOT NULL);
+CREATE UNIQUE INDEX uk_pi_archive_interaction_id ON PARTY_INTERACTION_ARCHIVE(interaction_id);
+CREATE INDEX idx_pi_archive_party ON PARTY_INTERACTION_ARCHIVE(originating_party_id, creation_date) LOCAL;
+
+-- ============================================================================
+-- Child tables
+-- ============================================================================
+CREATE TABLE PARTY_INTERACTION_STATUS_HISTORY_ARCHIVE COMPRESS
+AS SELECT h.*, CAST(NULL AS TIMESTAMP) AS archived_at FROM PARTY_INTERACTION_STATUS_HISTORY h WHERE 1 = 0;
+CREATE INDEX idx_pi_status_hist_arch_inter ON PARTY_INTERACTION_STATUS_HISTORY_ARCHIVE(interaction_id);
+
+CREATE TABLE PARTY_INTERACTION_NOTE_ARCHIVE COMPRESS
+AS SELECT n.*, CAST(NULL AS TIMESTAMP) AS archived_at FROM PARTY_INTERACTION_NOTE n WHERE 1 = 0;
+CREATE INDEX idx_pi_note_arch_interaction ON PARTY_INTERACTION_NOTE_ARCHIVE(interaction_id);
+
+CREATE TABLE PARTY_INTERACTION_RELATIONSHIP_ARCHIVE COMPRESS
+AS SELECT r.*, CAST(NULL AS TIMESTAMP) AS archived_at FROM PARTY_INTERACTION_RELATIONSHIP r WHERE 1 = 0;
+CREATE INDEX idx_pi_rel_arch_source ON PARTY_INTERACTION_RELATIONSHIP_ARCHIVE(source_interaction_id);
+CREATE INDEX idx_pi_rel_arch_target ON PARTY_INTERACTION_RELATIONSHIP_ARCHIVE(target_interaction_id);
+
+COMMENT ON TABLE PARTY_INTERACTION_ARCHIVE IS 'Closed party interactions moved out of PARTY_INTERACTION by the archival job';
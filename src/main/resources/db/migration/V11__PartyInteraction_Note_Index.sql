@@ -0,0 +1,8 @@
+-- TMF683 Party Interaction Management - Notes sub-resource
+-- GET /partyInteraction/{id}/note pages notes by (note_date DESC, id DESC) within an interaction;
+-- the composite index serves each page (and keyset continuation) as a single range scan and
+-- replaces the interaction_id-only index, which is its prefix.
+
+DROP INDEX idx_pi_note_interaction;
+
+CREATE INDEX idx_pi_note_interaction_date ON PARTY_INTERACTION_NOTE(interaction_id, note_date, id);
@@ -0,0 +1,20 @@
+-- TMF683 Party Interaction Management - Indexes for JSON attribute search
+-- GET /partyInteraction/search?contextData.<name>=...&characteristic.<name>=... generates
+--   JSON_VALUE(context_data, '<path>' RETURNING VARCHAR2(100) NULL ON ERROR) = :value
+--   JSON_EXISTS(characteristics, '$[*]?(@.name.string() == $n && @.value.string() == $v)' PASSING ...)
+-- Function-based indexes below must use exactly the same JSON_VALUE expression as the query.
+-- One index per hot path listed in interaction.json-search.context-paths; a new hot path
+-- needs a new migration with the same expression. Indexes end with (creation_date, id) so
+-- keyset pages are read in index order; they are global because campaign/IVR queries are
+-- usually not bounded by creation date.
+
+CREATE INDEX idx_pi_ctx_campaign_id ON PARTY_INTERACTION(
+    JSON_VALUE(context_data, '$.campaignId' RETURNING VARCHAR2(100) NULL ON ERROR), creation_date, id);
+
+CREATE INDEX idx_pi_ctx_ivr_menu ON PARTY_INTERACTION(
+    JSON_VALUE(context_data, '$.ivrMenu' RETURNING VARCHAR2(100) NULL ON ERROR), creation_date, id);
+
+-- Multivalue index (Oracle 21c+) on characteristic names: serves the name predicate of
+-- JSON_EXISTS, which must use the same item method (@.name.string()) for the index to be
+-- considered; the value is checked on the matching rows only.
+CREATE MULTIVALUE INDEX idx_pi_characteristic_name ON PARTY_INTERACTION pi (pi.characteristics.name.string());
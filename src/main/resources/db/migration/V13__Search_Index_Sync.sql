@@ -0,0 +1,9 @@
+-- TMF683 Party Interaction Management - Full-text search index synchronization
+-- Each instance keeps an embedded Lucene index (interaction.search-index). Besides the write
+-- paths of the instance itself, a periodic sync re-reads rows changed since the last index commit
+--   SELECT ... FROM PARTY_INTERACTION WHERE updated_at >= :watermark
+-- which covers writes served by other instances (deletions are read from V17). Global index: the predicate is not bounded by
+-- creation_date, so a local index would probe every partition.
+-- The matching index on interactions (idx_interactions_updated) is defined in schema.sql.
+
+CREATE INDEX idx_pi_updated ON PARTY_INTERACTION(updated_at);
@@ -0,0 +1,17 @@
+-- Cluster-wide leases for periodic jobs that must run on a single instance at a time
+-- (active counter reconciliation, hourly statistics rebuild, ...). A job reads the database
+-- time (SELECT LOCALTIMESTAMP FROM DUAL) and takes the lease with
+--   UPDATE CLUSTER_LOCK SET locked_until = :now + lease ... WHERE locked_until <= :now
+-- so clock skew between instances does not matter. The lease expires on its own if the holder
+-- dies; rows are created on first use. Mapped by the ClusterLockLease entity.
+
+CREATE TABLE CLUSTER_LOCK (
+    lock_name                   VARCHAR2(100) NOT NULL,
+    locked_until                TIMESTAMP NOT NULL,
+    locked_at                   TIMESTAMP NOT NULL,
+    locked_by                   VARCHAR2(200) NOT NULL,
+
+    CONSTRAINT pk_cluster_lock PRIMARY KEY (lock_name)
+);
+
+COMMENT ON TABLE CLUSTER_LOCK IS 'Leases of periodic jobs that run on a single instance at a time';
@@ -0,0 +1,10 @@
+-- TMF683 Party Interaction Management - Outbox publish order
+-- The outbox id is the publish order. The entity takes one INTERACTION_OUTBOX_SEQ value per event
+-- (allocationSize 1, no block reserved per instance) while holding the PARTY_INTERACTION row lock,
+-- so ids are increasing per interaction; ORDER (V5) keeps them increasing across RAC instances.
+-- The relay claims the oldest rows with
+--   SELECT ... WHERE id IN (SELECT id ... ORDER BY id FETCH FIRST :n ROWS ONLY) FOR UPDATE SKIP LOCKED
+-- and only sends an event when no older event of the same interaction is pending outside its batch
+-- (idx_outbox_aggregate_id). Both indexes are declared on the InteractionOutboxEvent entity.
+
+CREATE INDEX idx_outbox_aggregate_id ON INTERACTION_OUTBOX(aggregate_id, id);
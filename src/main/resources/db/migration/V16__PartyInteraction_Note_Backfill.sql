@@ -0,0 +1,27 @@
+-- TMF683 Party Interaction Management - Move legacy JSON notes to PARTY_INTERACTION_NOTE
+-- Notes used to be an array in PARTY_INTERACTION.notes. GET /partyInteraction/{id}/note and
+-- fields=note now read PARTY_INTERACTION_NOTE only, so the array is copied there (one row per
+-- element) and cleared in the same transaction; re-running the script copies nothing twice.
+-- Legacy note ids were not guaranteed unique across interactions, so new note_id values are
+-- generated; notes without a date take the interaction creation_date.
+-- On large tables run it in a maintenance window: the UPDATE rewrites every row with notes.
+
+INSERT INTO PARTY_INTERACTION_NOTE (interaction_id, note_id, text, author, note_date, is_system_note)
+SELECT p.interaction_id,
+       RAWTOHEX(SYS_GUID()),
+       jt.text,
+       SUBSTR(jt.author, 1, 100),
+       NVL(jt.note_date, p.creation_date),
+       'N'
+FROM PARTY_INTERACTION p,
+     JSON_TABLE(p.notes, '$[*]' COLUMNS (
+         text      CLOB           PATH '$.text',
+         author    VARCHAR2(4000) PATH '$.author',
+         note_date TIMESTAMP      PATH '$.date' NULL ON ERROR
+     )) jt
+WHERE p.notes IS NOT NULL
+  AND jt.text IS NOT NULL;
+
+UPDATE PARTY_INTERACTION SET notes = NULL WHERE notes IS NOT NULL;
+
+COMMIT;
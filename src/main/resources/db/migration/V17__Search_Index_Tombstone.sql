@@ -0,0 +1,22 @@
+-- TMF683 Party Interaction Management - Deletions for the full-text search index sync
+-- The sync (V13) finds changed rows by updated_at, but a deleted row leaves nothing to read.
+-- While the search index is enabled, every delete (DELETE /partyInteraction/{id} and archival)
+-- records the removed id here in the same transaction, and each instance's sync removes from
+-- its index the ids deleted since its last commit
+--   SELECT source, document_id FROM SEARCH_INDEX_TOMBSTONE WHERE deleted_at >= :watermark
+-- Rows older than interaction.search-index.tombstone-retention are purged; an instance whose
+-- watermark is older than that rebuilds its index instead of syncing.
+-- Mapped by the SearchIndexTombstone entity.
+
+CREATE TABLE SEARCH_INDEX_TOMBSTONE (
+    tombstone_id                NUMBER GENERATED BY DEFAULT AS IDENTITY,
+    source                      VARCHAR2(30) NOT NULL,
+    document_id                 VARCHAR2(50) NOT NULL,
+    deleted_at                  TIMESTAMP NOT NULL,
+
+    CONSTRAINT pk_search_index_tombstone PRIMARY KEY (tombstone_id)
+);
+
+CREATE INDEX idx_tombstone_deleted_at ON SEARCH_INDEX_TOMBSTONE(deleted_at);
+
+COMMENT ON TABLE SEARCH_INDEX_TOMBSTONE IS 'Documents deleted from the search sources, read by the search index sync of each instance';
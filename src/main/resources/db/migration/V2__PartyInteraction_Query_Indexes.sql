@@ -0,0 +1,20 @@
+-- TMF683 Party Interaction Management - Composite indexes for combined filters
+-- Each index ends with (creation_date, id) so that filtered listings ordered by
+-- creation_date DESC, id DESC are served by an index range scan, including keyset pages.
+
+-- ============================================================================
+-- Composite indexes (replace the single-column indexes that are now prefixes)
+-- ============================================================================
+DROP INDEX idx_pi_status;
+DROP INDEX idx_pi_originating_party;
+DROP INDEX idx_pi_channel;
+DROP INDEX idx_pi_direction;
+DROP INDEX idx_pi_creation_date;
+DROP INDEX idx_pi_priority;
+
+CREATE INDEX idx_pi_party_status_created ON PARTY_INTERACTION(originating_party_id, status, creation_date, id);
+CREATE INDEX idx_pi_status_created ON PARTY_INTERACTION(status, creation_date, id);
+CREATE INDEX idx_pi_channel_status_created ON PARTY_INTERACTION(channel, status, creation_date, id);
+CREATE INDEX idx_pi_direction_created ON PARTY_INTERACTION(direction, creation_date, id);
+CREATE INDEX idx_pi_priority_status_created ON PARTY_INTERACTION(priority, status, creation_date, id);
+CREATE INDEX idx_pi_created_id ON PARTY_INTERACTION(creation_date, id);
@@ -0,0 +1,14 @@
+-- TMF683 Party Interaction Management - Sequence-based ID generation
+-- IDENTITY prevents Hibernate from batching inserts. The entity now draws ids from
+-- PARTY_INTERACTION_SEQ with the pooled-lo optimizer: each NEXTVAL reserves a block of
+-- 50 ids, so INCREMENT BY must match the entity allocationSize.
+-- The identity column is GENERATED BY DEFAULT, so explicit ids are accepted.
+
+DECLARE
+    v_start NUMBER;
+BEGIN
+    SELECT NVL(MAX(id), 0) + 1 INTO v_start FROM PARTY_INTERACTION;
+    EXECUTE IMMEDIATE 'CREATE SEQUENCE PARTY_INTERACTION_SEQ START WITH ' || v_start
+        || ' INCREMENT BY 50 CACHE 20 NOCYCLE';
+END;
+/
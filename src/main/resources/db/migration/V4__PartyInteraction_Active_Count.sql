@@ -0,0 +1,25 @@
+-- TMF683 Party Interaction Management - Materialized active interaction counters
+-- Maintained incrementally by the service (MERGE with deltas) and reconciled periodically,
+-- so GET /partyInteraction/party/{partyId}/count is a primary key lookup.
+
+-- ============================================================================
+-- PARTY_ACTIVE_INTERACTION_COUNT Table
+-- ============================================================================
+CREATE TABLE PARTY_ACTIVE_INTERACTION_COUNT (
+    party_id                    VARCHAR2(50) NOT NULL,
+    active_count                NUMBER(10) DEFAULT 0 NOT NULL,
+    updated_at                  TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+
+    CONSTRAINT pk_party_active_count PRIMARY KEY (party_id)
+);
+
+INSERT INTO PARTY_ACTIVE_INTERACTION_COUNT (party_id, active_count, updated_at)
+SELECT originating_party_id, COUNT(*), CURRENT_TIMESTAMP
+FROM PARTY_INTERACTION
+WHERE status IN ('initiated', 'active')
+  AND originating_party_id IS NOT NULL
+GROUP BY originating_party_id;
+
+COMMENT ON TABLE PARTY_ACTIVE_INTERACTION_COUNT IS 'Materialized count of initiated/active interactions per originating party';
+
+COMMIT;
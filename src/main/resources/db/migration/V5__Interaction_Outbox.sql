@@ -0,0 +1,22 @@
+-- TMF683 Party Interaction Management - Transactional outbox
+-- Lifecycle events are inserted in the same transaction as the interaction change and
+-- drained to Kafka (topic interaction-events) by the relay, which deletes published rows.
+
+-- ============================================================================
+-- INTERACTION_OUTBOX Table
+-- ============================================================================
+CREATE SEQUENCE INTERACTION_OUTBOX_SEQ START WITH 1 INCREMENT BY 1 CACHE 1000 ORDER NOCYCLE;
+
+CREATE TABLE INTERACTION_OUTBOX (
+    id                          NUMBER NOT NULL,
+    aggregate_id                VARCHAR2(50) NOT NULL,
+    event_type                  VARCHAR2(50) NOT NULL,
+    payload                     JSON NOT NULL,
+    created_at                  TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+
+    CONSTRAINT pk_interaction_outbox PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_outbox_created_at ON INTERACTION_OUTBOX(created_at);
+
+COMMENT ON TABLE INTERACTION_OUTBOX IS 'Transactional outbox of party interaction lifecycle events pending publication';
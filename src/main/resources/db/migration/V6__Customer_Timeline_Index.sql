@@ -0,0 +1,16 @@
+-- TMF683 Party Interaction Management - Covering index for the customer timeline
+-- GET /api/interactions/customer/{id}/timeline reads (originating_party_id, creation_date DESC, id DESC)
+-- and only the columns below, so each page is an index-only range scan of limit + 1 entries,
+-- regardless of how many interactions the customer has.
+-- The matching index on interactions (idx_interactions_customer_timeline) is defined in schema.sql.
+--
+-- It also replaces idx_pi_party_status_created (originating_party_id, status, creation_date, id):
+-- per-party listings filtered by status (active interactions, party + status filters) scan the
+-- party's range in creation_date order and filter on the status column carried by the index, so
+-- a second per-party index would only add write cost to every insert and status change.
+
+DROP INDEX idx_pi_party_status_created;
+
+CREATE INDEX idx_pi_party_timeline ON PARTY_INTERACTION(
+    originating_party_id, creation_date, id, interaction_id, channel, direction, status, subject
+);
@@ -0,0 +1,60 @@
+-- TMF683 Party Interaction Management - Incremental hourly statistics
+-- Maintained by the service (MERGE with deltas on create/status change) and rebuilt for a recent
+-- window periodically, so statistics queries read a few thousand aggregate rows instead of
+-- running GROUP BY over PARTY_INTERACTION.
+
+-- ============================================================================
+-- PARTY_INTERACTION_STATS_HOURLY Table
+-- ============================================================================
+CREATE TABLE PARTY_INTERACTION_STATS_HOURLY (
+    bucket_hour                 TIMESTAMP NOT NULL,
+    channel                     VARCHAR2(50) NOT NULL,
+    direction                   VARCHAR2(50) NOT NULL,
+    status                      VARCHAR2(50) NOT NULL,
+    interaction_count           NUMBER(12) DEFAULT 0 NOT NULL,
+    duration_sum                NUMBER(19) DEFAULT 0 NOT NULL,
+    duration_count              NUMBER(12) DEFAULT 0 NOT NULL,
+    satisfied_count             NUMBER(12) DEFAULT 0 NOT NULL,
+    neutral_count               NUMBER(12) DEFAULT 0 NOT NULL,
+    dissatisfied_count          NUMBER(12) DEFAULT 0 NOT NULL,
+    updated_at                  TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+
+    CONSTRAINT pk_pi_stats_hourly PRIMARY KEY (bucket_hour, channel, direction, status)
+);
+
+CREATE INDEX idx_pi_stats_bucket ON PARTY_INTERACTION_STATS_HOURLY(bucket_hour);
+
+-- Duration and satisfaction only count for final statuses; duration falls back to
+-- completion_date - initiation_date, as in the incremental path
+INSERT INTO PARTY_INTERACTION_STATS_HOURLY (bucket_hour, channel, direction, status, interaction_count,
+    duration_sum, duration_count, satisfied_count, neutral_count, dissatisfied_count, updated_at)
+SELECT bucket_hour, channel, direction, status, COUNT(*), NVL(SUM(duration_seconds), 0), COUNT(duration_seconds),
+       SUM(CASE WHEN is_final = 1 AND satisfaction = 'satisfied' THEN 1 ELSE 0 END),
+       SUM(CASE WHEN is_final = 1 AND satisfaction = 'neutral' THEN 1 ELSE 0 END),
+       SUM(CASE WHEN is_final = 1 AND satisfaction = 'dissatisfied' THEN 1 ELSE 0 END),
+       CURRENT_TIMESTAMP
+FROM (
+    SELECT TRUNC(creation_date, 'HH24') AS bucket_hour, channel, direction, status, satisfaction,
+           CASE WHEN status IN ('completed', 'cancelled', 'failed') THEN 1 ELSE 0 END AS is_final,
+           CASE WHEN status IN ('completed', 'cancelled', 'failed')
+                THEN COALESCE(duration, ROUND((CAST(completion_date AS DATE) - CAST(initiation_date AS DATE)) * 86400))
+           END AS duration_seconds
+    FROM PARTY_INTERACTION
+)
+GROUP BY bucket_hour, channel, direction, status;
+
+-- ============================================================================
+-- v_party_interaction_statistics now reads the aggregates (same columns as before)
+-- ============================================================================
+CREATE OR REPLACE VIEW v_party_interaction_statistics AS
+SELECT
+    status,
+    channel,
+    SUM(interaction_count) as interaction_count,
+    SUM(interaction_count * (TRUNC(SYSDATE) - TRUNC(bucket_hour))) / NULLIF(SUM(interaction_count), 0) as avg_age_days
+FROM PARTY_INTERACTION_STATS_HOURLY
+GROUP BY status, channel;
+
+COMMENT ON TABLE PARTY_INTERACTION_STATS_HOURLY IS 'Incremental hourly aggregates of party interactions by channel, direction and status';
+
+COMMIT;
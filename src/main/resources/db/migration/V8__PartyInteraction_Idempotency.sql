@@ -0,0 +1,23 @@
+-- TMF683 Party Interaction Management - Idempotent creation
+-- Keys sent in the Idempotency-Key header of POST /partyInteraction. The primary key makes a
+-- concurrent retry fail instead of inserting a second interaction; rows older than the
+-- deduplication window are purged by the service. request_hash is the SHA-256 of the original
+-- request body: reusing a key with a different body is rejected. response is the original
+-- 201 body (JSON), returned unchanged to every retry of the key.
+
+-- ============================================================================
+-- PARTY_INTERACTION_IDEMPOTENCY Table
+-- ============================================================================
+CREATE TABLE PARTY_INTERACTION_IDEMPOTENCY (
+    idempotency_key             VARCHAR2(100) NOT NULL,
+    interaction_id              VARCHAR2(50) NOT NULL,
+    request_hash                VARCHAR2(64) NOT NULL,
+    created_at                  TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    response                    CLOB,
+
+    CONSTRAINT pk_pi_idempotency PRIMARY KEY (idempotency_key)
+);
+
+CREATE INDEX idx_pi_idempotency_created ON PARTY_INTERACTION_IDEMPOTENCY(created_at);
+
+COMMENT ON TABLE PARTY_INTERACTION_IDEMPOTENCY IS 'Idempotency keys of party interaction creations within the deduplication window';
@@ -0,0 +1,36 @@
+-- TMF683 Party Interaction Management - Interval partitioning by creation_date
+-- PARTY_INTERACTION becomes one partition per month (created automatically on first insert),
+-- so date-bounded queries (findCreatedAfter, creationDateFrom/To filters, statistics rebuild)
+-- prune partitions, and old months can be archived and dropped as whole segments.
+--
+-- Index placement:
+--   LOCAL  - idx_pi_created_id, which leads with the partition key: findCreatedAfter prunes to
+--            the partitions in range, and unfiltered keyset pages read the partitions in
+--            creation_date order and stop at the page size.
+--   GLOBAL - primary key and uk_party_interaction_id (unique without the partition key), and
+--            every index whose lookups are not date-bounded (per party, status, direction,
+--            channel, priority), which as LOCAL would probe one index segment per partition.
+--            New interaction_id values are UUIDv7 (time-ordered), so inserts into the global
+--            unique index append at its right edge.
+--
+-- Dropping a partition: child rows in PARTY_INTERACTION_NOTE, PARTY_INTERACTION_RELATIONSHIP
+-- and PARTY_INTERACTION_STATUS_HISTORY must be removed first (FKs on interaction_id), then
+--   ALTER TABLE PARTY_INTERACTION DROP PARTITION FOR (TIMESTAMP '2024-01-15 00:00:00') UPDATE GLOBAL INDEXES;
+-- Global index maintenance on drop is deferred (asynchronous) in Oracle 12c and later.
+--
+-- Requires Oracle 12.2+ (online conversion with ALTER TABLE ... MODIFY PARTITION BY).
+
+ALTER TABLE PARTY_INTERACTION MODIFY
+    PARTITION BY RANGE (creation_date) INTERVAL (NUMTOYMINTERVAL(1, 'MONTH'))
+    (PARTITION p_initial VALUES LESS THAN (TIMESTAMP '2024-01-01 00:00:00'))
+    ONLINE
+    UPDATE INDEXES (
+        idx_pi_created_id LOCAL,
+        idx_pi_direction_created GLOBAL,
+        idx_pi_channel_status_created GLOBAL,
+        idx_pi_priority_status_created GLOBAL,
+        idx_pi_status_created GLOBAL,
+        idx_pi_party_timeline GLOBAL
+    );
+
+COMMENT ON TABLE PARTY_INTERACTION IS 'TMF683 Party Interaction Management - Main interaction table with JSON native support, interval-partitioned by month of creation_date';
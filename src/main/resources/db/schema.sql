@@ -15,6 +15,9 @@ CREATE TABLE interactions (
     audio_url VARCHAR2(500),
     attachment_count NUMBER(5) DEFAULT 0,
     metadata JSON,
+    enrichment_state VARCHAR2(10) DEFAULT 'PENDING',
+    enrichment_attempts NUMBER(3) DEFAULT 0 NOT NULL,
+    enrichment_lease_until TIMESTAMP,
     created_at TIMESTAMP NOT NULL,
     updated_at TIMESTAMP
 );
@@ -35,10 +38,16 @@ CREATE TABLE attachments (
 
 -- Indexes
 CREATE INDEX idx_interactions_case ON interactions(case_id);
-CREATE INDEX idx_interactions_customer ON interactions(customer_id);
+-- Cobre a timeline do cliente (customer_id, created_at DESC, id DESC) sem acessar a tabela
+CREATE INDEX idx_interactions_customer_timeline ON interactions(customer_id, created_at, id, channel, type, case_id, sentiment);
 CREATE INDEX idx_interactions_agent ON interactions(agent_id);
 CREATE INDEX idx_interactions_created ON interactions(created_at);
+CREATE INDEX idx_interactions_updated ON interactions(updated_at);
 CREATE INDEX idx_interactions_sentiment ON interactions(sentiment);
+-- Pendências do pipeline de enriquecimento; linhas concluídas (estado e lease nulos) não entram no índice.
+-- enrichment_state tem default PENDING para inserts de outros sistemas: a primeira varredura conclui
+-- as interações sem etapa pendente
+CREATE INDEX idx_interactions_enrichment ON interactions(enrichment_state, enrichment_lease_until);
 CREATE INDEX idx_attachments_interaction ON attachments(interaction_id);
 
 -- Duality View for Interactions (JSON API)
@@ -0,0 +1,62 @@
+package com.vivo.crm.interaction.application.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class IdempotencyWindowTest {
+
+    private static final long ONE_HOUR = TimeUnit.HOURS.toNanos(1);
+
+    @Test
+    void getReturnsWhatWasPut() {
+        IdempotencyWindow window = new IdempotencyWindow(4, 100, ONE_HOUR);
+
+        window.put("key:a", "pi-1", "hash-a", "{\"id\":\"pi-1\"}");
+
+        IdempotencyWindow.Created created = window.get("key:a");
+        assertNotNull(created);
+        assertEquals("pi-1", created.interactionId());
+        assertEquals("hash-a", created.requestHash());
+        assertEquals("{\"id\":\"pi-1\"}", created.response());
+        assertNull(window.get("key:b"));
+    }
+
+    @Test
+    void expiredEntryIsNotReturned() throws InterruptedException {
+        IdempotencyWindow window = new IdempotencyWindow(1, 100, TimeUnit.MILLISECONDS.toNanos(1));
+
+        window.put("key:a", "pi-1", "hash-a", null);
+        Thread.sleep(5);
+
+        assertNull(window.get("key:a"));
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedWhenStripeIsFull() {
+        IdempotencyWindow window = new IdempotencyWindow(1, 2, ONE_HOUR);
+
+        window.put("key:a", "pi-1", "hash-a", null);
+        window.put("key:b", "pi-2", "hash-b", null);
+        window.get("key:a");
+        window.put("key:c", "pi-3", "hash-c", null);
+
+        assertNotNull(window.get("key:a"));
+        assertNull(window.get("key:b"));
+        assertNotNull(window.get("key:c"));
+    }
+
+    @Test
+    void removeDropsEntry() {
+        IdempotencyWindow window = new IdempotencyWindow(2, 100, ONE_HOUR);
+
+        window.put("key:a", "pi-1", "hash-a", null);
+        window.remove("key:a");
+
+        assertNull(window.get("key:a"));
+    }
+}
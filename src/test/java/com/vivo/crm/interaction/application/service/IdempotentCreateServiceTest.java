@@ -0,0 +1,177 @@
+package com.vivo.crm.interaction.application.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.vivo.crm.interaction.application.dto.CreateInteractionResult;
+import com.vivo.crm.interaction.application.exception.IdempotencyKeyReuseException;
+import com.vivo.crm.interaction.application.mapper.PartyInteractionMapper;
+import com.vivo.crm.interaction.domain.entity.PartyInteractionIdempotency;
+import com.vivo.crm.interaction.domain.repository.PartyInteractionIdempotencyRepository;
+import com.vivo.crm.interaction.infrastructure.config.IdempotencyProperties;
+import com.vivo.crm.shared.dto.tmf683.PartyInteractionCreateDTO;
+import com.vivo.crm.shared.dto.tmf683.PartyInteractionDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotentCreateServiceTest {
+
+    private static final String KEY = "retry-1";
+
+    @Mock
+    private PartyInteractionService interactionService;
+
+    @Mock
+    private PartyInteractionMapper mapper;
+
+    @Mock
+    private PartyInteractionIdempotencyRepository idempotencyRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private IdempotentCreateService service;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionTemplate.execute(any()))
+            .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        lenient().when(mapper.newInteractionId()).thenReturn("pi-1");
+        service = new IdempotentCreateService(interactionService, mapper, idempotencyRepository,
+            transactionTemplate, new IdempotencyProperties(), meterRegistry, objectMapper);
+    }
+
+    @Test
+    void windowHitReplaysOriginalResponseWithoutCreating() {
+        when(idempotencyRepository.findById(KEY)).thenReturn(Optional.empty());
+        when(interactionService.createInteraction(any(PartyInteractionCreateDTO.class), eq("pi-1")))
+            .thenReturn(interaction("pi-1", "Segunda via"));
+
+        CreateInteractionResult first = service.create(request("Segunda via"), KEY, null);
+        CreateInteractionResult retry = service.create(request("Segunda via"), KEY, null);
+
+        assertFalse(first.isReplayed());
+        assertTrue(retry.isReplayed());
+        assertEquals("pi-1", retry.getInteraction().getId());
+        assertEquals("Segunda via", retry.getInteraction().getSubject());
+        verify(interactionService, times(1)).createInteraction(any(PartyInteractionCreateDTO.class), anyString());
+        verify(interactionService, never()).getInteractionById(anyString());
+        verify(idempotencyRepository, times(1)).findById(KEY);
+        assertEquals(1.0, replays("memory"));
+    }
+
+    @Test
+    void tableHitReplaysStoredResponseInsteadOfCurrentState() throws Exception {
+        PartyInteractionCreateDTO request = request("Segunda via");
+        when(idempotencyRepository.findById(KEY)).thenReturn(Optional.of(row(request, "pi-7", "Segunda via")));
+
+        CreateInteractionResult retry = service.create(request, KEY, null);
+
+        assertTrue(retry.isReplayed());
+        assertEquals("pi-7", retry.getInteraction().getId());
+        assertEquals("Segunda via", retry.getInteraction().getSubject());
+        verify(interactionService, never()).createInteraction(any(PartyInteractionCreateDTO.class), anyString());
+        verify(interactionService, never()).getInteractionById(anyString());
+        assertEquals(1.0, replays("table"));
+    }
+
+    @Test
+    void concurrentUniqueViolationReplaysWinner() throws Exception {
+        PartyInteractionCreateDTO request = request("Segunda via");
+        when(idempotencyRepository.findById(KEY))
+            .thenReturn(Optional.empty(), Optional.of(row(request, "pi-winner", "Segunda via")));
+        when(interactionService.createInteraction(any(PartyInteractionCreateDTO.class), eq("pi-1")))
+            .thenReturn(interaction("pi-1", "Segunda via"));
+        doThrow(new DataIntegrityViolationException("pk_pi_idempotency"))
+            .when(idempotencyRepository).insert(eq(KEY), eq("pi-1"), anyString(), any(LocalDateTime.class), anyString());
+
+        CreateInteractionResult loser = service.create(request, KEY, null);
+
+        assertTrue(loser.isReplayed());
+        assertEquals("pi-winner", loser.getInteraction().getId());
+        verify(interactionService, never()).getInteractionById(anyString());
+        assertEquals(1.0, replays("conflict"));
+    }
+
+    @Test
+    void keyReusedWithDifferentBodyIsRejected() throws Exception {
+        when(idempotencyRepository.findById(KEY))
+            .thenReturn(Optional.of(row(request("Segunda via"), "pi-7", "Segunda via")));
+
+        assertThrows(IdempotencyKeyReuseException.class,
+            () -> service.create(request("Cancelamento"), KEY, null));
+
+        verify(interactionService, never()).createInteraction(any(PartyInteractionCreateDTO.class), anyString());
+        assertEquals(1.0, meterRegistry.counter("interaction.idempotency.rejected").count());
+    }
+
+    @Test
+    void keyReusedWithDifferentBodyIsRejectedFromWindow() {
+        when(idempotencyRepository.findById(KEY)).thenReturn(Optional.empty());
+        when(interactionService.createInteraction(any(PartyInteractionCreateDTO.class), eq("pi-1")))
+            .thenReturn(interaction("pi-1", "Segunda via"));
+        service.create(request("Segunda via"), KEY, null);
+
+        assertThrows(IdempotencyKeyReuseException.class,
+            () -> service.create(request("Cancelamento"), KEY, null));
+
+        verify(interactionService, times(1)).createInteraction(any(PartyInteractionCreateDTO.class), anyString());
+    }
+
+    private double replays(String source) {
+        return meterRegistry.counter("interaction.idempotency.replays", "source", source).count();
+    }
+
+    private PartyInteractionIdempotency row(PartyInteractionCreateDTO request, String interactionId, String subject)
+        throws Exception {
+        return PartyInteractionIdempotency.builder()
+            .idempotencyKey(KEY)
+            .interactionId(interactionId)
+            .requestHash(service.requestHash(request))
+            .createdAt(LocalDateTime.now())
+            .response(objectMapper.writeValueAsString(interaction(interactionId, subject)))
+            .build();
+    }
+
+    private static PartyInteractionCreateDTO request(String subject) {
+        PartyInteractionCreateDTO request = new PartyInteractionCreateDTO();
+        request.setSubject(subject);
+        request.setChannel("phone");
+        return request;
+    }
+
+    private static PartyInteractionDTO interaction(String id, String subject) {
+        return PartyInteractionDTO.builder()
+            .id(id)
+            .href("/tmf-api/partyInteractionManagement/v4/partyInteraction/" + id)
+            .subject(subject)
+            .type("PartyInteraction")
+            .build();
+    }
+}